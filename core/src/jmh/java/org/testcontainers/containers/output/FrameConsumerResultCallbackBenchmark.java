@@ -0,0 +1,153 @@
+package org.testcontainers.containers.output;
+
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Compares splitting container output into lines with {@link FrameConsumerResultCallback} against the previous
+ * implementation, which copied, decoded, regex-replaced and re-encoded every line.
+ * <p>
+ * Run with {@code ./gradlew :testcontainers:jmh -Pjmh.includes=FrameConsumerResultCallbackBenchmark} and compare
+ * both the score and, with {@code -prof gc}, the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameConsumerResultCallbackBenchmark {
+
+    private static final int FRAME_SIZE = 8 * 1024;
+
+    @Param({ "false", "true" })
+    public boolean colored;
+
+    private List<Frame> frames;
+
+    @Setup
+    public void setUp() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int i = 0; i < 10_000; i++) {
+            String level = colored ? "\u001B[0;32mINFO\u001B[0m" : "INFO";
+            String line = String.format(
+                "[2024-01-01 00:00:%02d,%03d] %s [Broker id=1] Leader partition topic-%d-0 starts at leader epoch %d\n",
+                i % 60,
+                i % 1000,
+                level,
+                i,
+                i
+            );
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            output.write(bytes, 0, bytes.length);
+        }
+
+        byte[] payload = output.toByteArray();
+        frames = new ArrayList<>();
+        for (int offset = 0; offset < payload.length; offset += FRAME_SIZE) {
+            byte[] chunk = Arrays.copyOfRange(payload, offset, Math.min(payload.length, offset + FRAME_SIZE));
+            frames.add(new Frame(StreamType.STDOUT, chunk));
+        }
+    }
+
+    @Benchmark
+    public void lineFramer(Blackhole blackhole) throws Exception {
+        try (FrameConsumerResultCallback callback = new FrameConsumerResultCallback()) {
+            callback.addConsumer(OutputFrame.OutputType.STDOUT, blackhole::consume);
+            for (Frame frame : frames) {
+                callback.onNext(frame);
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacyLineConsumer(Blackhole blackhole) {
+        LegacyLineConsumer consumer = new LegacyLineConsumer(blackhole::consume);
+        for (Frame frame : frames) {
+            consumer.processFrame(frame.getPayload());
+        }
+        consumer.processBuffer();
+    }
+
+    /**
+     * The line splitting of {@link FrameConsumerResultCallback} before it avoided copies.
+     */
+    private static class LegacyLineConsumer {
+
+        private static final Pattern ANSI_COLOR_PATTERN = Pattern.compile("\u001B\\[[0-9;]+m");
+
+        private final Consumer<OutputFrame> consumer;
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private boolean lastCR = false;
+
+        LegacyLineConsumer(Consumer<OutputFrame> consumer) {
+            this.consumer = consumer;
+        }
+
+        void processFrame(final byte[] b) {
+            int start = 0;
+            int i = 0;
+            while (i < b.length) {
+                switch (b[i]) {
+                    case '\n':
+                        buffer.write(b, start, i + 1 - start);
+                        start = i + 1;
+                        consume();
+                        lastCR = false;
+                        break;
+                    case '\r':
+                        if (lastCR) {
+                            consume();
+                        }
+                        buffer.write(b, start, i + 1 - start);
+                        start = i + 1;
+                        lastCR = true;
+                        break;
+                    default:
+                        if (lastCR) {
+                            consume();
+                        }
+                        lastCR = false;
+                }
+                i++;
+            }
+            buffer.write(b, start, b.length - start);
+        }
+
+        void processBuffer() {
+            if (buffer.size() > 0) {
+                consume();
+            }
+        }
+
+        private void consume() {
+            final String string = new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+            final byte[] bytes = ANSI_COLOR_PATTERN.matcher(string).replaceAll("").getBytes(StandardCharsets.UTF_8);
+            consumer.accept(new OutputFrame(OutputFrame.OutputType.STDOUT, bytes));
+            buffer.reset();
+        }
+    }
+}
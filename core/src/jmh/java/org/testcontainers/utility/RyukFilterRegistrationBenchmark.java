@@ -0,0 +1,131 @@
+package org.testcontainers.utility;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.utility.ResourceReaper.FilterRegistry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes until Ryuk acknowledged a number of filters registered at the same time, e.g. by parallel
+ * tests, when every filter is sent in its own round trip (as before) and when all of them are sent in a single write.
+ * <p>
+ * A local fake Ryuk answers each write after {@code latencyMillis}, with one {@code ACK} per received line, which
+ * models the round trip to a Ryuk container on a remote or virtualized Docker host.
+ * <p>
+ * Run with {@code ./gradlew :testcontainers:jmh -Pjmh.includes=RyukFilterRegistrationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RyukFilterRegistrationBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int filters;
+
+    @Param({ "2" })
+    public int latencyMillis;
+
+    private ServerSocket server;
+
+    private Socket socket;
+
+    private FilterRegistry registry;
+
+    private List<List<Map.Entry<String, String>>> pending;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread ryuk = new Thread(this::acknowledge, "fake-ryuk");
+        ryuk.setDaemon(true);
+        ryuk.start();
+
+        socket = new Socket(server.getInetAddress(), server.getLocalPort());
+        socket.setTcpNoDelay(true);
+        registry = new FilterRegistry(socket.getInputStream(), socket.getOutputStream());
+
+        pending = new ArrayList<>();
+        for (int i = 0; i < filters; i++) {
+            pending.add(Collections.singletonList(new SimpleEntry<>("org.testcontainers.sessionId", "session-" + i)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        socket.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int oneRoundTripPerFilter() throws IOException {
+        int acknowledged = 0;
+        for (List<Map.Entry<String, String>> filter : pending) {
+            if (registry.register(filter)) {
+                acknowledged++;
+            }
+        }
+        return acknowledged;
+    }
+
+    @Benchmark
+    public int singleWriteForAllFilters() throws IOException {
+        return registry.registerAll(pending);
+    }
+
+    private void acknowledge() {
+        try (
+            Socket client = server.accept();
+            BufferedReader in = new BufferedReader(
+                new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8)
+            );
+            OutputStream out = client.getOutputStream()
+        ) {
+            client.setTcpNoDelay(true);
+            while (in.readLine() != null) {
+                // Lines sent in the same write are answered together, after a single round trip
+                int lines = 1;
+                while (in.ready() && in.readLine() != null) {
+                    lines++;
+                }
+                Thread.sleep(latencyMillis);
+
+                StringBuilder acknowledgments = new StringBuilder();
+                for (int i = 0; i < lines; i++) {
+                    acknowledgments.append(FilterRegistry.ACKNOWLEDGMENT).append('\n');
+                }
+                out.write(acknowledgments.toString().getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException | InterruptedException ignored) {
+            // the benchmark closed the connection
+        }
+    }
+}
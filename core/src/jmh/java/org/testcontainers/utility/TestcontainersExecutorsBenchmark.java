@@ -0,0 +1,96 @@
+package org.testcontainers.utility;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates a parallel suite in which many tasks block on the Docker API at the same time, and compares the latency
+ * of platform and virtual threads. The number of platform threads started to run the tasks is reported as the
+ * {@code platformThreadsStarted} secondary result.
+ * <p>
+ * Run with {@code ./gradlew :testcontainers:jmh -Pjmh.includes=TestcontainersExecutorsBenchmark} on JDK 21 or newer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestcontainersExecutorsBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean virtual;
+
+    @Param({ "500" })
+    public int tasks;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private ExecutorService executor;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        executor = TestcontainersExecutors.newExecutor("benchmark", virtual);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Counts the platform threads started during an iteration. Virtual threads are not counted by {@link ThreadMXBean}.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        private long startedThreadsBefore;
+
+        public long platformThreadsStarted;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            startedThreadsBefore = THREADS.getTotalStartedThreadCount();
+            platformThreadsStarted = 0;
+        }
+    }
+
+    @Benchmark
+    public void blockingTasks(Counters counters) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks];
+        for (int i = 0; i < tasks; i++) {
+            futures[i] =
+                CompletableFuture.runAsync(
+                    () -> {
+                        try {
+                            Thread.sleep(10);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    },
+                    executor
+                );
+        }
+        CompletableFuture.allOf(futures).join();
+        counters.platformThreadsStarted = THREADS.getTotalStartedThreadCount() - counters.startedThreadsBefore;
+    }
+}
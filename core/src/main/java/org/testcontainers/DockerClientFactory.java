@@ -20,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.SystemUtils;
 import org.testcontainers.dockerclient.DockerClientProviderStrategy;
+import org.testcontainers.dockerclient.DockerDaemonCache;
 import org.testcontainers.dockerclient.DockerMachineClientProviderStrategy;
 import org.testcontainers.dockerclient.TransportConfig;
 import org.testcontainers.images.RemoteDockerImage;
@@ -284,6 +285,25 @@ public class DockerClientFactory {
     private boolean checkMountableFile() {
         DockerClient dockerClient = client();
 
+        URI dockerHost = getTransportConfig().getDockerHost();
+        Boolean cachedResult = DockerDaemonCache
+            .getInstance()
+            .get(dockerHost)
+            .map(DockerDaemonCache.Entry::getFileMountingSupported)
+            .orElse(null);
+        if (cachedResult != null) {
+            log.debug("Using cached file mounting support of Docker daemon at {}: {}", dockerHost, cachedResult);
+            return cachedResult;
+        }
+
+        boolean fileMountingSupported = doCheckMountableFile(dockerClient);
+        DockerDaemonCache
+            .getInstance()
+            .update(dockerHost, entry -> entry.setFileMountingSupported(fileMountingSupported));
+        return fileMountingSupported;
+    }
+
+    private boolean doCheckMountableFile(DockerClient dockerClient) {
         MountableFile mountableFile = MountableFile.forClasspathResource(
             ResourceReaper.class.getName().replace(".", "/") + ".class"
         );
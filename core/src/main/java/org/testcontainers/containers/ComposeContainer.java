@@ -5,6 +5,7 @@ import com.google.common.annotations.VisibleForTesting;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.SystemUtils;
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.containers.wait.strategy.WaitStrategy;
@@ -40,6 +41,8 @@ public class ComposeContainer implements Startable {
 
     private boolean build = false;
 
+    private boolean nativeCompose = false;
+
     private Set<String> options = new HashSet<>();
 
     private boolean tailChildContainers;
@@ -167,15 +170,26 @@ public class ComposeContainer implements Startable {
                     log.warn("Exception while pulling images, using local images if available", e);
                 }
             }
-            this.composeDelegate.createServices(
-                    this.localCompose,
-                    this.build,
-                    this.options,
-                    this.services,
-                    this.scalingPreferences,
-                    this.env,
-                    this.filesInDirectory
-                );
+            boolean startedNatively =
+                this.nativeCompose &&
+                this.composeDelegate.createServicesNatively(
+                        this.build,
+                        this.options,
+                        this.services,
+                        this.scalingPreferences,
+                        this.env
+                    );
+            if (!startedNatively) {
+                this.composeDelegate.createServices(
+                        this.localCompose,
+                        this.build,
+                        this.options,
+                        this.services,
+                        this.scalingPreferences,
+                        this.env,
+                        this.filesInDirectory
+                    );
+            }
             this.composeDelegate.startAmbassadorContainer();
             this.composeDelegate.waitUntilServiceStarted(this.tailChildContainers);
         }
@@ -197,16 +211,19 @@ public class ComposeContainer implements Startable {
             try {
                 this.composeDelegate.getAmbassadorContainer().stop();
 
-                // Kill the services using docker
-                String cmd = ComposeCommand.getDownCommand(ComposeDelegate.ComposeVersion.V2, this.options);
-
-                if (removeVolumes) {
-                    cmd += " -v";
+                String removeImagesType = removeImages != null ? removeImages.dockerRemoveImagesType() : null;
+                if (!this.composeDelegate.stopNatively(removeVolumes, removeImagesType)) {
+                    // Kill the services using docker
+                    String cmd = ComposeCommand.getDownCommand(ComposeDelegate.ComposeVersion.V2, this.options);
+
+                    if (removeVolumes) {
+                        cmd += " -v";
+                    }
+                    if (removeImages != null) {
+                        cmd += " --rmi " + removeImages.dockerRemoveImagesType();
+                    }
+                    this.composeDelegate.runWithCompose(this.localCompose, cmd, this.env, this.filesInDirectory);
                 }
-                if (removeImages != null) {
-                    cmd += " --rmi " + removeImages.dockerRemoveImagesType();
-                }
-                this.composeDelegate.runWithCompose(this.localCompose, cmd, this.env, this.filesInDirectory);
             } finally {
                 this.composeDelegate.clear();
                 this.project = this.composeDelegate.randomProjectId();
@@ -343,6 +360,21 @@ public class ComposeContainer implements Startable {
         return this;
     }
 
+    /**
+     * Whether to start the services through the Docker API, without the Docker Compose CLI. Services are created as
+     * soon as their dependencies are ready, with images pulled and built in parallel.
+     * <p>
+     * Compose files using features the native engine doesn't support, as well as {@link #withOptions options}, are
+     * started with Docker Compose, as if this was disabled.
+     *
+     * @return this instance, for chaining
+     */
+    @UnstableAPI
+    public ComposeContainer withNativeCompose(boolean nativeCompose) {
+        this.nativeCompose = nativeCompose;
+        return this;
+    }
+
     /**
      * Adds options to the docker command, e.g. docker --compatibility.
      *
@@ -10,18 +10,21 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.rnorth.ducttape.TimeoutException;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.containers.wait.strategy.WaitAllStrategy;
 import org.testcontainers.containers.wait.strategy.WaitStrategy;
+import org.testcontainers.images.ImagePullScheduler;
 import org.testcontainers.images.RemoteDockerImage;
 import org.testcontainers.utility.Base58;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.ImageNameSubstitutor;
 import org.testcontainers.utility.LogUtils;
 import org.testcontainers.utility.ResourceReaper;
+import org.testcontainers.utility.TestcontainersExecutors;
 
 import java.io.File;
 import java.time.Duration;
@@ -29,19 +32,33 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 @Slf4j
 class ComposeDelegate {
 
+    private static final ExecutorService WAIT_EXECUTOR = TestcontainersExecutors.newExecutor(
+        "testcontainers-compose-wait"
+    );
+
     private final ComposeVersion composeVersion;
 
     private final String composeSeparator;
@@ -77,6 +94,8 @@ class ComposeDelegate {
     @Setter
     private Duration startupTimeout = Duration.ofMinutes(30);
 
+    private NativeDockerCompose nativeCompose;
+
     ComposeDelegate(
         ComposeVersion composeVersion,
         List<File> composeFiles,
@@ -99,24 +118,31 @@ class ComposeDelegate {
         // Pull images using our docker client rather than compose itself,
         // (a) as a workaround for https://github.com/docker/compose/issues/5854, which prevents authenticated image pulls being possible when credential helpers are in use
         // (b) so that credential helper-based auth still works when compose is running from within a container
-        this.dockerComposeFiles.getDependencyImages()
-            .forEach(imageName -> {
-                try {
+        CompletableFuture<?>[] pulls =
+            this.dockerComposeFiles.getDependencyImages()
+                .stream()
+                .map(imageName -> {
                     log.info(
                         "Preemptively checking local images for '{}', referenced via a compose file or transitive Dockerfile. If not available, it will be pulled.",
                         imageName
                     );
-                    new RemoteDockerImage(DockerImageName.parse(imageName))
-                        .withImageNameSubstitutor(ImageNameSubstitutor.noop())
-                        .get();
-                } catch (Exception e) {
-                    log.warn(
-                        "Unable to pre-fetch an image ({}) depended upon by Docker Compose build - startup will continue but may fail. Exception message was: {}",
-                        imageName,
-                        e.getMessage()
-                    );
-                }
-            });
+                    return ImagePullScheduler
+                        .getInstance()
+                        .resolveAsync(
+                            new RemoteDockerImage(DockerImageName.parse(imageName))
+                                .withImageNameSubstitutor(ImageNameSubstitutor.noop())
+                        )
+                        .exceptionally(e -> {
+                            log.warn(
+                                "Unable to pre-fetch an image ({}) depended upon by Docker Compose build - startup will continue but may fail. Exception message was: {}",
+                                imageName,
+                                e.getCause() != null ? e.getCause().getMessage() : e.getMessage()
+                            );
+                            return null;
+                        });
+                })
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(pulls).join();
     }
 
     void createServices(
@@ -163,6 +189,66 @@ class ComposeDelegate {
         runWithCompose(localCompose, command, env, fileCopyInclusions);
     }
 
+    /**
+     * Starts the services through the Docker API rather than the Docker Compose CLI.
+     *
+     * @return {@code false} if the compose files use features the native engine doesn't support, in which case
+     * nothing has been started and the services should be started with Docker Compose instead
+     */
+    boolean createServicesNatively(
+        boolean build,
+        final Set<String> options,
+        final List<String> services,
+        final Map<String, Integer> scalingPreferences,
+        Map<String, String> env
+    ) {
+        Preconditions.checkArgument(!composeFiles.isEmpty(), "No docker compose file have been provided");
+
+        NativeDockerCompose compose = new NativeDockerCompose(
+            dockerClient,
+            dockerComposeFiles.getParsedComposeFiles(),
+            project,
+            composeSeparator,
+            env,
+            startupTimeout,
+            ambassadorContainer
+        );
+        List<String> unsupportedFeatures = new ArrayList<>(compose.getUnsupportedFeatures());
+        options.forEach(option -> unsupportedFeatures.add("option '" + option + "'"));
+        if (!unsupportedFeatures.isEmpty()) {
+            log.warn(
+                "Falling back to Docker Compose, the native compose engine doesn't support: {}",
+                unsupportedFeatures
+            );
+            return false;
+        }
+
+        List<String> requestedServices = Stream
+            .concat(services.stream(), scalingPreferences.keySet().stream())
+            .distinct()
+            .collect(Collectors.toList());
+        this.nativeCompose = compose;
+        compose.up(build, requestedServices, scalingPreferences);
+        return true;
+    }
+
+    /**
+     * Removes the services started by {@link #createServicesNatively}.
+     *
+     * @return {@code false} if the services haven't been started natively
+     */
+    boolean stopNatively(boolean removeVolumes, String removeImages) {
+        if (nativeCompose == null) {
+            return false;
+        }
+        try {
+            nativeCompose.down(removeVolumes, removeImages);
+        } finally {
+            nativeCompose = null;
+        }
+        return true;
+    }
+
     void waitUntilServiceStarted(boolean tailChildContainers) {
         listChildContainers().forEach(container -> createServiceInstance(container, tailChildContainers));
 
@@ -181,7 +267,72 @@ class ComposeDelegate {
             );
         }
 
-        serviceInstanceMap.forEach(this::waitUntilServiceStarted);
+        waitUntilServicesStarted();
+    }
+
+    /**
+     * Waits for all services concurrently, within the startup timeout shared by all of them. As soon as one of the
+     * services fails to start, waiting for the others is cancelled.
+     */
+    private void waitUntilServicesStarted() {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + startupTimeout.toNanos();
+
+        CompletionService<String> completionService = new ExecutorCompletionService<>(WAIT_EXECUTOR);
+        Map<String, Future<String>> waits = new LinkedHashMap<>();
+        Map<String, Long> readyAfterNanos = new ConcurrentHashMap<>();
+        serviceInstanceMap.forEach((serviceName, serviceInstance) -> {
+            if (waitStrategyMap.containsKey(serviceName)) {
+                waits.put(
+                    serviceName,
+                    completionService.submit(() -> {
+                        waitUntilServiceStarted(serviceName, serviceInstance);
+                        long readyAfter = System.nanoTime() - startedAt;
+                        readyAfterNanos.put(serviceName, readyAfter);
+                        log.debug("Service {} is ready after {} ms", serviceName, NANOSECONDS.toMillis(readyAfter));
+                        return serviceName;
+                    })
+                );
+            }
+        });
+
+        try {
+            for (int i = 0; i < waits.size(); i++) {
+                Future<String> ready = completionService.poll(deadline - System.nanoTime(), NANOSECONDS);
+                if (ready == null) {
+                    Set<String> pending = new TreeSet<>(Sets.difference(waits.keySet(), readyAfterNanos.keySet()));
+                    throw new TimeoutException(
+                        "Timed out after " + startupTimeout + " waiting for services " + pending + " to start",
+                        null
+                    );
+                }
+                ready.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for services to start", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ContainerLaunchException("Failed to wait for services to start", e.getCause());
+        } finally {
+            waits.values().forEach(wait -> wait.cancel(true));
+            logReadinessTimeline(readyAfterNanos);
+        }
+    }
+
+    private void logReadinessTimeline(Map<String, Long> readyAfterNanos) {
+        if (readyAfterNanos.isEmpty()) {
+            return;
+        }
+        String timeline = readyAfterNanos
+            .entrySet()
+            .stream()
+            .sorted(Map.Entry.comparingByValue())
+            .map(entry -> entry.getKey() + " after " + NANOSECONDS.toMillis(entry.getValue()) + " ms")
+            .collect(Collectors.joining(", "));
+        log.info("Services of project {} are ready: {}", project, timeline);
     }
 
     private void createServiceInstance(Container container, boolean tailChildContainers) {
@@ -0,0 +1,185 @@
+package org.testcontainers.containers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Interpolates variables in compose files, e.g. {@code ${TAG:-latest}}, the way Docker Compose does.
+ */
+@Slf4j
+class ComposeVariables {
+
+    private final Function<String, String> lookup;
+
+    ComposeVariables(Function<String, String> lookup) {
+        this.lookup = lookup;
+    }
+
+    /**
+     * @return the variables of the {@code .env} file in the project directory, if there is one
+     */
+    static Map<String, String> readEnvFile(File envFile) {
+        Map<String, String> variables = new LinkedHashMap<>();
+        if (!envFile.isFile()) {
+            return variables;
+        }
+        try {
+            for (String line : Files.readAllLines(envFile.toPath(), StandardCharsets.UTF_8)) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                if (trimmed.startsWith("export ")) {
+                    trimmed = trimmed.substring("export ".length()).trim();
+                }
+                int separator = trimmed.indexOf('=');
+                if (separator < 0) {
+                    variables.put(trimmed, "");
+                    continue;
+                }
+                String value = trimmed.substring(separator + 1).trim();
+                if (
+                    value.length() >= 2 &&
+                    (value.startsWith("\"") && value.endsWith("\"") || value.startsWith("'") && value.endsWith("'"))
+                ) {
+                    value = value.substring(1, value.length() - 1);
+                }
+                variables.put(trimmed.substring(0, separator).trim(), value);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read env file " + envFile.getAbsolutePath(), e);
+        }
+        return variables;
+    }
+
+    /**
+     * Interpolates all strings of a parsed YAML document.
+     */
+    Object interpolate(Object value) {
+        if (value instanceof String) {
+            return interpolate((String) value);
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> result = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((key, item) -> result.put(key, interpolate(item)));
+            return result;
+        }
+        if (value instanceof List) {
+            List<Object> result = new ArrayList<>();
+            ((List<?>) value).forEach(item -> result.add(interpolate(item)));
+            return result;
+        }
+        return value;
+    }
+
+    String interpolate(String value) {
+        StringBuilder result = new StringBuilder();
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            if (c != '$' || i + 1 >= value.length()) {
+                result.append(c);
+                i++;
+                continue;
+            }
+
+            char next = value.charAt(i + 1);
+            if (next == '$') {
+                result.append('$');
+                i += 2;
+            } else if (next == '{') {
+                int end = findClosingBrace(value, i + 2);
+                result.append(substitute(value.substring(i + 2, end)));
+                i = end + 1;
+            } else if (isNameCharacter(next, true)) {
+                int end = i + 2;
+                while (end < value.length() && isNameCharacter(value.charAt(end), false)) {
+                    end++;
+                }
+                result.append(resolve(value.substring(i + 1, end), ""));
+                i = end;
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    private String substitute(String expression) {
+        int nameEnd = 0;
+        while (nameEnd < expression.length() && isNameCharacter(expression.charAt(nameEnd), nameEnd == 0)) {
+            nameEnd++;
+        }
+        String name = expression.substring(0, nameEnd);
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Invalid interpolation format: ${" + expression + "}");
+        }
+        if (nameEnd == expression.length()) {
+            return resolve(name, "");
+        }
+
+        String operator = expression.substring(nameEnd);
+        boolean emptyIsUnset = operator.startsWith(":");
+        if (emptyIsUnset) {
+            operator = operator.substring(1);
+        }
+        if (operator.isEmpty()) {
+            throw new IllegalArgumentException("Invalid interpolation format: ${" + expression + "}");
+        }
+
+        String argument = operator.substring(1);
+        String variable = lookup.apply(name);
+        boolean set = variable != null && !(emptyIsUnset && variable.isEmpty());
+        switch (operator.charAt(0)) {
+            case '-':
+                return set ? variable : interpolate(argument);
+            case '+':
+                return set ? interpolate(argument) : "";
+            case '?':
+                if (!set) {
+                    throw new IllegalArgumentException(
+                        "Required variable " + name + " is missing a value: " + interpolate(argument)
+                    );
+                }
+                return variable;
+            default:
+                throw new IllegalArgumentException("Invalid interpolation format: ${" + expression + "}");
+        }
+    }
+
+    private String resolve(String name, String defaultValue) {
+        String variable = lookup.apply(name);
+        if (variable == null) {
+            log.warn("The {} variable is not set. Defaulting to a blank string.", name);
+            return defaultValue;
+        }
+        return variable;
+    }
+
+    private static int findClosingBrace(String value, int start) {
+        int depth = 1;
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Invalid interpolation format: " + value);
+    }
+
+    private static boolean isNameCharacter(char c, boolean first) {
+        return c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (!first && c >= '0' && c <= '9');
+    }
+}
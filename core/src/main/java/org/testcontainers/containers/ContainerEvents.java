@@ -0,0 +1,328 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventType;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.utility.TestcontainersExecutors;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A single subscription to the container and image events of the Docker daemon, shared by all containers of this JVM.
+ * <p>
+ * Startup checks and wait strategies use it to react to state transitions, such as a container dying, as soon as they
+ * happen, instead of inspecting the container over and over. If the event stream is unavailable, they fall back to
+ * inspecting the container, and the stream is subscribed again in the background.
+ */
+@UnstableAPI
+@Slf4j
+public final class ContainerEvents {
+
+    private static final ContainerEvents INSTANCE = new ContainerEvents();
+
+    private static final ExecutorService EXECUTOR = TestcontainersExecutors.newExecutor("testcontainers-events");
+
+    /**
+     * How long to wait before subscribing again after the event stream failed
+     */
+    private static final long RESUBSCRIBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final Set<Listener> listeners = new CopyOnWriteArraySet<>();
+
+    private final Set<Listener> imageListeners = new CopyOnWriteArraySet<>();
+
+    /**
+     * Whether containers are running, for the containers whose start or death happened while subscribed
+     */
+    private final Map<String, Boolean> running = new ConcurrentHashMap<>();
+
+    private volatile boolean tracking = false;
+
+    /**
+     * Incremented by every subscription, so that listeners can tell whether they missed events in between
+     */
+    private volatile long subscription = 0;
+
+    private volatile boolean subscribed = false;
+
+    private volatile long lastSubscriptionAttempt;
+
+    private final AtomicBoolean resubscribing = new AtomicBoolean(false);
+
+    private Closeable eventStream;
+
+    private ContainerEvents() {}
+
+    /**
+     * @return the shared instance, subscribed to the events of the Docker daemon
+     */
+    public static ContainerEvents getInstance() {
+        INSTANCE.ensureSubscribed();
+        return INSTANCE;
+    }
+
+    /**
+     * @return whether the event stream is live, i.e. whether state transitions are reported as they happen
+     */
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * @return the number of times the event stream was subscribed; events may have been missed whenever it changes
+     */
+    public long getSubscription() {
+        return subscription;
+    }
+
+    /**
+     * Registers a listener for the events of all containers, e.g. {@code start}, {@code die}, {@code oom} or
+     * {@code health_status: healthy}.
+     *
+     * @return a handle to remove the listener
+     */
+    public Closeable addListener(Listener listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Registers a listener for the events of all images, i.e. {@code pull}, {@code tag}, {@code untag},
+     * {@code import}, {@code load} and {@code delete}, called with the ID or name of the image.
+     *
+     * @return a handle to remove the listener
+     */
+    public Closeable addImageListener(Listener listener) {
+        imageListeners.add(listener);
+        return () -> imageListeners.remove(listener);
+    }
+
+    /**
+     * Creates a signal that is raised by every event of the given container. Create it before checking the state of the
+     * container, so that no transition between the check and waiting for the signal is missed.
+     */
+    public Signal signal(String containerId) {
+        return new Signal(containerId);
+    }
+
+    /**
+     * @return whether the container is running, from the events of the container if possible, otherwise by
+     * inspecting it
+     */
+    public boolean isRunning(ContainerState container) {
+        Boolean knownState = tracking ? running.get(container.getContainerId()) : null;
+        return knownState != null ? knownState : container.isRunning();
+    }
+
+    private void ensureSubscribed() {
+        if (tracking) {
+            return;
+        }
+        if (!subscribed) {
+            // The first subscription is synchronous, so that the first callers already get the events
+            synchronized (this) {
+                if (!subscribed) {
+                    subscribe();
+                    subscribed = true;
+                }
+            }
+            return;
+        }
+        if (
+            System.nanoTime() - lastSubscriptionAttempt >= RESUBSCRIBE_INTERVAL_NANOS &&
+            resubscribing.compareAndSet(false, true)
+        ) {
+            EXECUTOR.execute(() -> {
+                try {
+                    subscribe();
+                } finally {
+                    resubscribing.set(false);
+                }
+            });
+        }
+    }
+
+    private synchronized void subscribe() {
+        lastSubscriptionAttempt = System.nanoTime();
+        tracking = false;
+        // Late callbacks of the previous stream must not affect the new one
+        long current = ++subscription;
+        if (eventStream != null) {
+            try {
+                eventStream.close();
+            } catch (IOException e) {
+                log.debug("Failed to close the previous Docker event stream", e);
+            }
+        }
+        // Events may have been missed while not subscribed
+        running.clear();
+
+        try {
+            ResultCallback.Adapter<Event> callback = DockerClientFactory
+                .instance()
+                .client()
+                .eventsCmd()
+                .withEventTypeFilter(EventType.CONTAINER, EventType.IMAGE)
+                .withEventFilter(
+                    "start",
+                    "restart",
+                    "unpause",
+                    "pause",
+                    "die",
+                    "oom",
+                    "destroy",
+                    "health_status",
+                    "pull",
+                    "tag",
+                    "untag",
+                    "import",
+                    "load",
+                    "delete"
+                )
+                .exec(
+                    new ResultCallback.Adapter<Event>() {
+                        @Override
+                        public void onNext(Event event) {
+                            if (event.getType() == EventType.IMAGE) {
+                                onImageEvent(event);
+                            } else {
+                                onContainerEvent(event);
+                            }
+                        }
+
+                        @Override
+                        public void onError(Throwable throwable) {
+                            if (subscription == current) {
+                                tracking = false;
+                            }
+                            log.debug("Docker event stream failed, falling back to inspecting containers", throwable);
+                            super.onError(throwable);
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            if (subscription == current) {
+                                tracking = false;
+                            }
+                            super.onComplete();
+                        }
+                    }
+                );
+            eventStream = callback;
+            tracking = callback.awaitStarted(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.debug("Failed to subscribe to Docker events, falling back to inspecting containers", e);
+        }
+    }
+
+    private void onContainerEvent(Event event) {
+        String action = event.getAction() != null ? event.getAction() : event.getStatus();
+        String containerId = event.getId();
+        if (action == null || containerId == null) {
+            return;
+        }
+
+        log.trace("Container event {} for {}", action, containerId);
+        switch (action) {
+            case "start":
+            case "restart":
+            case "unpause":
+                running.put(containerId, true);
+                break;
+            case "die":
+                running.put(containerId, false);
+                break;
+            case "destroy":
+                running.remove(containerId);
+                break;
+            default:
+                break;
+        }
+
+        notify(listeners, containerId, action);
+    }
+
+    private void onImageEvent(Event event) {
+        String action = event.getAction() != null ? event.getAction() : event.getStatus();
+        String imageId = event.getId();
+        if (action == null || imageId == null) {
+            return;
+        }
+
+        log.trace("Image event {} for {}", action, imageId);
+        notify(imageListeners, imageId, action);
+    }
+
+    private static void notify(Set<Listener> listeners, String id, String action) {
+        for (Listener listener : listeners) {
+            try {
+                listener.onEvent(id, action);
+            } catch (RuntimeException e) {
+                log.debug("Event listener failed on {} for {}", action, id, e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+        void onEvent(String containerId, String action);
+    }
+
+    /**
+     * Raised by the events of a single container.
+     */
+    public final class Signal implements AutoCloseable {
+
+        private final Semaphore events = new Semaphore(0);
+
+        private final Closeable registration;
+
+        private Signal(String containerId) {
+            registration =
+                addListener((eventContainerId, action) -> {
+                    if (eventContainerId.equals(containerId)) {
+                        events.release();
+                    }
+                });
+        }
+
+        /**
+         * Waits until an event of the container happened since the previous call, or the timeout elapses. Without a
+         * live event stream, this simply waits for the timeout.
+         *
+         * @return whether an event happened
+         */
+        public boolean await(@Nullable Duration timeout) throws InterruptedException {
+            long timeoutNanos = timeout != null ? timeout.toNanos() : 0;
+            boolean raised = events.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+            events.drainPermits();
+            return raised;
+        }
+
+        @Override
+        public void close() {
+            try {
+                registration.close();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -9,11 +9,11 @@ import com.github.dockerjava.api.model.PortBinding;
 import com.github.dockerjava.api.model.Ports;
 import com.google.common.base.Preconditions;
 import lombok.SneakyThrows;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.utils.IOUtils;
 import org.apache.commons.lang3.math.NumberUtils;
-import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.output.OutputFrame;
@@ -22,7 +22,6 @@ import org.testcontainers.utility.LogUtils;
 import org.testcontainers.utility.MountableFile;
 import org.testcontainers.utility.ThrowingFunction;
 
-import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -30,10 +29,14 @@ import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public interface ContainerState {
@@ -319,17 +322,10 @@ public interface ContainerState {
      * @param containerPath destination path inside the container
      */
     default void copyFileToContainer(MountableFile mountableFile, String containerPath) {
-        File sourceFile = new File(mountableFile.getResolvedPath());
-
-        if (containerPath.endsWith("/") && sourceFile.isFile()) {
-            final Logger logger = LoggerFactory.getLogger(GenericContainer.class);
-            logger.warn(
-                "folder-like containerPath in copyFileToContainer is deprecated, please explicitly specify a file path"
-            );
-            copyFileToContainer((Transferable) mountableFile, containerPath + sourceFile.getName());
-        } else {
-            copyFileToContainer((Transferable) mountableFile, containerPath);
-        }
+        copyFileToContainer(
+            (Transferable) mountableFile,
+            GenericContainer.resolveCopyPath(mountableFile, containerPath)
+        );
     }
 
     /**
@@ -339,28 +335,59 @@ public interface ContainerState {
      * @param transferable file which is copied into the container
      * @param containerPath destination path inside the container
      */
-    @SneakyThrows({ IOException.class, InterruptedException.class })
     default void copyFileToContainer(Transferable transferable, String containerPath) {
         if (getContainerId() == null) {
             throw new IllegalStateException("copyFileToContainer can only be used with created / running container");
         }
 
+        copyFilesToContainer(Collections.singletonMap(containerPath, transferable));
+    }
+
+    /**
+     * Copies multiple files to the container using a single tar archive and a single Docker API call.
+     * <p>
+     * The files registered with {@link GenericContainer#withCopyFileToContainer(MountableFile, String)} and
+     * {@link GenericContainer#withCopyToContainer(Transferable, String)} are copied with this method, as are the files
+     * copied with {@code copyFileToContainer}. Containers that need to intercept copies override this method.
+     *
+     * @param transferables destination paths inside the container, mapped to the files which are copied to them
+     */
+    @SneakyThrows({ IOException.class, InterruptedException.class })
+    default void copyFilesToContainer(Map<String, Transferable> transferables) {
+        if (getContainerId() == null) {
+            throw new IllegalStateException("copyFilesToContainer can only be used with created / running container");
+        }
+
+        if (transferables.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger entries = new AtomicInteger();
         try (
             PipedOutputStream pipedOutputStream = new PipedOutputStream();
             PipedInputStream pipedInputStream = new PipedInputStream(pipedOutputStream);
-            TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(pipedOutputStream)
+            TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(pipedOutputStream) {
+                @Override
+                public void putArchiveEntry(TarArchiveEntry archiveEntry) throws IOException {
+                    super.putArchiveEntry(archiveEntry);
+                    entries.incrementAndGet();
+                }
+            }
         ) {
             Thread thread = new Thread(() -> {
                 try {
                     tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
                     tarArchive.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
 
-                    transferable.transferTo(tarArchive, containerPath);
+                    transferables.forEach((containerPath, transferable) -> {
+                        transferable.transferTo(tarArchive, containerPath);
+                    });
                 } finally {
                     IOUtils.closeQuietly(tarArchive);
                 }
             });
 
+            Instant startedAt = Instant.now();
             thread.start();
 
             getDockerClient()
@@ -370,6 +397,17 @@ public interface ContainerState {
                 .exec();
 
             thread.join();
+
+            LoggerFactory
+                .getLogger(GenericContainer.class)
+                .debug(
+                    "Copied {} file(s) as {} tar entries ({} bytes) to container {} in {}",
+                    transferables.size(),
+                    entries.get(),
+                    tarArchive.getBytesWritten(),
+                    getContainerId(),
+                    Duration.between(startedAt, Instant.now())
+                );
         }
     }
 
@@ -5,6 +5,7 @@ import com.google.common.annotations.VisibleForTesting;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.SystemUtils;
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.containers.wait.strategy.WaitStrategy;
@@ -39,6 +40,8 @@ public class DockerComposeContainer<SELF extends DockerComposeContainer<SELF>> i
 
     private boolean build = false;
 
+    private boolean nativeCompose = false;
+
     private Set<String> options = new HashSet<>();
 
     private boolean tailChildContainers;
@@ -180,15 +183,26 @@ public class DockerComposeContainer<SELF extends DockerComposeContainer<SELF>> i
                     log.warn("Exception while pulling images, using local images if available", e);
                 }
             }
-            this.composeDelegate.createServices(
-                    this.localCompose,
-                    this.build,
-                    this.options,
-                    this.services,
-                    this.scalingPreferences,
-                    this.env,
-                    this.filesInDirectory
-                );
+            boolean startedNatively =
+                this.nativeCompose &&
+                this.composeDelegate.createServicesNatively(
+                        this.build,
+                        this.options,
+                        this.services,
+                        this.scalingPreferences,
+                        this.env
+                    );
+            if (!startedNatively) {
+                this.composeDelegate.createServices(
+                        this.localCompose,
+                        this.build,
+                        this.options,
+                        this.services,
+                        this.scalingPreferences,
+                        this.env,
+                        this.filesInDirectory
+                    );
+            }
             this.composeDelegate.startAmbassadorContainer();
             this.composeDelegate.waitUntilServiceStarted(this.tailChildContainers);
         }
@@ -210,16 +224,19 @@ public class DockerComposeContainer<SELF extends DockerComposeContainer<SELF>> i
             try {
                 this.composeDelegate.getAmbassadorContainer().stop();
 
-                // Kill the services using docker-compose
-                String cmd = ComposeCommand.getDownCommand(ComposeDelegate.ComposeVersion.V1, this.options);
-
-                if (removeVolumes) {
-                    cmd += " -v";
+                String removeImagesType = removeImages != null ? removeImages.dockerRemoveImagesType() : null;
+                if (!this.composeDelegate.stopNatively(removeVolumes, removeImagesType)) {
+                    // Kill the services using docker-compose
+                    String cmd = ComposeCommand.getDownCommand(ComposeDelegate.ComposeVersion.V1, this.options);
+
+                    if (removeVolumes) {
+                        cmd += " -v";
+                    }
+                    if (removeImages != null) {
+                        cmd += " --rmi " + removeImages.dockerRemoveImagesType();
+                    }
+                    this.composeDelegate.runWithCompose(this.localCompose, cmd, this.env, this.filesInDirectory);
                 }
-                if (removeImages != null) {
-                    cmd += " --rmi " + removeImages.dockerRemoveImagesType();
-                }
-                this.composeDelegate.runWithCompose(this.localCompose, cmd, this.env, this.filesInDirectory);
             } finally {
                 this.composeDelegate.clear();
                 this.project = this.composeDelegate.randomProjectId();
@@ -352,6 +369,21 @@ public class DockerComposeContainer<SELF extends DockerComposeContainer<SELF>> i
         return self();
     }
 
+    /**
+     * Whether to start the services through the Docker API, without the Docker Compose CLI. Services are created as
+     * soon as their dependencies are ready, with images pulled and built in parallel.
+     * <p>
+     * Compose files using features the native engine doesn't support, as well as {@link #withOptions options}, are
+     * started with Docker Compose, as if this was disabled.
+     *
+     * @return this instance, for chaining
+     */
+    @UnstableAPI
+    public SELF withNativeCompose(boolean nativeCompose) {
+        this.nativeCompose = nativeCompose;
+        return self();
+    }
+
     /**
      * Adds options to the docker-compose command, e.g. docker-compose --compatibility.
      *
@@ -18,6 +18,10 @@ public class DockerComposeFiles {
         this.parsedComposeFiles = composeFiles.stream().map(ParsedDockerComposeFile::new).collect(Collectors.toList());
     }
 
+    List<ParsedDockerComposeFile> getParsedComposeFiles() {
+        return parsedComposeFiles;
+    }
+
     public Set<String> getDependencyImages() {
         Map<String, Set<String>> mergedServiceNameToImageNames = mergeServiceDependencyImageNames();
 
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.CreateContainerCmd;
 import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.command.InspectImageResponse;
 import com.github.dockerjava.api.exception.NotFoundException;
 import com.github.dockerjava.api.model.Bind;
 import com.github.dockerjava.api.model.ContainerNetwork;
@@ -34,6 +35,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.rnorth.ducttape.unreliables.Unreliables;
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.output.OutputFrame;
@@ -50,12 +52,15 @@ import org.testcontainers.images.RemoteDockerImage;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.lifecycle.Startable;
 import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.AsyncContainerRemover;
 import org.testcontainers.utility.Base58;
 import org.testcontainers.utility.CommandLine;
+import org.testcontainers.utility.DigestChecksum;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.DockerLoggerFactory;
 import org.testcontainers.utility.DockerMachineClient;
 import org.testcontainers.utility.DynamicPollInterval;
+import org.testcontainers.utility.FileDigestCache;
 import org.testcontainers.utility.MountableFile;
 import org.testcontainers.utility.PathUtils;
 import org.testcontainers.utility.ResourceReaper;
@@ -84,6 +89,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -92,7 +98,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.Adler32;
 import java.util.zip.Checksum;
 
 import static org.awaitility.Awaitility.await;
@@ -112,6 +117,8 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
     static final String COPIED_FILES_HASH_LABEL = "org.testcontainers.copied_files.hash";
 
+    static final String CHECKPOINT_REPOSITORY = "testcontainers/checkpoint";
+
     /*
      * Default settings
      */
@@ -192,6 +199,17 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     @Setter(AccessLevel.NONE)
     private boolean shouldBeReused = false;
 
+    @Setter(AccessLevel.NONE)
+    private boolean checkpoint = false;
+
+    /**
+     * Whether the container was started from its checkpoint image, i.e. whether its expensive initialization already
+     * happened
+     */
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private boolean startedFromCheckpoint = false;
+
     private boolean hostAccessible = false;
 
     private final Set<CreateContainerCmdModifier> createContainerCmdModifiers = loadCreateContainerCmdCustomizers();
@@ -366,6 +384,7 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     }
 
     private void tryStart() {
+        ReuseCoordinator.Lock reuseLock = null;
         try {
             String dockerImageName = getDockerImageName();
             logger().debug("Starting container: {}", dockerImageName);
@@ -387,17 +406,22 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
                 if (TestcontainersConfiguration.getInstance().environmentSupportsReuse()) {
                     createCommand
                         .getLabels()
-                        .put(COPIED_FILES_HASH_LABEL, Long.toHexString(hashCopiedFiles().getValue()));
+                        .put(COPIED_FILES_HASH_LABEL, hashCopiedFiles().getHexDigest());
 
                     String hash = hash(createCommand);
 
+                    // Held until the container is started, so that concurrent starts reuse the same container
+                    reuseLock = ReuseCoordinator.acquire(hash);
+
                     containerId = findContainerForReuse(hash).orElse(null);
 
                     if (containerId != null) {
                         logger().info("Reusing container with ID: {} and hash: {}", containerId, hash);
+                        ReuseCoordinator.recordHit();
                         reused = true;
                     } else {
                         logger().debug("Can't find a reusable running container with hash: {}", hash);
+                        ReuseCoordinator.recordMiss();
 
                         createCommand.getLabels().put(HASH_LABEL, hash);
                     }
@@ -416,6 +440,28 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
                 reusable = false;
             }
 
+            String checkpointImage = null;
+            startedFromCheckpoint = false;
+            if (checkpoint && !reused) {
+                InspectImageResponse image = dockerClient.inspectImageCmd(createCommand.getImage()).exec();
+                Set<String> stateVolumes = getCheckpointStateVolumes(imageVolumes(image));
+                if (!stateVolumes.isEmpty()) {
+                    logger()
+                        .warn(
+                            "Not using a checkpoint image: the container keeps its state in the volumes {}, " +
+                            "which Docker does not commit",
+                            stateVolumes
+                        );
+                } else {
+                    checkpointImage = checkpointImageName(createCommand, image.getId());
+                    if (imageExists(checkpointImage)) {
+                        logger().info("Starting from checkpoint image {}", checkpointImage);
+                        createCommand.withImage(checkpointImage);
+                        startedFromCheckpoint = true;
+                    }
+                }
+            }
+
             if (!reusable) {
                 //noinspection deprecation
                 createCommand = ResourceReaper.instance().register(this, createCommand);
@@ -424,10 +470,7 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             if (!reused) {
                 containerId = createCommand.exec().getId();
 
-                // TODO use single "copy" invocation (and calculate an hash of the resulting tar archive)
-                copyToFileContainerPathMap.forEach(this::copyFileToContainer);
-
-                copyToTransferableContainerPathMap.forEach(this::copyFileToContainer);
+                copyRegisteredFilesToContainer();
             }
 
             connectToPortForwardingNetwork(createCommand.getNetworkMode());
@@ -436,11 +479,17 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
                 containerIsCreated(containerId);
 
                 logger().info("Container {} is starting: {}", dockerImageName, containerId);
+                // Subscribe to container events before the start, so that its state transitions are tracked
+                ContainerEvents.getInstance();
                 dockerClient.startContainerCmd(containerId).exec();
             } else {
                 logger().info("Reusing existing container ({}) and not creating a new one", containerId);
             }
 
+            if (reuseLock != null) {
+                reuseLock.close();
+            }
+
             // For all registered output consumers, start following as close to container startup as possible
             this.logConsumers.forEach(this::followOutput);
 
@@ -448,6 +497,7 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             containerInfo =
                 await()
                     .atMost(5, TimeUnit.SECONDS)
+                    .pollDelay(Duration.ZERO)
                     .pollInterval(DynamicPollInterval.ofMillis(50))
                     .pollInSameThread()
                     .until(
@@ -527,6 +577,15 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
             logger().info("Container {} started in {}", dockerImageName, Duration.between(startedAt, Instant.now()));
             containerIsStarted(containerInfo, reused);
+
+            if (checkpointImage != null && !startedFromCheckpoint) {
+                try {
+                    commitToImage(checkpointImage);
+                    logger().info("Created checkpoint image {}", checkpointImage);
+                } catch (Exception e) {
+                    logger().warn("Failed to create checkpoint image {}", checkpointImage, e);
+                }
+            }
         } catch (Exception e) {
             if (e instanceof UndeclaredThrowableException && e.getCause() instanceof Exception) {
                 e = (Exception) e.getCause();
@@ -549,12 +608,48 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             }
 
             throw new ContainerLaunchException("Could not create/start container", e);
+        } finally {
+            if (reuseLock != null) {
+                reuseLock.close();
+            }
+        }
+    }
+
+    /**
+     * Copies the files registered via {@link #withCopyFileToContainer(MountableFile, String)} and
+     * {@link #withCopyToContainer(Transferable, String)} as a single archive, with
+     * {@link #copyFilesToContainer(Map)}.
+     */
+    private void copyRegisteredFilesToContainer() {
+        Map<String, Transferable> transferables = new LinkedHashMap<>();
+        copyToFileContainerPathMap.forEach((mountableFile, containerPath) -> {
+            transferables.put(resolveCopyPath(mountableFile, containerPath), mountableFile);
+        });
+        copyToTransferableContainerPathMap.forEach((transferable, containerPath) -> {
+            transferables.put(containerPath, transferable);
+        });
+        copyFilesToContainer(transferables);
+    }
+
+    /**
+     * @return the path of the file in the container, supporting the deprecated folder-like paths for single files
+     */
+    static String resolveCopyPath(MountableFile mountableFile, String containerPath) {
+        File sourceFile = new File(mountableFile.getResolvedPath());
+        if (containerPath.endsWith("/") && sourceFile.isFile()) {
+            LoggerFactory
+                .getLogger(GenericContainer.class)
+                .warn(
+                    "folder-like containerPath in copyFileToContainer is deprecated, please explicitly specify a file path"
+                );
+            return containerPath + sourceFile.getName();
         }
+        return containerPath;
     }
 
     @VisibleForTesting
-    Checksum hashCopiedFiles() {
-        Checksum checksum = new Adler32();
+    DigestChecksum hashCopiedFiles() {
+        DigestChecksum checksum = new DigestChecksum();
         Stream
             .of(copyToFileContainerPathMap, copyToTransferableContainerPathMap)
             .flatMap(it -> it.entrySet().stream())
@@ -566,6 +661,7 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
                 entry.getKey().updateChecksum(checksum);
             });
+        FileDigestCache.getInstance().flush();
         return checksum;
     }
 
@@ -585,9 +681,103 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         return Hashing.sha1().hashBytes(commandJson).toString();
     }
 
+    /**
+     * @return the name of the checkpoint image of the container, identified by its image, its configuration, the files
+     * copied to it and {@link #updateCheckpointChecksum(Checksum)}
+     */
+    @VisibleForTesting
+    String checkpointImageName(CreateContainerCmd createCommand, String imageId) {
+        DigestChecksum checksum = new DigestChecksum();
+        Stream
+            .of(imageId, checkpointHash(createCommand), hashCopiedFiles().getHexDigest())
+            .map(String::getBytes)
+            .forEach(bytes -> checksum.update(bytes, 0, bytes.length));
+        updateCheckpointChecksum(checksum);
+        return CHECKPOINT_REPOSITORY + ":" + checksum.getHexDigest();
+    }
+
+    /**
+     * @return the hash of the configuration of the container, without its network, which is usually created anew for
+     * every session, so that its ID and the random network alias would prevent the checkpoint from ever being used
+     */
+    private String checkpointHash(CreateContainerCmd createCommand) {
+        if (getNetwork() == null) {
+            return hash(createCommand);
+        }
+        HostConfig hostConfig = createCommand.getHostConfig();
+        String networkMode = hostConfig != null ? hostConfig.getNetworkMode() : null;
+        List<String> aliases = createCommand.getAliases();
+        try {
+            if (hostConfig != null) {
+                hostConfig.withNetworkMode(null);
+            }
+            createCommand.withAliases((List<String>) null);
+            return hash(createCommand);
+        } finally {
+            if (hostConfig != null) {
+                hostConfig.withNetworkMode(networkMode);
+            }
+            createCommand.withAliases(aliases);
+        }
+    }
+
+    private static Set<String> imageVolumes(InspectImageResponse image) {
+        if (image.getConfig() == null || image.getConfig().getVolumes() == null) {
+            return Collections.emptySet();
+        }
+        return new TreeSet<>(image.getConfig().getVolumes().keySet());
+    }
+
+    /**
+     * Returns the volumes of the image that hold state of the container. Docker does not commit volumes, so containers
+     * with such volumes don't use checkpoint images. By default, every volume of the image is assumed to hold state;
+     * modules that move their state out of the volumes of their image return fewer.
+     *
+     * @param imageVolumes the volumes declared by the image
+     * @return the volumes holding state
+     * @see #withCheckpoint(boolean)
+     */
+    @UnstableAPI
+    protected Set<String> getCheckpointStateVolumes(Set<String> imageVolumes) {
+        return imageVolumes;
+    }
+
+    /**
+     * Adds what the state of the container depends on, besides its image, its configuration and the files copied to
+     * it, to the checksum identifying its checkpoint image, e.g. the contents of the init scripts run once it started.
+     *
+     * @param checksum the checksum to update
+     * @see #withCheckpoint(boolean)
+     */
+    @UnstableAPI
+    protected void updateCheckpointChecksum(Checksum checksum) {}
+
+    private boolean imageExists(String imageName) {
+        return !dockerClient.listImagesCmd().withReferenceFilter(imageName).exec().isEmpty();
+    }
+
+    /**
+     * Commits the current file system changes in the container into a new image, unless it already exists.
+     * The image is not removed at the end of the session.
+     *
+     * @param imageName the name of the new image
+     */
+    public void commitToImage(String imageName) {
+        DockerImageName dockerImageName = DockerImageName.parse(imageName);
+        if (dockerImageName.equals(DockerImageName.parse(getDockerImageName())) || imageExists(imageName)) {
+            return;
+        }
+        dockerClient
+            .commitCmd(getContainerId())
+            .withRepository(dockerImageName.getUnversionedPart())
+            .withTag(dockerImageName.getVersionPart())
+            // Otherwise, the image would inherit the session label of the container and be removed with it
+            .withLabels(Collections.singletonMap(DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL, ""))
+            .exec();
+    }
+
     @VisibleForTesting
     Optional<String> findContainerForReuse(String hash) {
-        // TODO locking
         return dockerClient
             .listContainersCmd()
             .withLabelFilter(ImmutableMap.of(HASH_LABEL, hash))
@@ -632,6 +822,9 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
     /**
      * Kill and remove the container.
+     * <p>
+     * With {@code teardown.async} enabled, the container is removed in the background and this method returns as soon
+     * as the removal is scheduled.
      */
     @Override
     public void stop() {
@@ -649,7 +842,11 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             }
 
             containerIsStopping(containerInfo);
-            ResourceReaper.instance().stopAndRemoveContainer(containerId, imageName);
+            if (TestcontainersConfiguration.getInstance().isTeardownAsync()) {
+                AsyncContainerRemover.getInstance().remove(containerId, imageName);
+            } else {
+                ResourceReaper.instance().stopAndRemoveContainer(containerId, imageName);
+            }
             containerIsStopped(containerInfo);
         } finally {
             containerId = null;
@@ -701,6 +898,11 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     @SuppressWarnings({ "EmptyMethod", "UnusedParameters" })
     protected void containerIsStarting(InspectContainerResponse containerInfo) {}
 
+    /**
+     * @param reused whether an already started container was reused; {@link #isStartedFromCheckpoint()} tells whether
+     * a new container was started from its checkpoint image, i.e. whether setup stored in its file system already
+     * happened
+     */
     @SuppressWarnings({ "EmptyMethod", "UnusedParameters" })
     @UnstableAPI
     protected void containerIsStarting(InspectContainerResponse containerInfo, boolean reused) {
@@ -710,6 +912,11 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     @SuppressWarnings({ "EmptyMethod", "UnusedParameters" })
     protected void containerIsStarted(InspectContainerResponse containerInfo) {}
 
+    /**
+     * @param reused whether an already started container was reused; {@link #isStartedFromCheckpoint()} tells whether
+     * a new container was started from its checkpoint image, i.e. whether setup stored in its file system already
+     * happened
+     */
     @SuppressWarnings({ "EmptyMethod", "UnusedParameters" })
     @UnstableAPI
     protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
@@ -1426,6 +1633,22 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         return self();
     }
 
+    /**
+     * Starts the container from a checkpoint image, if one exists, and otherwise commits the container into its
+     * checkpoint image once started, so that expensive initialization, such as init scripts, only happens once per
+     * Docker host.
+     * <p>
+     * The checkpoint image is identified by the image, the configuration and the files copied to the container, so
+     * any change to them leads to a new checkpoint. Data written to volumes, including volumes declared by the image,
+     * is not part of the checkpoint. Checkpoint images are kept across sessions, in the
+     * {@code testcontainers/checkpoint} repository.
+     */
+    @UnstableAPI
+    public SELF withCheckpoint(boolean checkpoint) {
+        this.checkpoint = checkpoint;
+        return self();
+    }
+
     /**
      * Forces access to the tests host machine.
      * Use this method if you need to call {@link org.testcontainers.Testcontainers#exposeHostPorts(int...)}
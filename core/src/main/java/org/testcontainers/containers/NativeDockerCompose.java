@@ -0,0 +1,1266 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.CreateContainerCmd;
+import com.github.dockerjava.api.command.CreateNetworkCmd;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.AccessMode;
+import com.github.dockerjava.api.model.Bind;
+import com.github.dockerjava.api.model.Capability;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.ContainerNetwork;
+import com.github.dockerjava.api.model.ExposedPort;
+import com.github.dockerjava.api.model.HealthCheck;
+import com.github.dockerjava.api.model.HostConfig;
+import com.github.dockerjava.api.model.InternetProtocol;
+import com.github.dockerjava.api.model.PortBinding;
+import com.github.dockerjava.api.model.Ports;
+import com.github.dockerjava.api.model.RestartPolicy;
+import com.github.dockerjava.api.model.SELContext;
+import com.github.dockerjava.api.model.Volume;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import lombok.extern.slf4j.Slf4j;
+import org.rnorth.ducttape.TimeoutException;
+import org.rnorth.ducttape.unreliables.Unreliables;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.ImagePullScheduler;
+import org.testcontainers.images.RemoteDockerImage;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.ImageNameSubstitutor;
+import org.testcontainers.utility.TestcontainersExecutors;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs compose files through the Docker API, without the Docker Compose CLI.
+ * <p>
+ * Networks, volumes and containers are created with the labels and names Docker Compose would use, so that the rest of
+ * Testcontainers, e.g. the ambassador container and Ryuk, handle them the same way. Services are started as soon as the
+ * services they depend on are ready, independent services in parallel.
+ * <p>
+ * Only the commonly used part of the compose specification is supported, see {@link #getUnsupportedFeatures()}.
+ */
+@Slf4j
+class NativeDockerCompose {
+
+    private static final String PROJECT_LABEL = "com.docker.compose.project";
+
+    private static final String SERVICE_LABEL = "com.docker.compose.service";
+
+    private static final String CONTAINER_NUMBER_LABEL = "com.docker.compose.container-number";
+
+    private static final String ONEOFF_LABEL = "com.docker.compose.oneoff";
+
+    private static final String NETWORK_LABEL = "com.docker.compose.network";
+
+    private static final String VOLUME_LABEL = "com.docker.compose.volume";
+
+    private static final String DEFAULT_NETWORK = "default";
+
+    private static final Set<String> SUPPORTED_TOP_LEVEL_KEYS = ImmutableSet.of(
+        "version",
+        "name",
+        "services",
+        "networks",
+        "volumes"
+    );
+
+    private static final Set<String> SUPPORTED_SERVICE_KEYS = ImmutableSet.of(
+        "image",
+        "build",
+        "command",
+        "entrypoint",
+        "environment",
+        "env_file",
+        "ports",
+        "expose",
+        "volumes",
+        "tmpfs",
+        "networks",
+        "network_mode",
+        "depends_on",
+        "labels",
+        "healthcheck",
+        "restart",
+        "hostname",
+        "domainname",
+        "user",
+        "working_dir",
+        "privileged",
+        "init",
+        "extra_hosts",
+        "cap_add",
+        "cap_drop",
+        "shm_size",
+        "stop_signal",
+        "stop_grace_period",
+        "scale",
+        "profiles"
+    );
+
+    private static final Set<String> SUPPORTED_BUILD_KEYS = ImmutableSet.of("context", "dockerfile", "args", "target");
+
+    private static final Set<String> SUPPORTED_NETWORK_KEYS = ImmutableSet.of(
+        "name",
+        "driver",
+        "driver_opts",
+        "external",
+        "internal",
+        "attachable",
+        "labels"
+    );
+
+    private static final Set<String> SUPPORTED_VOLUME_KEYS = ImmutableSet.of(
+        "name",
+        "driver",
+        "driver_opts",
+        "external",
+        "labels"
+    );
+
+    /**
+     * Keys whose lists are concatenated, rather than replaced, when several compose files define the same service
+     */
+    private static final Set<String> MERGED_LIST_KEYS = ImmutableSet.of(
+        "ports",
+        "expose",
+        "volumes",
+        "tmpfs",
+        "env_file",
+        "extra_hosts",
+        "cap_add",
+        "cap_drop"
+    );
+
+    private static final Pattern DURATION_PATTERN = Pattern.compile("(\\d+(?:\\.\\d+)?)(h|ms|m|s|us|ns)");
+
+    private static final Pattern SIZE_PATTERN = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*([kmgt]?)b?");
+
+    private static final Pattern WINDOWS_PATH_PATTERN = Pattern.compile("^[A-Za-z]:[\\\\/].*");
+
+    private static final ExecutorService EXECUTOR = TestcontainersExecutors.newExecutor("testcontainers-compose");
+
+    private final DockerClient dockerClient;
+
+    private final String project;
+
+    private final String separator;
+
+    private final File projectDirectory;
+
+    private final Duration startupTimeout;
+
+    private final GenericContainer<?> ambassadorContainer;
+
+    private final Function<String, String> variables;
+
+    private final Map<String, Map<String, Object>> services = new LinkedHashMap<>();
+
+    private final Map<String, Map<String, Object>> networks = new LinkedHashMap<>();
+
+    private final Map<String, Map<String, Object>> volumes = new LinkedHashMap<>();
+
+    private final List<String> unsupportedFeatures = new ArrayList<>();
+
+    /**
+     * Compose network and volume keys to the names of the Docker networks and volumes
+     */
+    private final Map<String, String> networkNames = new HashMap<>();
+
+    private final Map<String, String> volumeNames = new HashMap<>();
+
+    NativeDockerCompose(
+        DockerClient dockerClient,
+        List<ParsedDockerComposeFile> composeFiles,
+        String project,
+        String separator,
+        Map<String, String> env,
+        Duration startupTimeout,
+        GenericContainer<?> ambassadorContainer
+    ) {
+        this.dockerClient = dockerClient;
+        this.project = project;
+        this.separator = separator;
+        this.startupTimeout = startupTimeout;
+        this.ambassadorContainer = ambassadorContainer;
+        this.projectDirectory = composeFiles.get(0).getComposeFile().getAbsoluteFile().getParentFile();
+
+        // Like the Docker Compose CLI, variables of the process environment take precedence over the .env file
+        Map<String, String> envFile = ComposeVariables.readEnvFile(new File(projectDirectory, ".env"));
+        this.variables =
+            name -> {
+                if (env.containsKey(name)) {
+                    return env.get(name);
+                }
+                String value = System.getenv(name);
+                return value != null ? value : envFile.get(name);
+            };
+
+        ComposeVariables interpolation = new ComposeVariables(variables);
+        for (ParsedDockerComposeFile composeFile : composeFiles) {
+            Map<String, Object> content = map(interpolation.interpolate(composeFile.getComposeFileContent()));
+            load(content);
+        }
+        validate();
+    }
+
+    /**
+     * @return the parts of the compose files this engine does not support, so that Docker Compose has to be used
+     */
+    List<String> getUnsupportedFeatures() {
+        return Collections.unmodifiableList(unsupportedFeatures);
+    }
+
+    /**
+     * Creates and starts the services.
+     *
+     * @param build whether to build images even if they exist already
+     * @param requestedServices the services to start, all services if empty
+     * @param scalingPreferences the number of instances of scaled services
+     */
+    void up(boolean build, Collection<String> requestedServices, Map<String, Integer> scalingPreferences) {
+        Set<String> selectedServices = selectServices(requestedServices);
+        List<String> startOrder = sortByDependencies(selectedServices);
+
+        createNetworks(selectedServices);
+        createVolumes(selectedServices);
+
+        Map<String, CompletableFuture<String>> images = new HashMap<>();
+        for (String service : selectedServices) {
+            images.put(service, resolveImage(service, build));
+        }
+
+        // Every service starts as soon as its image is available and its dependencies reached their condition
+        Map<String, CompletableFuture<List<String>>> startedServices = new HashMap<>();
+        for (String service : startOrder) {
+            List<CompletableFuture<?>> dependencies = new ArrayList<>();
+            dependencies.add(images.get(service));
+            map(services.get(service).get("depends_on"))
+                .forEach((dependency, definition) -> {
+                    if (startedServices.containsKey(dependency)) {
+                        String condition = string(map(definition).get("condition"));
+                        dependencies.add(
+                            dependencyCondition(dependency, condition, startedServices.get(dependency))
+                        );
+                    }
+                });
+
+            int instances = scalingPreferences.getOrDefault(
+                service,
+                Integer.parseInt(string(services.get(service).getOrDefault("scale", 1)))
+            );
+            startedServices.put(
+                service,
+                CompletableFuture
+                    .allOf(dependencies.toArray(new CompletableFuture[0]))
+                    .thenApplyAsync(__ -> startService(service, images.get(service).join(), instances), EXECUTOR)
+            );
+        }
+
+        try {
+            CompletableFuture.allOf(startedServices.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ContainerLaunchException("Could not start compose services", e.getCause());
+        }
+    }
+
+    /**
+     * Stops and removes the containers and networks of the project.
+     *
+     * @param removeVolumes whether to remove named and anonymous volumes
+     * @param removeImages {@code all}, {@code local} or {@code null}, like the {@code --rmi} option of Docker Compose
+     */
+    void down(boolean removeVolumes, String removeImages) {
+        List<Container> containers = dockerClient
+            .listContainersCmd()
+            .withShowAll(true)
+            .withLabelFilter(Collections.singletonMap(PROJECT_LABEL, project))
+            .exec();
+
+        CompletableFuture<?>[] removals = containers
+            .stream()
+            .map(container ->
+                CompletableFuture.runAsync(() -> removeContainer(container, removeVolumes), EXECUTOR)
+            )
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(removals).join();
+
+        dockerClient
+            .listNetworksCmd()
+            .withFilter("label", Collections.singletonList(PROJECT_LABEL + "=" + project))
+            .exec()
+            .forEach(network -> ignoreErrors(() -> dockerClient.removeNetworkCmd(network.getId()).exec()));
+
+        if (removeVolumes) {
+            dockerClient
+                .listVolumesCmd()
+                .withFilter("label", Collections.singletonList(PROJECT_LABEL + "=" + project))
+                .exec()
+                .getVolumes()
+                .forEach(volume -> ignoreErrors(() -> dockerClient.removeVolumeCmd(volume.getName()).exec()));
+        }
+
+        if (removeImages != null) {
+            Set<String> images = new LinkedHashSet<>();
+            services.forEach((service, definition) -> {
+                boolean built = definition.containsKey("build") && !definition.containsKey("image");
+                if (built || "all".equals(removeImages)) {
+                    images.add(imageName(service));
+                }
+            });
+            images.forEach(image -> ignoreErrors(() -> dockerClient.removeImageCmd(image).exec()));
+        }
+    }
+
+    private void load(Map<String, Object> content) {
+        Map<String, Object> serviceDefinitions;
+        if (content.containsKey("services")) {
+            content
+                .keySet()
+                .stream()
+                .filter(key -> !SUPPORTED_TOP_LEVEL_KEYS.contains(key) && !key.startsWith("x-"))
+                .forEach(key -> unsupportedFeatures.add("top-level '" + key + "'"));
+            serviceDefinitions = map(content.get("services"));
+        } else {
+            // Version 1 compose files consist of services only
+            serviceDefinitions = content;
+        }
+
+        serviceDefinitions.forEach((service, definition) -> {
+            Map<String, Object> normalized = normalizeService(map(definition));
+            services.merge(service, normalized, NativeDockerCompose::merge);
+        });
+        map(content.get("networks"))
+            .forEach((network, definition) -> networks.merge(network, map(definition), NativeDockerCompose::merge));
+        map(content.get("volumes"))
+            .forEach((volume, definition) -> volumes.merge(volume, map(definition), NativeDockerCompose::merge));
+    }
+
+    private void validate() {
+        services.forEach((service, definition) -> {
+            definition
+                .keySet()
+                .stream()
+                .filter(key -> !SUPPORTED_SERVICE_KEYS.contains(key) && !key.startsWith("x-"))
+                .forEach(key -> unsupportedFeatures.add("service '" + service + "': '" + key + "'"));
+            map(definition.get("build"))
+                .keySet()
+                .stream()
+                .filter(key -> !SUPPORTED_BUILD_KEYS.contains(key))
+                .forEach(key -> unsupportedFeatures.add("service '" + service + "': 'build." + key + "'"));
+        });
+        networks.forEach((network, definition) -> {
+            definition
+                .keySet()
+                .stream()
+                .filter(key -> !SUPPORTED_NETWORK_KEYS.contains(key))
+                .forEach(key -> unsupportedFeatures.add("network '" + network + "': '" + key + "'"));
+        });
+        volumes.forEach((volume, definition) -> {
+            definition
+                .keySet()
+                .stream()
+                .filter(key -> !SUPPORTED_VOLUME_KEYS.contains(key))
+                .forEach(key -> unsupportedFeatures.add("volume '" + volume + "': '" + key + "'"));
+        });
+    }
+
+    /**
+     * Converts the alternative forms of service properties to a single one, so that they can be merged.
+     */
+    private static Map<String, Object> normalizeService(Map<String, Object> definition) {
+        Map<String, Object> normalized = new LinkedHashMap<>(definition);
+        for (String key : Arrays.asList("environment", "labels")) {
+            if (normalized.get(key) instanceof List) {
+                normalized.put(key, keyValues(normalized.get(key)));
+            }
+        }
+
+        Object build = normalized.get("build");
+        if (build instanceof String) {
+            normalized.put("build", new LinkedHashMap<>(Collections.singletonMap("context", build)));
+        } else if (build instanceof Map) {
+            Map<String, Object> buildDefinition = new LinkedHashMap<>(map(build));
+            if (buildDefinition.get("args") instanceof List) {
+                buildDefinition.put("args", keyValues(buildDefinition.get("args")));
+            }
+            normalized.put("build", buildDefinition);
+        }
+
+        for (String key : Arrays.asList("depends_on", "networks")) {
+            if (normalized.get(key) instanceof List) {
+                Map<String, Object> values = new LinkedHashMap<>();
+                strings(normalized.get(key)).forEach(value -> values.put(value, null));
+                normalized.put(key, values);
+            }
+        }
+        return normalized;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> merge(Map<String, Object> base, Map<String, Object> override) {
+        Map<String, Object> merged = new LinkedHashMap<>(base);
+        override.forEach((key, value) -> {
+            Object baseValue = merged.get(key);
+            if (baseValue instanceof Map && value instanceof Map) {
+                merged.put(key, merge((Map<String, Object>) baseValue, (Map<String, Object>) value));
+            } else if (baseValue instanceof List && value instanceof List && MERGED_LIST_KEYS.contains(key)) {
+                Set<Object> values = new LinkedHashSet<>((List<Object>) baseValue);
+                values.addAll((List<Object>) value);
+                merged.put(key, new ArrayList<>(values));
+            } else {
+                merged.put(key, value);
+            }
+        });
+        return merged;
+    }
+
+    private Set<String> selectServices(Collection<String> requestedServices) {
+        Set<String> activeProfiles = new HashSet<>();
+        String profiles = variables.apply("COMPOSE_PROFILES");
+        if (profiles != null) {
+            activeProfiles.addAll(Arrays.asList(profiles.split(",")));
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+        if (requestedServices.isEmpty()) {
+            services.forEach((service, definition) -> {
+                List<String> serviceProfiles = strings(definition.get("profiles"));
+                if (serviceProfiles.isEmpty() || serviceProfiles.stream().anyMatch(activeProfiles::contains)) {
+                    selected.add(service);
+                }
+            });
+        } else {
+            selected.addAll(requestedServices);
+        }
+
+        // Services are started together with the services they depend on
+        List<String> pending = new ArrayList<>(selected);
+        while (!pending.isEmpty()) {
+            String service = pending.remove(pending.size() - 1);
+            Map<String, Object> definition = services.get(service);
+            if (definition == null) {
+                throw new IllegalArgumentException("No such service: " + service);
+            }
+            map(definition.get("depends_on"))
+                .forEach((dependency, dependencyDefinition) -> {
+                    Object required = map(dependencyDefinition).get("required");
+                    if (services.containsKey(dependency) || !"false".equals(string(required))) {
+                        if (selected.add(dependency)) {
+                            pending.add(dependency);
+                        }
+                    }
+                });
+        }
+        return selected;
+    }
+
+    @VisibleForTesting
+    List<String> sortByDependencies(Set<String> selectedServices) {
+        List<String> sorted = new ArrayList<>();
+        Set<String> visiting = new HashSet<>();
+        for (String service : selectedServices) {
+            visit(service, selectedServices, visiting, sorted);
+        }
+        return sorted;
+    }
+
+    private void visit(String service, Set<String> selectedServices, Set<String> visiting, List<String> sorted) {
+        if (sorted.contains(service) || !selectedServices.contains(service)) {
+            return;
+        }
+        if (!visiting.add(service)) {
+            throw new IllegalStateException("Circular dependency between services, including '" + service + "'");
+        }
+        for (String dependency : map(services.get(service).get("depends_on")).keySet()) {
+            visit(dependency, selectedServices, visiting, sorted);
+        }
+        visiting.remove(service);
+        sorted.add(service);
+    }
+
+    private void createNetworks(Set<String> selectedServices) {
+        Set<String> usedNetworks = new LinkedHashSet<>();
+        for (String service : selectedServices) {
+            Map<String, Object> definition = services.get(service);
+            if (!definition.containsKey("network_mode")) {
+                usedNetworks.addAll(serviceNetworks(definition));
+            }
+        }
+
+        for (String network : usedNetworks) {
+            Map<String, Object> definition = networks.get(network);
+            if (definition == null && !DEFAULT_NETWORK.equals(network)) {
+                throw new IllegalArgumentException("Service refers to undefined network " + network);
+            }
+            definition = definition != null ? definition : Collections.emptyMap();
+
+            if (isTrue(definition.get("external"))) {
+                networkNames.put(network, string(definition.getOrDefault("name", network)));
+                continue;
+            }
+
+            String name = string(definition.getOrDefault("name", project + "_" + network));
+            Map<String, String> labels = new HashMap<>(stringMap(definition.get("labels")));
+            labels.put(PROJECT_LABEL, project);
+            labels.put(NETWORK_LABEL, network);
+            labels.putAll(DockerClientFactory.DEFAULT_LABELS);
+
+            CreateNetworkCmd createNetworkCmd = dockerClient
+                .createNetworkCmd()
+                .withName(name)
+                .withLabels(labels)
+                .withOptions(stringMap(definition.get("driver_opts")));
+            if (definition.containsKey("driver")) {
+                createNetworkCmd.withDriver(string(definition.get("driver")));
+            }
+            if (definition.containsKey("internal")) {
+                createNetworkCmd.withInternal(isTrue(definition.get("internal")));
+            }
+            if (definition.containsKey("attachable")) {
+                createNetworkCmd.withAttachable(isTrue(definition.get("attachable")));
+            }
+            createNetworkCmd.exec();
+            networkNames.put(network, name);
+        }
+    }
+
+    private void createVolumes(Set<String> selectedServices) {
+        Set<String> usedVolumes = new LinkedHashSet<>();
+        for (String service : selectedServices) {
+            for (Object volume : list(services.get(service).get("volumes"))) {
+                String source = volumeSource(volume);
+                if (source != null && !isPath(source)) {
+                    usedVolumes.add(source);
+                }
+            }
+        }
+
+        for (String volume : usedVolumes) {
+            if (!volumes.containsKey(volume)) {
+                throw new IllegalArgumentException("Service refers to undefined volume " + volume);
+            }
+            Map<String, Object> definition = volumes.get(volume);
+
+            if (isTrue(definition.get("external"))) {
+                volumeNames.put(volume, string(definition.getOrDefault("name", volume)));
+                continue;
+            }
+
+            String name = string(definition.getOrDefault("name", project + "_" + volume));
+            Map<String, String> labels = new HashMap<>(stringMap(definition.get("labels")));
+            labels.put(PROJECT_LABEL, project);
+            labels.put(VOLUME_LABEL, volume);
+            labels.putAll(DockerClientFactory.DEFAULT_LABELS);
+
+            dockerClient
+                .createVolumeCmd()
+                .withName(name)
+                .withDriver(string(definition.get("driver")))
+                .withDriverOpts(stringMap(definition.get("driver_opts")))
+                .withLabels(labels)
+                .exec();
+            volumeNames.put(volume, name);
+        }
+    }
+
+    private CompletableFuture<String> resolveImage(String service, boolean build) {
+        Map<String, Object> definition = services.get(service);
+        if (definition.containsKey("build")) {
+            String imageName = imageName(service);
+            return CompletableFuture.supplyAsync(
+                () -> {
+                    if (!build && imageExists(imageName)) {
+                        return imageName;
+                    }
+                    return buildImage(imageName, map(definition.get("build")));
+                },
+                EXECUTOR
+            );
+        }
+
+        String image = string(definition.get("image"));
+        if (image == null) {
+            throw new IllegalArgumentException("Service " + service + " has neither an image nor a build context");
+        }
+        // Like Docker Compose, the image names of compose files are used as they are
+        RemoteDockerImage remoteImage = new RemoteDockerImage(DockerImageName.parse(image))
+            .withImageNameSubstitutor(ImageNameSubstitutor.noop());
+        return ImagePullScheduler.getInstance().resolveAsync(remoteImage);
+    }
+
+    private String imageName(String service) {
+        Map<String, Object> definition = services.get(service);
+        if (definition.containsKey("image")) {
+            return string(definition.get("image"));
+        }
+        return project + separator + service;
+    }
+
+    private String buildImage(String imageName, Map<String, Object> build) {
+        Path context = projectDirectory.toPath().resolve(string(build.getOrDefault("context", "."))).normalize();
+        Map<String, String> buildArgs = new HashMap<>();
+        map(build.get("args"))
+            .forEach((key, value) -> {
+                String resolved = value != null ? string(value) : variables.apply(key);
+                if (resolved != null) {
+                    buildArgs.put(key, resolved);
+                }
+            });
+
+        // The Dockerfile is set relative to the context: withDockerfile(Path) would send its directory as context
+        Path dockerfile = context.resolve(string(build.getOrDefault("dockerfile", "Dockerfile"))).normalize();
+        if (!dockerfile.startsWith(context)) {
+            throw new IllegalArgumentException(
+                "Dockerfile " + dockerfile + " is outside of the build context " + context
+            );
+        }
+        String dockerfilePath = StreamSupport
+            .stream(context.relativize(dockerfile).spliterator(), false)
+            .map(Path::toString)
+            .collect(Collectors.joining("/"));
+
+        ImageFromDockerfile image = new ImageFromDockerfile(imageName, false)
+            .withFileFromPath(".", context)
+            .withDockerfilePath(dockerfilePath)
+            .withBuildArgs(buildArgs);
+        if (build.containsKey("target")) {
+            image.withTarget(string(build.get("target")));
+        }
+        return image.get();
+    }
+
+    private boolean imageExists(String imageName) {
+        try {
+            dockerClient.inspectImageCmd(imageName).exec();
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    private CompletableFuture<?> dependencyCondition(
+        String dependency,
+        String condition,
+        CompletableFuture<List<String>> started
+    ) {
+        if (condition == null || "service_started".equals(condition)) {
+            return started;
+        }
+        if ("service_healthy".equals(condition)) {
+            return started.thenAcceptAsync(containerIds -> containerIds.forEach(this::waitUntilHealthy), EXECUTOR);
+        }
+        if ("service_completed_successfully".equals(condition)) {
+            return started.thenAcceptAsync(
+                containerIds -> containerIds.forEach(id -> waitUntilCompleted(dependency, id)),
+                EXECUTOR
+            );
+        }
+        throw new IllegalArgumentException("Unsupported condition " + condition + " on service " + dependency);
+    }
+
+    private List<String> startService(String service, String image, int instances) {
+        List<String> containerIds = new ArrayList<>();
+        for (int number = 1; number <= instances; number++) {
+            String containerId = createContainer(service, image, number);
+            dockerClient.startContainerCmd(containerId).exec();
+            containerIds.add(containerId);
+        }
+        log.debug("Started {} instance(s) of service {}", instances, service);
+        return containerIds;
+    }
+
+    private String createContainer(String service, String image, int number) {
+        Map<String, Object> definition = services.get(service);
+
+        Map<String, String> labels = new HashMap<>(stringMap(definition.get("labels")));
+        labels.put(PROJECT_LABEL, project);
+        labels.put(SERVICE_LABEL, service);
+        labels.put(CONTAINER_NUMBER_LABEL, Integer.toString(number));
+        labels.put(ONEOFF_LABEL, "False");
+        labels.putAll(DockerClientFactory.DEFAULT_LABELS);
+
+        CreateContainerCmd createContainerCmd = dockerClient
+            .createContainerCmd(image)
+            .withName(project + separator + service + separator + number)
+            .withLabels(labels)
+            .withEnv(environment(definition));
+
+        if (definition.containsKey("command")) {
+            createContainerCmd.withCmd(commandLine(definition.get("command")));
+        }
+        if (definition.containsKey("entrypoint")) {
+            createContainerCmd.withEntrypoint(commandLine(definition.get("entrypoint")));
+        }
+        if (definition.containsKey("hostname")) {
+            createContainerCmd.withHostName(string(definition.get("hostname")));
+        }
+        if (definition.containsKey("domainname")) {
+            createContainerCmd.withDomainName(string(definition.get("domainname")));
+        }
+        if (definition.containsKey("user")) {
+            createContainerCmd.withUser(string(definition.get("user")));
+        }
+        if (definition.containsKey("working_dir")) {
+            createContainerCmd.withWorkingDir(string(definition.get("working_dir")));
+        }
+        if (definition.containsKey("stop_signal")) {
+            createContainerCmd.withStopSignal(string(definition.get("stop_signal")));
+        }
+        if (definition.containsKey("healthcheck")) {
+            createContainerCmd.withHealthcheck(healthCheck(map(definition.get("healthcheck"))));
+        }
+
+        HostConfig hostConfig = HostConfig.newHostConfig();
+
+        List<PortBinding> portBindings = new ArrayList<>();
+        list(definition.get("ports")).forEach(port -> portBindings.addAll(portBindings(port)));
+        Set<ExposedPort> exposedPorts = portBindings
+            .stream()
+            .map(PortBinding::getExposedPort)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String port : strings(definition.get("expose"))) {
+            portBindings(port).forEach(binding -> exposedPorts.add(binding.getExposedPort()));
+        }
+        createContainerCmd.withExposedPorts(new ArrayList<>(exposedPorts));
+        hostConfig.withPortBindings(new Ports(portBindings.toArray(new PortBinding[0])));
+
+        List<Bind> binds = new ArrayList<>();
+        List<Volume> anonymousVolumes = new ArrayList<>();
+        Map<String, String> tmpfs = new LinkedHashMap<>();
+        for (String mount : strings(definition.get("tmpfs"))) {
+            int separatorIndex = mount.indexOf(':');
+            tmpfs.put(
+                separatorIndex < 0 ? mount : mount.substring(0, separatorIndex),
+                separatorIndex < 0 ? "" : mount.substring(separatorIndex + 1)
+            );
+        }
+        for (Object volume : list(definition.get("volumes"))) {
+            addVolume(volume, binds, anonymousVolumes, tmpfs);
+        }
+        createContainerCmd.withVolumes(anonymousVolumes);
+        hostConfig.withBinds(binds);
+        if (!tmpfs.isEmpty()) {
+            hostConfig.withTmpFs(tmpfs);
+        }
+
+        if (definition.containsKey("restart")) {
+            hostConfig.withRestartPolicy(RestartPolicy.parse(string(definition.get("restart"))));
+        }
+        if (definition.containsKey("privileged")) {
+            hostConfig.withPrivileged(isTrue(definition.get("privileged")));
+        }
+        if (definition.containsKey("init")) {
+            hostConfig.withInit(isTrue(definition.get("init")));
+        }
+        if (definition.containsKey("shm_size")) {
+            hostConfig.withShmSize(parseSize(string(definition.get("shm_size"))));
+        }
+        hostConfig.withExtraHosts(extraHosts(definition.get("extra_hosts")).toArray(new String[0]));
+        hostConfig.withCapAdd(capabilities(definition.get("cap_add")));
+        hostConfig.withCapDrop(capabilities(definition.get("cap_drop")));
+
+        List<String> serviceNetworks = Collections.emptyList();
+        if (definition.containsKey("network_mode")) {
+            hostConfig.withNetworkMode(networkMode(string(definition.get("network_mode"))));
+        } else {
+            serviceNetworks = serviceNetworks(definition);
+            String primaryNetwork = serviceNetworks.get(0);
+            hostConfig.withNetworkMode(networkNames.get(primaryNetwork));
+            createContainerCmd.withAliases(aliases(service, definition, primaryNetwork));
+        }
+        createContainerCmd.withHostConfig(hostConfig);
+
+        String containerId = createContainerCmd.exec().getId();
+        for (String network : serviceNetworks.subList(Math.min(1, serviceNetworks.size()), serviceNetworks.size())) {
+            dockerClient
+                .connectToNetworkCmd()
+                .withNetworkId(networkNames.get(network))
+                .withContainerId(containerId)
+                .withContainerNetwork(new ContainerNetwork().withAliases(aliases(service, definition, network)))
+                .exec();
+        }
+        return containerId;
+    }
+
+    private List<String> environment(Map<String, Object> definition) {
+        Map<String, String> environment = new LinkedHashMap<>();
+        for (String envFile : strings(definition.get("env_file"))) {
+            File file = projectDirectory.toPath().resolve(envFile).toFile();
+            if (!file.isFile()) {
+                throw new IllegalArgumentException("Couldn't find env file " + file.getAbsolutePath());
+            }
+            environment.putAll(ComposeVariables.readEnvFile(file));
+        }
+        map(definition.get("environment"))
+            .forEach((key, value) -> {
+                // Variables without a value are passed through from the environment of Docker Compose
+                String resolved = value != null ? string(value) : variables.apply(key);
+                if (resolved != null) {
+                    environment.put(key, resolved);
+                } else {
+                    environment.remove(key);
+                }
+            });
+        return environment
+            .entrySet()
+            .stream()
+            .map(entry -> entry.getKey() + "=" + entry.getValue())
+            .collect(Collectors.toList());
+    }
+
+    private void addVolume(Object volume, List<Bind> binds, List<Volume> anonymousVolumes, Map<String, String> tmpfs) {
+        String source;
+        String target;
+        String mode = "";
+        if (volume instanceof Map) {
+            Map<String, Object> definition = map(volume);
+            source = string(definition.get("source"));
+            target = string(definition.get("target"));
+            if ("tmpfs".equals(string(definition.get("type")))) {
+                tmpfs.put(target, "");
+                return;
+            }
+            if (isTrue(definition.get("read_only"))) {
+                mode = "ro";
+            }
+            if ("bind".equals(string(definition.get("type"))) && source != null && !isPath(source)) {
+                source = "./" + source;
+            }
+        } else {
+            List<String> parts = splitVolume(string(volume));
+            if (parts.size() == 1) {
+                source = null;
+                target = parts.get(0);
+            } else {
+                source = parts.get(0);
+                target = parts.get(1);
+                mode = parts.size() > 2 ? parts.get(2) : "";
+            }
+        }
+
+        if (source == null) {
+            anonymousVolumes.add(new Volume(target));
+            return;
+        }
+
+        List<String> options = Arrays.asList(mode.split(","));
+        AccessMode accessMode = options.contains("ro") ? AccessMode.ro : AccessMode.rw;
+        SELContext selContext = options.contains("Z")
+            ? SELContext.single
+            : options.contains("z") ? SELContext.shared : SELContext.none;
+        String path = isPath(source) ? resolvePath(source) : volumeNames.get(source);
+        binds.add(new Bind(path, new Volume(target), accessMode, selContext));
+    }
+
+    private static String volumeSource(Object volume) {
+        if (volume instanceof Map) {
+            Map<String, Object> definition = map(volume);
+            return "volume".equals(string(definition.get("type"))) ? string(definition.get("source")) : null;
+        }
+        List<String> parts = splitVolume(string(volume));
+        return parts.size() > 1 ? parts.get(0) : null;
+    }
+
+    /**
+     * Splits the short syntax of a volume, {@code [source:]target[:mode]}, taking Windows paths into account.
+     */
+    @VisibleForTesting
+    static List<String> splitVolume(String volume) {
+        int offset = WINDOWS_PATH_PATTERN.matcher(volume).matches() ? 2 : 0;
+        List<String> parts = new ArrayList<>(Arrays.asList(volume.substring(offset).split(":")));
+        parts.set(0, volume.substring(0, offset) + parts.get(0));
+        return parts;
+    }
+
+    private static boolean isPath(String source) {
+        return (
+            source.startsWith(".") ||
+            source.startsWith("~") ||
+            source.contains("/") ||
+            source.contains("\\") ||
+            WINDOWS_PATH_PATTERN.matcher(source).matches()
+        );
+    }
+
+    private String resolvePath(String path) {
+        if (path.equals("~") || path.startsWith("~/")) {
+            return System.getProperty("user.home") + path.substring(1);
+        }
+        return projectDirectory.toPath().resolve(path).normalize().toAbsolutePath().toString();
+    }
+
+    /**
+     * Parses the short ({@code [[ip:]host:]container[/protocol]}) or long syntax of a port, including port ranges.
+     */
+    @VisibleForTesting
+    static List<PortBinding> portBindings(Object port) {
+        String hostIp = null;
+        String hostPorts = null;
+        String containerPorts;
+        String protocol = "tcp";
+        if (port instanceof Map) {
+            Map<String, Object> definition = map(port);
+            hostIp = string(definition.get("host_ip"));
+            hostPorts = string(definition.get("published"));
+            containerPorts = string(definition.get("target"));
+            protocol = string(definition.getOrDefault("protocol", protocol));
+        } else {
+            String spec = string(port);
+            int protocolIndex = spec.lastIndexOf('/');
+            if (protocolIndex >= 0) {
+                protocol = spec.substring(protocolIndex + 1);
+                spec = spec.substring(0, protocolIndex);
+            }
+            int containerIndex = spec.lastIndexOf(':');
+            containerPorts = spec.substring(containerIndex + 1);
+            if (containerIndex >= 0) {
+                String host = spec.substring(0, containerIndex);
+                int hostIndex = host.lastIndexOf(':');
+                hostPorts = host.substring(hostIndex + 1);
+                hostIp = hostIndex >= 0 ? host.substring(0, hostIndex).replaceAll("^\\[|]$", "") : null;
+            }
+        }
+
+        List<Integer> containerRange = portRange(containerPorts);
+        List<Integer> hostRange = hostPorts == null || hostPorts.isEmpty() ? null : portRange(hostPorts);
+        if (hostRange != null && hostRange.size() != containerRange.size() && hostRange.size() > 1) {
+            throw new IllegalArgumentException("Port ranges don't match in length: " + port);
+        }
+
+        InternetProtocol internetProtocol = InternetProtocol.parse(protocol);
+        List<PortBinding> bindings = new ArrayList<>();
+        for (int i = 0; i < containerRange.size(); i++) {
+            String hostPort = null;
+            if (hostRange != null) {
+                // A single host port for a range of container ports means any of them, let Docker pick one
+                hostPort = hostRange.size() > 1 ? Integer.toString(hostRange.get(i)) : hostPorts;
+            }
+            bindings.add(
+                new PortBinding(
+                    new Ports.Binding(hostIp == null || hostIp.isEmpty() ? null : hostIp, hostPort),
+                    new ExposedPort(containerRange.get(i), internetProtocol)
+                )
+            );
+        }
+        return bindings;
+    }
+
+    private static List<Integer> portRange(String ports) {
+        int separatorIndex = ports.indexOf('-');
+        if (separatorIndex < 0) {
+            return Collections.singletonList(Integer.parseInt(ports.trim()));
+        }
+        int start = Integer.parseInt(ports.substring(0, separatorIndex).trim());
+        int end = Integer.parseInt(ports.substring(separatorIndex + 1).trim());
+        List<Integer> range = new ArrayList<>();
+        for (int port = start; port <= end; port++) {
+            range.add(port);
+        }
+        return range;
+    }
+
+    private static List<String> serviceNetworks(Map<String, Object> definition) {
+        List<String> serviceNetworks = new ArrayList<>(map(definition.get("networks")).keySet());
+        return serviceNetworks.isEmpty() ? Collections.singletonList(DEFAULT_NETWORK) : serviceNetworks;
+    }
+
+    private static List<String> aliases(String service, Map<String, Object> definition, String network) {
+        List<String> aliases = new ArrayList<>();
+        aliases.add(service);
+        aliases.addAll(strings(map(map(definition.get("networks")).get(network)).get("aliases")));
+        return aliases;
+    }
+
+    private String networkMode(String networkMode) {
+        if (networkMode.startsWith("service:")) {
+            return "container:" + project + separator + networkMode.substring("service:".length()) + separator + 1;
+        }
+        return networkMode;
+    }
+
+    private static List<String> extraHosts(Object extraHosts) {
+        if (extraHosts instanceof Map) {
+            return map(extraHosts)
+                .entrySet()
+                .stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.toList());
+        }
+        // "host=ip" is accepted by Docker Compose as well
+        return strings(extraHosts).stream().map(host -> host.replaceFirst("=", ":")).collect(Collectors.toList());
+    }
+
+    private static Capability[] capabilities(Object capabilities) {
+        return strings(capabilities)
+            .stream()
+            .map(capability -> Capability.valueOf(capability.toUpperCase(Locale.ROOT).replaceFirst("^CAP_", "")))
+            .toArray(Capability[]::new);
+    }
+
+    private static HealthCheck healthCheck(Map<String, Object> definition) {
+        HealthCheck healthCheck = new HealthCheck();
+        Object test = definition.get("test");
+        if (isTrue(definition.get("disable"))) {
+            healthCheck.withTest(Collections.singletonList("NONE"));
+        } else if (test instanceof String) {
+            healthCheck.withTest(Arrays.asList("CMD-SHELL", (String) test));
+        } else if (test != null) {
+            healthCheck.withTest(strings(test));
+        }
+        if (definition.containsKey("interval")) {
+            healthCheck.withInterval(parseDuration(string(definition.get("interval"))).toNanos());
+        }
+        if (definition.containsKey("timeout")) {
+            healthCheck.withTimeout(parseDuration(string(definition.get("timeout"))).toNanos());
+        }
+        if (definition.containsKey("start_period")) {
+            healthCheck.withStartPeriod(parseDuration(string(definition.get("start_period"))).toNanos());
+        }
+        if (definition.containsKey("retries")) {
+            healthCheck.withRetries(Integer.parseInt(string(definition.get("retries"))));
+        }
+        return healthCheck;
+    }
+
+    private void waitUntilHealthy(String containerId) {
+        Container container = dockerClient
+            .listContainersCmd()
+            .withShowAll(true)
+            .withIdFilter(Collections.singletonList(containerId))
+            .exec()
+            .get(0);
+        Wait
+            .forHealthcheck()
+            .withStartupTimeout(startupTimeout)
+            .waitUntilReady(
+                new ComposeServiceWaitStrategyTarget(dockerClient, container, ambassadorContainer, new HashMap<>())
+            );
+    }
+
+    private void waitUntilCompleted(String service, String containerId) {
+        InspectContainerResponse.ContainerState[] state = new InspectContainerResponse.ContainerState[1];
+        try {
+            Unreliables.retryUntilTrue(
+                (int) startupTimeout.getSeconds(),
+                TimeUnit.SECONDS,
+                () -> {
+                    state[0] = dockerClient.inspectContainerCmd(containerId).exec().getState();
+                    return !Boolean.TRUE.equals(state[0].getRunning());
+                }
+            );
+        } catch (TimeoutException e) {
+            throw new ContainerLaunchException("Timed out waiting for service " + service + " to complete");
+        }
+        Long exitCode = state[0].getExitCodeLong();
+        if (exitCode == null || exitCode != 0) {
+            throw new ContainerLaunchException(
+                "Service " + service + " didn't complete successfully: exit code " + exitCode
+            );
+        }
+    }
+
+    private void removeContainer(Container container, boolean removeVolumes) {
+        String service = container.getLabels().get(SERVICE_LABEL);
+        Map<String, Object> definition = services.getOrDefault(service, Collections.emptyMap());
+        int timeout = definition.containsKey("stop_grace_period")
+            ? (int) parseDuration(string(definition.get("stop_grace_period"))).getSeconds()
+            : 10;
+
+        ignoreErrors(() -> dockerClient.stopContainerCmd(container.getId()).withTimeout(timeout).exec());
+        ignoreErrors(() ->
+            dockerClient
+                .removeContainerCmd(container.getId())
+                .withRemoveVolumes(removeVolumes)
+                .withForce(true)
+                .exec()
+        );
+    }
+
+    private static void ignoreErrors(Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (DockerException e) {
+            log.debug("Ignoring error while removing compose resources", e);
+        }
+    }
+
+    /**
+     * Parses a Go duration as used in compose files, e.g. {@code 1m30s}.
+     */
+    @VisibleForTesting
+    static Duration parseDuration(String duration) {
+        String value = duration.trim();
+        if (value.matches("\\d+")) {
+            return Duration.ofSeconds(Long.parseLong(value));
+        }
+        Matcher matcher = DURATION_PATTERN.matcher(value);
+        long nanos = 0;
+        int position = 0;
+        while (position < value.length()) {
+            matcher.region(position, value.length());
+            if (!matcher.lookingAt()) {
+                throw new IllegalArgumentException("Invalid duration: " + duration);
+            }
+            nanos += (long) (Double.parseDouble(matcher.group(1)) * unitNanos(matcher.group(2)));
+            position = matcher.end();
+        }
+        if (position == 0) {
+            throw new IllegalArgumentException("Invalid duration: " + duration);
+        }
+        return Duration.ofNanos(nanos);
+    }
+
+    private static long unitNanos(String unit) {
+        switch (unit) {
+            case "h":
+                return TimeUnit.HOURS.toNanos(1);
+            case "m":
+                return TimeUnit.MINUTES.toNanos(1);
+            case "s":
+                return TimeUnit.SECONDS.toNanos(1);
+            case "ms":
+                return TimeUnit.MILLISECONDS.toNanos(1);
+            case "us":
+                return TimeUnit.MICROSECONDS.toNanos(1);
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Parses a byte size as used in compose files, e.g. {@code 64m} or {@code 1gb}.
+     */
+    @VisibleForTesting
+    static long parseSize(String size) {
+        Matcher matcher = SIZE_PATTERN.matcher(size.trim().toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid size: " + size);
+        }
+        int exponent = matcher.group(2).isEmpty() ? 0 : "kmgt".indexOf(matcher.group(2)) + 1;
+        return (long) (Double.parseDouble(matcher.group(1)) * Math.pow(1024, exponent));
+    }
+
+    /**
+     * Splits a command given as string the way a POSIX shell would, without expanding anything.
+     */
+    @VisibleForTesting
+    static List<String> commandLine(Object command) {
+        if (command instanceof List) {
+            return strings(command);
+        }
+        List<String> arguments = new ArrayList<>();
+        StringBuilder argument = null;
+        char quote = 0;
+        String value = string(command);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (quote == 0 && Character.isWhitespace(c)) {
+                if (argument != null) {
+                    arguments.add(argument.toString());
+                    argument = null;
+                }
+                continue;
+            }
+            if (argument == null) {
+                argument = new StringBuilder();
+            }
+            if (c == quote) {
+                quote = 0;
+            } else if (quote == 0 && (c == '"' || c == '\'')) {
+                quote = c;
+            } else if (c == '\\' && quote != '\'' && i + 1 < value.length()) {
+                argument.append(value.charAt(++i));
+            } else {
+                argument.append(c);
+            }
+        }
+        if (quote != 0) {
+            throw new IllegalArgumentException("Unterminated quote in command: " + value);
+        }
+        if (argument != null) {
+            arguments.add(argument.toString());
+        }
+        return arguments;
+    }
+
+    private static Map<String, Object> keyValues(Object values) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String value : strings(values)) {
+            int separatorIndex = value.indexOf('=');
+            if (separatorIndex < 0) {
+                result.put(value, null);
+            } else {
+                result.put(value.substring(0, separatorIndex), value.substring(separatorIndex + 1));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        if (!(value instanceof Map)) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        ((Map<Object, Object>) value).forEach((key, item) -> result.put(String.valueOf(key), item));
+        return result;
+    }
+
+    private static Map<String, String> stringMap(Object value) {
+        Map<String, String> result = new LinkedHashMap<>();
+        Object values = value instanceof List ? keyValues(value) : value;
+        map(values).forEach((key, item) -> result.put(key, item != null ? string(item) : ""));
+        return result;
+    }
+
+    private static List<?> list(Object value) {
+        if (value instanceof List) {
+            return (List<?>) value;
+        }
+        return value == null ? Collections.emptyList() : Collections.singletonList(value);
+    }
+
+    private static List<String> strings(Object value) {
+        return list(value).stream().map(NativeDockerCompose::string).collect(Collectors.toList());
+    }
+
+    private static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static boolean isTrue(Object value) {
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+}
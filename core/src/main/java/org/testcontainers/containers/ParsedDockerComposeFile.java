@@ -2,6 +2,7 @@ package org.testcontainers.containers;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Sets;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -32,10 +33,12 @@ import java.util.Set;
 @EqualsAndHashCode
 class ParsedDockerComposeFile {
 
+    @Getter(AccessLevel.PACKAGE)
     private final Map<String, Object> composeFileContent;
 
     private final String composeFileName;
 
+    @Getter(AccessLevel.PACKAGE)
     private final File composeFile;
 
     @Getter
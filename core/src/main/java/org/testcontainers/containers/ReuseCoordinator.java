@@ -0,0 +1,152 @@
+package org.testcontainers.containers;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coordinates the lookup and creation of reusable containers between threads and JVMs (e.g. parallel Gradle or
+ * Surefire forks) running on the same host.
+ * <p>
+ * Without coordination, concurrent starts of containers with the same hash all miss the lookup of a running container
+ * and create one container each. Holding a per-hash lock, backed by a file lock in
+ * {@link TestcontainersConfiguration#getCacheDirectory()}, from the lookup until the container is started makes all
+ * but the first start reuse the container.
+ * <p>
+ * Hashes are spread over a fixed number of locks (and lock files), so that locks do not accumulate across hashes and
+ * runs. Starts of containers with different hashes rarely share a lock, and then only wait for each other's start.
+ */
+@UnstableAPI
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReuseCoordinator {
+
+    private static final int STRIPES = 256;
+
+    private static final Map<String, ReentrantLock> LOCAL_LOCKS = new ConcurrentHashMap<>();
+
+    private static final AtomicLong HITS = new AtomicLong();
+
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private static final AtomicLong WAIT_TIME_NANOS = new AtomicLong();
+
+    /**
+     * @return how many starts of reusable containers found a running container to reuse
+     */
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    /**
+     * @return how many starts of reusable containers had to create a new container
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    /**
+     * @return the total time spent waiting for other threads or JVMs starting a container with the same hash
+     */
+    public static Duration getTotalWaitTime() {
+        return Duration.ofNanos(WAIT_TIME_NANOS.get());
+    }
+
+    /**
+     * Blocks until no other thread or JVM on this host holds the lock for the given hash.
+     *
+     * @param hash the hash of a reusable container
+     * @return the acquired lock, to be released once the container was started or its start failed
+     */
+    static Lock acquire(String hash) {
+        return acquire(hash, TestcontainersConfiguration.getInstance().getCacheDirectory().resolve("reuse"));
+    }
+
+    @SneakyThrows({ IOException.class, InterruptedException.class })
+    static Lock acquire(String hash, Path lockDirectory) {
+        long startedAt = System.nanoTime();
+
+        String stripe = String.format("%02x", Math.floorMod(hash.hashCode(), STRIPES));
+        ReentrantLock localLock = LOCAL_LOCKS.computeIfAbsent(stripe, __ -> new ReentrantLock());
+        localLock.lockInterruptibly();
+        try {
+            Path lockFile = lockDirectory.resolve(stripe + ".lock");
+            Files.createDirectories(lockDirectory);
+            FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            try {
+                FileLock fileLock = channel.lock();
+
+                Duration waitTime = Duration.ofNanos(System.nanoTime() - startedAt);
+                WAIT_TIME_NANOS.addAndGet(waitTime.toNanos());
+                log.debug("Acquired reuse lock for hash {} after {}", hash, waitTime);
+                return new Lock(localLock, channel, fileLock);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            localLock.unlock();
+            throw e;
+        }
+    }
+
+    static void recordHit() {
+        HITS.incrementAndGet();
+    }
+
+    static void recordMiss() {
+        MISSES.incrementAndGet();
+    }
+
+    static final class Lock implements AutoCloseable {
+
+        private final ReentrantLock localLock;
+
+        private final FileChannel channel;
+
+        private final FileLock fileLock;
+
+        private boolean released = false;
+
+        private Lock(ReentrantLock localLock, FileChannel channel, FileLock fileLock) {
+            this.localLock = localLock;
+            this.channel = channel;
+            this.fileLock = fileLock;
+        }
+
+        /**
+         * Releases the lock. Does nothing if it was already released.
+         */
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+
+            try {
+                fileLock.release();
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to release reuse lock", e);
+            } finally {
+                localLock.unlock();
+            }
+        }
+    }
+}
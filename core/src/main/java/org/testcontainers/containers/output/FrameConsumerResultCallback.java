@@ -5,14 +5,12 @@ import com.github.dockerjava.api.model.Frame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Consumer;
-import java.util.regex.Pattern;
 
 /**
  * This class can be used as a generic callback for docker-java commands that produce Frames.
@@ -78,15 +76,24 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
         return completionLatch;
     }
 
+    /**
+     * Splits frames into lines. Lines contained in a single frame are passed on as slices of the frame's payload, and
+     * only lines spanning multiple frames or containing ANSI color codes are copied.
+     */
     private static class LineConsumer {
 
-        private static final Pattern ANSI_COLOR_PATTERN = Pattern.compile("\u001B\\[[0-9;]+m");
+        private static final byte ESC = 0x1B;
 
         private final OutputFrame.OutputType type;
 
         private final Consumer<OutputFrame> consumer;
 
-        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        /**
+         * Holds the beginning of a line that continues in the next frame, reused for all lines.
+         */
+        private byte[] buffer = new byte[256];
+
+        private int bufferLength = 0;
 
         private boolean lastCR = false;
 
@@ -97,37 +104,26 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
 
         void processFrame(final byte[] b) {
             int start = 0;
-            int i = 0;
-            while (i < b.length) {
-                switch (b[i]) {
-                    case '\n':
-                        buffer.write(b, start, i + 1 - start);
-                        start = i + 1;
-                        consume();
-                        lastCR = false;
-                        break;
-                    case '\r':
-                        if (lastCR) {
-                            consume();
-                        }
-                        buffer.write(b, start, i + 1 - start);
-                        start = i + 1;
-                        lastCR = true;
-                        break;
-                    default:
-                        if (lastCR) {
-                            consume();
-                        }
-                        lastCR = false;
+            for (int i = 0; i < b.length; i++) {
+                if (lastCR && b[i] != '\n') {
+                    // a lone CR ends the line
+                    consume(b, start, i);
+                    start = i;
+                }
+                if (b[i] == '\n') {
+                    consume(b, start, i + 1);
+                    start = i + 1;
+                    lastCR = false;
+                } else {
+                    lastCR = b[i] == '\r';
                 }
-                i++;
             }
-            buffer.write(b, start, b.length - start);
+            append(b, start, b.length);
         }
 
         void processBuffer() {
-            if (buffer.size() > 0) {
-                consume();
+            if (bufferLength > 0) {
+                consume(buffer, 0, 0);
             }
         }
 
@@ -135,18 +131,95 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
             consumer.accept(OutputFrame.END);
         }
 
-        private void consume() {
-            final String string = new String(buffer.toByteArray(), StandardCharsets.UTF_8);
-            final byte[] bytes = processAnsiColorCodes(string).getBytes(StandardCharsets.UTF_8);
-            consumer.accept(new OutputFrame(type, bytes));
-            buffer.reset();
-        }
+        private void consume(final byte[] b, final int from, final int to) {
+            byte[] bytes = b;
+            int offset = from;
+            int length = to - from;
+            if (bufferLength > 0) {
+                append(b, from, to);
+                bytes = Arrays.copyOf(buffer, bufferLength);
+                offset = 0;
+                length = bufferLength;
+                bufferLength = 0;
+            }
 
-        private String processAnsiColorCodes(final String utf8String) {
             if (!(consumer instanceof BaseConsumer) || ((BaseConsumer<?>) consumer).isRemoveColorCodes()) {
-                return ANSI_COLOR_PATTERN.matcher(utf8String).replaceAll("");
+                byte[] stripped = removeAnsiColorCodes(bytes, offset, length);
+                if (stripped != null) {
+                    bytes = stripped;
+                    offset = 0;
+                    length = stripped.length;
+                }
+            }
+
+            consumer.accept(new OutputFrame(type, bytes, offset, length));
+        }
+
+        private void append(final byte[] b, final int from, final int to) {
+            int length = to - from;
+            if (length == 0) {
+                return;
+            }
+            if (bufferLength + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, bufferLength + length));
+            }
+            System.arraycopy(b, from, buffer, bufferLength, length);
+            bufferLength += length;
+        }
+
+        /**
+         * Removes ANSI color codes, i.e. ESC followed by {@code [}, digits or semicolons and {@code m}.
+         * ESC never occurs within multibyte UTF-8 sequences, so the bytes can be scanned without decoding them.
+         *
+         * @return the bytes without color codes, or null if there were none
+         */
+        static byte[] removeAnsiColorCodes(final byte[] bytes, final int offset, final int length) {
+            final int end = offset + length;
+            byte[] result = null;
+            int resultLength = 0;
+            int copyFrom = offset;
+            for (int i = offset; i < end; i++) {
+                if (bytes[i] != ESC) {
+                    continue;
+                }
+                int codeEnd = ansiColorCodeEnd(bytes, i, end);
+                if (codeEnd < 0) {
+                    continue;
+                }
+                if (result == null) {
+                    result = new byte[length];
+                }
+                System.arraycopy(bytes, copyFrom, result, resultLength, i - copyFrom);
+                resultLength += i - copyFrom;
+                copyFrom = codeEnd;
+                i = codeEnd - 1;
+            }
+
+            if (result == null) {
+                return null;
+            }
+            System.arraycopy(bytes, copyFrom, result, resultLength, end - copyFrom);
+            resultLength += end - copyFrom;
+            return Arrays.copyOf(result, resultLength);
+        }
+
+        /**
+         * @return the index after the color code starting at the given index, or -1 if there is none
+         */
+        private static int ansiColorCodeEnd(final byte[] bytes, final int escIndex, final int end) {
+            int i = escIndex + 1;
+            if (i >= end || bytes[i] != '[') {
+                return -1;
+            }
+            i++;
+            final int parametersStart = i;
+            while (i < end && ((bytes[i] >= '0' && bytes[i] <= '9') || bytes[i] == ';')) {
+                i++;
+            }
+            if (i == parametersStart || i >= end || bytes[i] != 'm') {
+                return -1;
             }
-            return utf8String;
+            return i + 1;
         }
     }
 }
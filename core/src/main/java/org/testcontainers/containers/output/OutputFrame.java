@@ -3,7 +3,11 @@ package org.testcontainers.containers.output;
 import com.github.dockerjava.api.model.Frame;
 import com.github.dockerjava.api.model.StreamType;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * Holds exactly one complete line of container output. Lines are split on newline characters (LF, CR LF).
@@ -16,37 +20,83 @@ public class OutputFrame {
 
     private final byte[] bytes;
 
+    private final int offset;
+
+    private final int length;
+
     public OutputFrame(final OutputType type, final byte[] bytes) {
+        this(type, bytes, 0, bytes == null ? 0 : bytes.length);
+    }
+
+    /**
+     * Creates a frame backed by a slice of the given array, without copying it.
+     * The array must not be modified afterwards.
+     *
+     * @param type   the output type
+     * @param bytes  the array holding the line
+     * @param offset the offset of the line in the array
+     * @param length the length of the line in bytes
+     */
+    public OutputFrame(final OutputType type, final byte[] bytes, final int offset, final int length) {
+        if (bytes != null && (offset < 0 || length < 0 || offset + length > bytes.length)) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + bytes.length);
+        }
         this.type = type;
         this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
     }
 
     public OutputType getType() {
         return type;
     }
 
+    /**
+     * @return the bytes of this frame. Copies the bytes if this frame is backed by a slice of a larger array.
+     * @see #asByteBuffer()
+     */
     public byte[] getBytes() {
-        return bytes;
+        if (bytes == null || (offset == 0 && length == bytes.length)) {
+            return bytes;
+        }
+        return Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+
+    /**
+     * @return a read-only view of the bytes of this frame, without copying them, or null for {@link #END}
+     */
+    public ByteBuffer asByteBuffer() {
+        if (bytes == null) {
+            return null;
+        }
+        return ByteBuffer.wrap(bytes, offset, length).slice().asReadOnlyBuffer();
     }
 
     public String getUtf8String() {
-        return (bytes == null) ? "" : new String(bytes, StandardCharsets.UTF_8);
+        return (bytes == null) ? "" : new String(bytes, offset, length, StandardCharsets.UTF_8);
     }
 
     public String getUtf8StringWithoutLineEnding() {
         if (bytes == null) {
             return "";
         }
-        return new String(bytes, 0, bytes.length - determineLineEndingLength(bytes), StandardCharsets.UTF_8);
+        return new String(bytes, offset, length - determineLineEndingLength(), StandardCharsets.UTF_8);
+    }
+
+    void writeTo(OutputStream outputStream) throws IOException {
+        if (bytes != null) {
+            outputStream.write(bytes, offset, length);
+        }
     }
 
-    private static int determineLineEndingLength(final byte[] bytes) {
-        if (bytes.length > 0) {
-            switch (bytes[bytes.length - 1]) {
+    private int determineLineEndingLength() {
+        if (length > 0) {
+            int last = offset + length - 1;
+            switch (bytes[last]) {
                 case '\r':
                     return 1;
                 case '\n':
-                    return ((bytes.length > 1) && (bytes[bytes.length - 2] == '\r')) ? 2 : 1;
+                    return ((length > 1) && (bytes[last - 1] == '\r')) ? 2 : 1;
             }
         }
         return 0;
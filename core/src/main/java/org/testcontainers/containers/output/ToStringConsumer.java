@@ -16,10 +16,7 @@ public class ToStringConsumer extends BaseConsumer<ToStringConsumer> {
     @Override
     public void accept(OutputFrame outputFrame) {
         try {
-            final byte[] bytes = outputFrame.getBytes();
-            if (bytes != null) {
-                stringBuffer.write(bytes);
-            }
+            outputFrame.writeTo(stringBuffer);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -3,29 +3,64 @@ package org.testcontainers.containers.output;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 
 /**
- * A consumer for container output that buffers lines in a {@link java.util.concurrent.BlockingDeque} and enables tests
- * to wait for a matching condition.
+ * A consumer for container output that enables tests to wait for a matching condition.
+ * <p>
+ * Frames are buffered in a {@link java.util.concurrent.BlockingDeque}, and also tested against the conditions of active
+ * waits as soon as they are received, so that waits complete without polling. A frame completing a wait is consumed by
+ * it; all other frames stay buffered and are tested by the next waits once they begin. Only the last
+ * {@value #MAX_BUFFERED_FRAMES} frames are buffered, so that the buffer of a long-running container does not grow
+ * without bounds.
  */
 public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WaitingConsumer.class);
 
-    private LinkedBlockingDeque<OutputFrame> frames = new LinkedBlockingDeque<>();
+    static final int MAX_BUFFERED_FRAMES = 10_000;
+
+    private LinkedBlockingDeque<OutputFrame> frames = new LinkedBlockingDeque<>(MAX_BUFFERED_FRAMES);
+
+    private final List<Waiter> waiters = new ArrayList<>();
 
     @Override
     public void accept(OutputFrame frame) {
-        frames.add(frame);
+        List<Waiter> doneWaiters = new ArrayList<>();
+        synchronized (waiters) {
+            for (Iterator<Waiter> iterator = waiters.iterator(); iterator.hasNext();) {
+                Waiter waiter = iterator.next();
+                boolean cancelled = waiter.future.isDone();
+                if (waiter.test(frame)) {
+                    iterator.remove();
+                    if (!cancelled) {
+                        doneWaiters.add(waiter);
+                    }
+                }
+            }
+            if (doneWaiters.isEmpty()) {
+                while (!frames.offerLast(frame)) {
+                    // the buffer is full: drop the oldest frame
+                    frames.pollFirst();
+                }
+            }
+        }
+        // complete outside of the lock, as completion runs dependent actions of the futures
+        doneWaiters.forEach(Waiter::complete);
     }
 
     /**
-     * Get access to the underlying frame buffer. Modifying the buffer contents is likely to cause problems if the
-     * waitUntil() methods are also being used, as they feed on the same data.
+     * Get access to the underlying frame buffer, which holds the last frames not consumed by a wait yet. Modifying
+     * the buffer contents is likely to cause problems if the waitUntil() methods are also being used, as they feed on
+     * the same data.
      *
      * @return the collection of frames
      */
@@ -80,37 +115,26 @@ public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
 
     private void waitUntil(Predicate<OutputFrame> predicate, long timeoutLimitInNanos, int times)
         throws TimeoutException {
-        int numberOfMatches = 0;
-
-        final long startTime = System.nanoTime();
-
-        while (System.nanoTime() - startTime < timeoutLimitInNanos) {
-            try {
-                final OutputFrame frame = frames.pollLast(100, TimeUnit.MILLISECONDS);
-
-                if (frame != null) {
-                    LOGGER.debug("{}: {}", frame.getType(), frame.getUtf8StringWithoutLineEnding());
-
-                    if (predicate.test(frame)) {
-                        numberOfMatches++;
-
-                        if (numberOfMatches == times) {
-                            return;
-                        }
-                    }
-                }
-
-                if (frames.isEmpty()) {
-                    // sleep for a moment to avoid excessive CPU spinning
-                    Thread.sleep(10L);
-                }
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        }
+        Waiter waiter = new Waiter(predicate, times);
+        register(waiter);
+        await(waiter, timeoutLimitInNanos, null);
+    }
 
-        // did not return before expiry was reached
-        throw new TimeoutException();
+    /**
+     * Returns a future which completes once frames (usually, lines) of output matched the provided predicate the given
+     * number of times. Cancelling the future stops testing frames against the predicate.
+     * <p>
+     * The future is completed by the thread delivering the frames, so dependent actions should not block.
+     * <p>
+     * Note that lines will often have a trailing newline character, and this is not stripped off before the
+     * predicate is tested.
+     *
+     * @param predicate a predicate to test against each frame
+     * @param times     number of times the predicate has to match
+     * @return a future which completes once the predicate matched
+     */
+    public CompletableFuture<Void> waitUntilAsync(Predicate<OutputFrame> predicate, int times) {
+        return register(new Waiter(predicate, times));
     }
 
     /**
@@ -132,28 +156,133 @@ public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
      * @param limitUnit maximum time to wait (units)
      */
     public void waitUntilEnd(long limit, TimeUnit limitUnit) throws TimeoutException {
-        long expiry = limitUnit.toNanos(limit) + System.nanoTime();
+        waitUntilEnd(limitUnit.toNanos(limit));
+    }
 
-        waitUntilEnd(expiry);
+    private void waitUntilEnd(long timeoutLimitInNanos) throws TimeoutException {
+        Waiter waiter = Waiter.forEnd();
+        register(waiter);
+        await(waiter, timeoutLimitInNanos, "Expiry time reached before end of output");
     }
 
-    private void waitUntilEnd(Long expiry) throws TimeoutException {
-        while (System.nanoTime() < expiry) {
-            try {
-                OutputFrame frame = frames.pollLast(100, TimeUnit.MILLISECONDS);
+    /**
+     * Returns a future which completes once Docker closes the stream of output.
+     *
+     * @return a future which completes at the end of output
+     */
+    public CompletableFuture<Void> waitUntilEndAsync() {
+        return register(Waiter.forEnd());
+    }
 
-                if (frame == OutputFrame.END) {
-                    return;
+    private CompletableFuture<Void> register(Waiter waiter) {
+        synchronized (waiters) {
+            // Frames received before the wait began are tested first, newest first
+            OutputFrame frame;
+            while ((frame = frames.pollLast()) != null) {
+                if (waiter.test(frame)) {
+                    break;
                 }
+            }
+            if (!waiter.isDone()) {
+                waiters.add(waiter);
+            }
+        }
+        if (waiter.isDone()) {
+            waiter.complete();
+        }
+        return waiter.future;
+    }
+
+    private void await(Waiter waiter, long timeoutLimitInNanos, String timeoutMessage) throws TimeoutException {
+        try {
+            waiter.future.get(timeoutLimitInNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // did not return before expiry was reached
+            cancel(waiter);
+            throw new TimeoutException(timeoutMessage);
+        } catch (InterruptedException e) {
+            cancel(waiter);
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void cancel(Waiter waiter) {
+        synchronized (waiters) {
+            waiter.future.cancel(false);
+            waiters.remove(waiter);
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Predicate<OutputFrame> predicate;
+
+        private final int times;
+
+        private final boolean logFrames;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private int numberOfMatches = 0;
 
-                if (frames.isEmpty()) {
-                    // sleep for a moment to avoid excessive CPU spinning
-                    Thread.sleep(10L);
+        private boolean done = false;
+
+        private RuntimeException failure;
+
+        private Waiter(Predicate<OutputFrame> predicate, int times) {
+            this(predicate, times, true);
+        }
+
+        private Waiter(Predicate<OutputFrame> predicate, int times, boolean logFrames) {
+            this.predicate = predicate;
+            this.times = times;
+            this.logFrames = logFrames;
+        }
+
+        static Waiter forEnd() {
+            return new Waiter(frame -> frame == OutputFrame.END, 1, false);
+        }
+
+        /**
+         * @return true if this waiter is done and no longer needs to be offered frames
+         */
+        boolean test(OutputFrame frame) {
+            if (future.isDone()) {
+                // cancelled
+                return true;
+            }
+
+            if (logFrames) {
+                LOGGER.debug("{}: {}", frame.getType(), frame.getUtf8StringWithoutLineEnding());
+            }
+
+            try {
+                if (predicate.test(frame)) {
+                    numberOfMatches++;
+                    done = numberOfMatches >= times;
                 }
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+            } catch (RuntimeException e) {
+                failure = e;
+                done = true;
+            }
+            return done;
+        }
+
+        boolean isDone() {
+            return done || future.isDone();
+        }
+
+        void complete() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(null);
             }
         }
-        throw new TimeoutException("Expiry time reached before end of output");
     }
 }
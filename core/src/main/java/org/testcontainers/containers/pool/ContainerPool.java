@@ -0,0 +1,301 @@
+package org.testcontainers.containers.pool;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.utility.TestcontainersExecutors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Keeps started containers ready to be leased by tests, so that tests do not wait for containers to start.
+ * <p>
+ * Leased containers are returned to the pool by closing their {@link Lease}. The {@link ResetStrategy} of the pool then
+ * restores their clean state in the background, or replaces them by new containers.
+ * <pre>
+ * ContainerPool&lt;PostgreSQLContainer&lt;?&gt;&gt; pool = new ContainerPool&lt;&gt;(() -&gt; new PostgreSQLContainer&lt;&gt;(IMAGE))
+ *     .withSize(4)
+ *     .withResetStrategy(ResetStrategy.execInContainer("sh", "-c", "..."));
+ * pool.start();
+ *
+ * try (ContainerPool.Lease&lt;PostgreSQLContainer&lt;?&gt;&gt; lease = pool.lease()) {
+ *     PostgreSQLContainer&lt;?&gt; postgres = lease.getContainer();
+ *     ...
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the containers
+ */
+@UnstableAPI
+@Slf4j
+public class ContainerPool<T extends GenericContainer<?>> implements Startable {
+
+    private static final ExecutorService EXECUTOR = TestcontainersExecutors.newExecutor("testcontainers-pool");
+
+    private final Supplier<T> factory;
+
+    private int size = 1;
+
+    private ResetStrategy<? super T> resetStrategy = ResetStrategy.recreate();
+
+    private Duration leaseTimeout = Duration.ofMinutes(2);
+
+    private final BlockingQueue<T> idle = new LinkedBlockingQueue<>();
+
+    private final Set<T> containers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The number of containers that are idle, leased, being reset or being started
+     */
+    private final AtomicInteger instances = new AtomicInteger();
+
+    private final AtomicBoolean stopped = new AtomicBoolean(false);
+
+    /**
+     * Notified when a container becomes idle or a slot of the pool is freed, and when the pool is stopped
+     */
+    private final Object changed = new Object();
+
+    /**
+     * @param factory creates the (not started) containers of the pool
+     */
+    public ContainerPool(@NonNull Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @param size the maximum number of containers of the pool, all started by {@link #start()}
+     */
+    public ContainerPool<T> withSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The size of a container pool must be at least 1");
+        }
+        this.size = size;
+        return this;
+    }
+
+    public ContainerPool<T> withResetStrategy(@NonNull ResetStrategy<? super T> resetStrategy) {
+        this.resetStrategy = resetStrategy;
+        return this;
+    }
+
+    /**
+     * @param leaseTimeout how long {@link #lease()} waits for a container when all of them are leased
+     */
+    public ContainerPool<T> withLeaseTimeout(@NonNull Duration leaseTimeout) {
+        this.leaseTimeout = leaseTimeout;
+        return this;
+    }
+
+    /**
+     * Starts the containers of the pool, in parallel. Calling it is optional: otherwise, containers are started on
+     * demand by {@link #lease()}.
+     */
+    @Override
+    public void start() {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        while (reserve()) {
+            futures.add(CompletableFuture.runAsync(() -> offer(startContainer()), EXECUTOR));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (Exception e) {
+            throw new ContainerLaunchException("Failed to start the containers of the pool", e.getCause());
+        }
+    }
+
+    /**
+     * Leases a container: an idle one if available, otherwise a new one if the pool is not full yet, otherwise the first
+     * one returned to the pool.
+     *
+     * @return the lease of the container, to be closed once the container is not used anymore
+     */
+    public Lease<T> lease() {
+        long deadline = System.nanoTime() + leaseTimeout.toNanos();
+        while (true) {
+            if (stopped.get()) {
+                throw new IllegalStateException("The container pool is stopped");
+            }
+
+            T container = idle.poll();
+            if (container != null) {
+                return new Lease<>(this, container);
+            }
+            if (reserve()) {
+                return new Lease<>(this, startContainer());
+            }
+
+            // Wait for a returned container, or for a slot freed by a container that could not be reset or replaced
+            synchronized (changed) {
+                if (idle.isEmpty() && instances.get() >= size && !stopped.get()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new IllegalStateException(
+                            String.format("No container of the pool was returned within %s", leaseTimeout)
+                        );
+                    }
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(changed, remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for a container of the pool", e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of containers ready to be leased
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Stops all the containers of the pool, including leased ones.
+     */
+    @Override
+    public void stop() {
+        if (!stopped.compareAndSet(false, true)) {
+            return;
+        }
+        idle.clear();
+        containers.forEach(GenericContainer::stop);
+        containers.clear();
+        signal();
+    }
+
+    private boolean reserve() {
+        int current;
+        do {
+            current = instances.get();
+            if (current >= size || stopped.get()) {
+                return false;
+            }
+        } while (!instances.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private T startContainer() {
+        T container = null;
+        try {
+            container = factory.get();
+            containers.add(container);
+            container.start();
+            return container;
+        } catch (RuntimeException e) {
+            discard(container);
+            throw e;
+        }
+    }
+
+    private void release(T container) {
+        if (stopped.get()) {
+            return;
+        }
+        EXECUTOR.execute(() -> {
+            boolean reusable;
+            try {
+                reusable = container.isRunning() && resetStrategy.reset(container);
+            } catch (Exception e) {
+                log.warn("Failed to reset container {}, replacing it", container.getContainerId(), e);
+                reusable = false;
+            }
+
+            if (reusable) {
+                offer(container);
+            } else {
+                replace(container);
+            }
+        });
+    }
+
+    private void offer(T container) {
+        idle.add(container);
+        // The pool may have been stopped while the container was started or reset
+        if (stopped.get() && idle.remove(container)) {
+            container.stop();
+        }
+        signal();
+    }
+
+    /**
+     * Removes a container from the pool, freeing its slot. Waiting leases are woken up to start a container in it.
+     */
+    private void discard(@Nullable T container) {
+        if (container != null) {
+            containers.remove(container);
+        }
+        instances.decrementAndGet();
+        signal();
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    private void signal() {
+        synchronized (changed) {
+            changed.notifyAll();
+        }
+    }
+
+    /**
+     * Starts a new container in the slot of a container that could not be reset. If that fails, the slot is freed.
+     */
+    private void replace(T container) {
+        containers.remove(container);
+        container.stop();
+        if (stopped.get()) {
+            instances.decrementAndGet();
+            return;
+        }
+        try {
+            offer(startContainer());
+        } catch (Exception e) {
+            log.warn("Failed to start a container of the pool, it will be started on the next lease", e);
+        }
+    }
+
+    /**
+     * A container leased from a {@link ContainerPool}, returned to the pool when closed.
+     */
+    public static final class Lease<T extends GenericContainer<?>> implements AutoCloseable {
+
+        private final ContainerPool<T> pool;
+
+        @Getter
+        private final T container;
+
+        private final AtomicBoolean returned = new AtomicBoolean(false);
+
+        private Lease(ContainerPool<T> pool, T container) {
+            this.pool = pool;
+            this.container = container;
+        }
+
+        @Override
+        public void close() {
+            if (returned.compareAndSet(false, true)) {
+                pool.release(container);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.testcontainers.containers.pool;
+
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.ContainerState;
+
+import java.util.Arrays;
+
+/**
+ * Restores the clean state of a container returned to a {@link ContainerPool}, so that the next test leasing it does
+ * not see the data of the previous one.
+ *
+ * @param <T> the type of the containers
+ */
+@UnstableAPI
+@FunctionalInterface
+public interface ResetStrategy<T> {
+    /**
+     * Resets the container. Called on a background thread, after the container has been returned to the pool.
+     *
+     * @param container the container to reset
+     * @return {@code true} if the container can be leased again, {@code false} if it must be replaced by a new one
+     * @throws Exception if the reset failed, in which case the container is replaced by a new one
+     */
+    boolean reset(T container) throws Exception;
+
+    /**
+     * Replaces every returned container by a new one, started in the background. Always safe, but only hides the
+     * startup time as long as the pool has idle containers.
+     */
+    static <T> ResetStrategy<T> recreate() {
+        return container -> false;
+    }
+
+    /**
+     * Leases returned containers again as they are, for containers that tests do not change.
+     */
+    static <T> ResetStrategy<T> none() {
+        return container -> true;
+    }
+
+    /**
+     * Resets returned containers by running a command in them, e.g. a script deleting all data. If the command fails,
+     * the container is replaced by a new one.
+     *
+     * @param command the command to run
+     */
+    static <T extends ContainerState> ResetStrategy<T> execInContainer(String... command) {
+        return container -> {
+            Container.ExecResult result = container.execInContainer(command);
+            if (result.getExitCode() != 0) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Reset command %s failed with exit code %d: %s",
+                        Arrays.toString(command),
+                        result.getExitCode(),
+                        result.getStderr()
+                    )
+                );
+            }
+            return true;
+        };
+    }
+}
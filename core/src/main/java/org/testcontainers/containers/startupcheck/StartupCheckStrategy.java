@@ -5,9 +5,11 @@ import com.github.dockerjava.api.command.InspectContainerResponse;
 import org.rnorth.ducttape.ratelimits.RateLimiter;
 import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
 import org.rnorth.ducttape.unreliables.Unreliables;
+import org.testcontainers.containers.ContainerEvents;
 import org.testcontainers.containers.GenericContainer;
 
 import java.time.Duration;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -40,26 +42,30 @@ public abstract class StartupCheckStrategy {
 
     public boolean waitUntilStartupSuccessful(DockerClient dockerClient, String containerId) {
         final Boolean[] startedOK = { null };
-        Unreliables.retryUntilTrue(
-            (int) timeout.toMillis(),
-            TimeUnit.MILLISECONDS,
-            () -> {
-                //noinspection CodeBlock2Expr
-                return DOCKER_CLIENT_RATE_LIMITER.getWhenReady(() -> {
-                    StartupStatus state = checkStartupState(dockerClient, containerId);
-                    switch (state) {
-                        case SUCCESSFUL:
-                            startedOK[0] = true;
-                            return true;
-                        case FAILED:
-                            startedOK[0] = false;
-                            return true;
-                        default:
-                            return false;
-                    }
-                });
-            }
-        );
+        final boolean[] changed = { false };
+        ContainerEvents containerEvents = ContainerEvents.getInstance();
+        try (ContainerEvents.Signal signal = containerEvents.signal(containerId)) {
+            Callable<Boolean> check = () -> {
+                StartupStatus state = checkStartupState(dockerClient, containerId);
+                switch (state) {
+                    case SUCCESSFUL:
+                        startedOK[0] = true;
+                        return true;
+                    case FAILED:
+                        startedOK[0] = false;
+                        return true;
+                    default:
+                        // Check again as soon as the state of the container changes, e.g. when it dies
+                        changed[0] = containerEvents.isTracking() && signal.await(Duration.ofSeconds(1));
+                        return false;
+                }
+            };
+            Unreliables.retryUntilTrue(
+                (int) timeout.toMillis(),
+                TimeUnit.MILLISECONDS,
+                () -> changed[0] ? check.call() : DOCKER_CLIENT_RATE_LIMITER.getWhenReady(check)
+            );
+        }
         return startedOK[0];
     }
 
@@ -3,28 +3,20 @@ package org.testcontainers.containers.wait.strategy;
 import lombok.NonNull;
 import org.rnorth.ducttape.ratelimits.RateLimiter;
 import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
+import org.testcontainers.utility.TestcontainersExecutors;
 
 import java.time.Duration;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class AbstractWaitStrategy implements WaitStrategy {
 
-    static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(
-        new ThreadFactory() {
-            private final AtomicLong COUNTER = new AtomicLong(0);
+    static final ExecutorService EXECUTOR = TestcontainersExecutors.newExecutor("testcontainers-wait");
 
-            @Override
-            public Thread newThread(Runnable r) {
-                Thread thread = new Thread(r, "testcontainers-wait-" + COUNTER.getAndIncrement());
-                thread.setDaemon(true);
-                return thread;
-            }
-        }
+    static final ScheduledExecutorService SCHEDULER = TestcontainersExecutors.newScheduledExecutor(
+        "testcontainers-wait-scheduler"
     );
 
     private static final RateLimiter DOCKER_CLIENT_RATE_LIMITER = RateLimiterBuilder
@@ -3,6 +3,7 @@ package org.testcontainers.containers.wait.strategy;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.awaitility.Awaitility;
+import org.testcontainers.containers.ContainerEvents;
 import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.wait.internal.ExternalPortListeningCheck;
 import org.testcontainers.containers.wait.internal.InternalCommandPortListeningCheck;
@@ -85,7 +86,10 @@ public class HostPortWaitStrategy extends AbstractWaitStrategy {
                             .pollInSameThread()
                             .pollInterval(Duration.ofMillis(100))
                             .pollDelay(Duration.ZERO)
-                            .failFast("container is no longer running", () -> !waitStrategyTarget.isRunning())
+                            .failFast(
+                                "container is no longer running",
+                                () -> !ContainerEvents.getInstance().isRunning(waitStrategyTarget)
+                            )
                             .ignoreExceptions()
                             .forever()
                             .until(externalCheck);
@@ -8,9 +8,12 @@ import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.WaitingConsumer;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 public class LogMessageWaitStrategy extends AbstractWaitStrategy {
 
@@ -19,8 +22,33 @@ public class LogMessageWaitStrategy extends AbstractWaitStrategy {
     private int times = 1;
 
     @Override
-    @SneakyThrows(IOException.class)
+    @SneakyThrows(InterruptedException.class)
     protected void waitUntilReady() {
+        CompletableFuture<Void> future = startWaiting(waitStrategyTarget);
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ContainerLaunchException("Failed waiting for log output matching '" + regEx + "'", e);
+        }
+    }
+
+    /**
+     * Waits for the log output without blocking a thread: frames are matched as they are received from the log
+     * stream, and the timeout is scheduled on a shared scheduler. The same strategy may wait for several targets at
+     * once.
+     */
+    @Override
+    public CompletableFuture<Void> waitUntilReadyAsync(WaitStrategyTarget waitStrategyTarget) {
+        return startWaiting(waitStrategyTarget);
+    }
+
+    private CompletableFuture<Void> startWaiting(WaitStrategyTarget waitStrategyTarget) {
         WaitingConsumer waitingConsumer = new WaitingConsumer();
 
         LogContainerCmd cmd = waitStrategyTarget
@@ -31,22 +59,59 @@ public class LogMessageWaitStrategy extends AbstractWaitStrategy {
             .withStdOut(true)
             .withStdErr(true);
 
-        try (FrameConsumerResultCallback callback = new FrameConsumerResultCallback()) {
-            callback.addConsumer(OutputFrame.OutputType.STDOUT, waitingConsumer);
-            callback.addConsumer(OutputFrame.OutputType.STDERR, waitingConsumer);
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, waitingConsumer);
+        callback.addConsumer(OutputFrame.OutputType.STDERR, waitingConsumer);
 
+        try {
             cmd.exec(callback);
+        } catch (RuntimeException e) {
+            closeQuietly(callback);
+            throw e;
+        }
+
+        // (?s) enables line terminator matching (equivalent to Pattern.DOTALL)
+        Pattern pattern = Pattern.compile("(?s)" + regEx);
+        Predicate<OutputFrame> waitPredicate = outputFrame -> pattern.matcher(outputFrame.getUtf8String()).matches();
+        CompletableFuture<Void> matched = waitingConsumer.waitUntilAsync(waitPredicate, times);
 
-            Predicate<OutputFrame> waitPredicate = outputFrame -> {
-                // (?s) enables line terminator matching (equivalent to Pattern.DOTALL)
-                return outputFrame.getUtf8String().matches("(?s)" + regEx);
-            };
-            try {
-                waitingConsumer.waitUntil(waitPredicate, startupTimeout.getSeconds(), TimeUnit.SECONDS, times);
-            } catch (TimeoutException e) {
-                throw new ContainerLaunchException("Timed out waiting for log output matching '" + regEx + "'");
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        // The scheduler only triggers the timeout, the stages depending on the result run on the executor
+        ScheduledFuture<?> timeout = SCHEDULER.schedule(
+            () -> {
+                EXECUTOR.execute(() -> {
+                    result.completeExceptionally(
+                        new ContainerLaunchException("Timed out waiting for log output matching '" + regEx + "'")
+                    );
+                });
+            },
+            startupTimeout.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+        matched.whenComplete((__, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+            } else {
+                result.complete(null);
             }
-        }
+        });
+        // Closing the log stream may block. Neither the thread delivering the log frames nor the scheduler, which
+        // would delay the timeouts of other strategies, should wait for it
+        result.whenCompleteAsync(
+            (__, ___) -> {
+                timeout.cancel(false);
+                matched.cancel(false);
+                closeQuietly(callback);
+            },
+            EXECUTOR
+        );
+        return result;
+    }
+
+    private static void closeQuietly(FrameConsumerResultCallback callback) {
+        try {
+            callback.close();
+        } catch (IOException ignored) {}
     }
 
     public LogMessageWaitStrategy withRegEx(String regEx) {
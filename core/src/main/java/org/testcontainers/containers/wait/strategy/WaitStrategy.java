@@ -1,9 +1,25 @@
 package org.testcontainers.containers.wait.strategy;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 public interface WaitStrategy {
     void waitUntilReady(WaitStrategyTarget waitStrategyTarget);
 
+    /**
+     * Wait asynchronously until the target has started.
+     * <p>
+     * By default, {@link #waitUntilReady(WaitStrategyTarget)} is called on a shared executor. Strategies that can
+     * wait without blocking a thread (e.g. {@link LogMessageWaitStrategy}) override this method.
+     * <p>
+     * Containers do not use this method yet: their start waits with {@link #waitUntilReady(WaitStrategyTarget)}.
+     *
+     * @param waitStrategyTarget the target of the WaitStrategy
+     * @return a {@link CompletableFuture} that resolves once the target is ready
+     */
+    default CompletableFuture<Void> waitUntilReadyAsync(WaitStrategyTarget waitStrategyTarget) {
+        return CompletableFuture.runAsync(() -> waitUntilReady(waitStrategyTarget), AbstractWaitStrategy.EXECUTOR);
+    }
+
     WaitStrategy withStartupTimeout(Duration startupTimeout);
 }
@@ -0,0 +1,27 @@
+package org.testcontainers.dockerclient;
+
+import org.testcontainers.UnstableAPI;
+
+/**
+ * Receives the latency of every request Testcontainers sends to the Docker daemon.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}, by listing them in
+ * {@code META-INF/services/org.testcontainers.dockerclient.DockerClientMetrics}. They are called on the thread that sent
+ * the request, so they must be thread-safe and should return quickly.
+ *
+ * @see DockerEndpointLatencies for the histograms Testcontainers records itself
+ */
+@UnstableAPI
+public interface DockerClientMetrics {
+    /**
+     * Called once the daemon responded to a request. For streaming requests, such as following logs, this is when the
+     * stream starts, not when it ends.
+     *
+     * @param method the HTTP method, e.g. {@code GET}
+     * @param endpoint the path of the request with IDs and names replaced by placeholders, e.g.
+     *                 {@code /containers/{id}/json}
+     * @param statusCode the HTTP status code of the response, or {@code -1} if the request failed without a response
+     * @param durationNanos the time between sending the request and receiving the response headers
+     */
+    void requestCompleted(String method, String endpoint, int statusCode, long durationNanos);
+}
@@ -63,6 +63,8 @@ import javax.net.SocketFactory;
  *     <li>{@code TestcontainersHostPropertyClientProviderStrategy}</li>
  *     <li>{@code EnvironmentAndSystemPropertyClientProviderStrategy}</li>
  *     <li>Persistable {@code DockerClientProviderStrategy} in <code>~/.testcontainers.properties</code></li>
+ *     <li>{@code DockerClientProviderStrategy} that found a Docker daemon in a previous JVM, see
+ *     {@link DockerDaemonCache}</li>
  *     <li>Other strategies order by priority</li>
  * </ul>
  */
@@ -241,6 +243,9 @@ public abstract class DockerClientProviderStrategy {
         // Next strategy to try out is the one configured using the Testcontainers configuration mechanism
         loadConfiguredStrategy().ifPresent(allStrategies::add);
 
+        // Then the one that recently found a Docker daemon in another JVM, which may not be persistable
+        loadCachedStrategy().ifPresent(allStrategies::add);
+
         // Finally, add all other strategies ordered by their internal priority
         strategies
             .stream()
@@ -281,12 +286,17 @@ public abstract class DockerClientProviderStrategy {
         try {
             log.debug("Trying out strategy: {}", strategy.getClass().getSimpleName());
 
-            if (!strategy.test()) {
-                log.debug("strategy {} did not pass the test", strategy.getClass().getSimpleName());
-                return false;
-            }
+            URI dockerHost = strategy.getTransportConfig().getDockerHost();
+            strategy.info = loadCachedInfo(strategy, dockerHost);
+            if (strategy.info == null) {
+                if (!strategy.test()) {
+                    log.debug("strategy {} did not pass the test", strategy.getClass().getSimpleName());
+                    return false;
+                }
 
-            strategy.info = strategy.getDockerClient().infoCmd().exec();
+                strategy.info = strategy.getDockerClient().infoCmd().exec();
+                DockerDaemonCache.getInstance().put(dockerHost, strategy.info);
+            }
             log.info("Found Docker environment with {}", strategy.getDescription());
             log.debug(
                 "Transport type: '{}', Docker host: '{}'",
@@ -308,6 +318,7 @@ public abstract class DockerClientProviderStrategy {
                     .getInstance()
                     .updateUserConfig("docker.client.strategy", strategy.getClass().getName());
             }
+            DockerDaemonCache.getInstance().putStrategy(strategy.getClass().getName());
 
             return true;
         } catch (Exception | ExceptionInInitializerError | NoClassDefFoundError e) {
@@ -345,6 +356,59 @@ public abstract class DockerClientProviderStrategy {
         }
     }
 
+    /**
+     * @return the info of the daemon, if a previous JVM cached the same daemon (identified by its ID) for this host
+     */
+    @Nullable
+    private static Info loadCachedInfo(DockerClientProviderStrategy strategy, URI dockerHost) {
+        DockerDaemonCache cache = DockerDaemonCache.getInstance();
+        Optional<DockerDaemonCache.Entry> entry = cache.get(dockerHost);
+        if (!entry.isPresent()) {
+            return null;
+        }
+
+        String cachedId = entry.get().getInfo().getId();
+        try {
+            if (!cache.needsValidation(entry.get())) {
+                // Another JVM just compared the daemon IDs, it is enough to know that the daemon still answers
+                strategy.getDockerClient().pingCmd().exec();
+                log.debug("Using cached checks of Docker daemon {} at {}", cachedId, dockerHost);
+                return entry.get().getInfo();
+            }
+
+            // Another daemon may listen on the same host, e.g. after a VM was recreated, possibly with the same version
+            Info info = strategy.getDockerClient().infoCmd().exec();
+            if (cachedId != null && cachedId.equals(info.getId())) {
+                log.debug("Using cached checks of Docker daemon {} at {}", cachedId, dockerHost);
+                cache.update(
+                    dockerHost,
+                    it -> {
+                        it.setValidatedAt(System.currentTimeMillis());
+                        it.setInfo(info);
+                    }
+                );
+                return info;
+            }
+            log.debug("Docker daemon at {} is {}, not the cached {}", dockerHost, info.getId(), cachedId);
+        } catch (Exception e) {
+            log.debug("Failed to validate cached info of Docker daemon at {}", dockerHost, e);
+        }
+
+        cache.invalidate(dockerHost);
+        return null;
+    }
+
+    private static Optional<? extends DockerClientProviderStrategy> loadCachedStrategy() {
+        return DockerDaemonCache
+            .getInstance()
+            .getStrategy()
+            .flatMap(it -> instantiateStrategy(it).findFirst())
+            .map(strategy -> {
+                log.debug("Loaded {} from the Docker daemon cache", strategy.getClass().getName());
+                return strategy;
+            });
+    }
+
     private static Optional<? extends DockerClientProviderStrategy> loadConfiguredStrategy() {
         String configuredDockerClientStrategyClassName = TestcontainersConfiguration
             .getInstance()
@@ -353,27 +417,7 @@ public abstract class DockerClientProviderStrategy {
         return Stream
             .of(configuredDockerClientStrategyClassName)
             .filter(Objects::nonNull)
-            .flatMap(it -> {
-                try {
-                    Class<? extends DockerClientProviderStrategy> strategyClass = (Class) Thread
-                        .currentThread()
-                        .getContextClassLoader()
-                        .loadClass(it);
-                    return Stream.of(strategyClass.newInstance());
-                } catch (ClassNotFoundException e) {
-                    log.warn(
-                        "Can't instantiate a strategy from {} (ClassNotFoundException). " +
-                        "This probably means that cached configuration refers to a client provider " +
-                        "class that is not available in this version of Testcontainers. Other " +
-                        "strategies will be tried instead.",
-                        it
-                    );
-                    return Stream.empty();
-                } catch (InstantiationException | IllegalAccessException e) {
-                    log.warn("Can't instantiate a strategy from {}", it, e);
-                    return Stream.empty();
-                }
-            })
+            .flatMap(DockerClientProviderStrategy::instantiateStrategy)
             // Ignore persisted strategy if it's not persistable anymore
             .filter(DockerClientProviderStrategy::isPersistable)
             .peek(strategy -> {
@@ -385,17 +429,45 @@ public abstract class DockerClientProviderStrategy {
             .findFirst();
     }
 
+    private static Stream<? extends DockerClientProviderStrategy> instantiateStrategy(String className) {
+        try {
+            Class<? extends DockerClientProviderStrategy> strategyClass = (Class) Thread
+                .currentThread()
+                .getContextClassLoader()
+                .loadClass(className);
+            return Stream.of(strategyClass.newInstance());
+        } catch (ClassNotFoundException e) {
+            log.warn(
+                "Can't instantiate a strategy from {} (ClassNotFoundException). " +
+                "This probably means that cached configuration refers to a client provider " +
+                "class that is not available in this version of Testcontainers. Other " +
+                "strategies will be tried instead.",
+                className
+            );
+            return Stream.empty();
+        } catch (InstantiationException | IllegalAccessException e) {
+            log.warn("Can't instantiate a strategy from {}", className, e);
+            return Stream.empty();
+        }
+    }
+
     public static DockerClient getClientForConfig(TransportConfig transportConfig) {
         final DockerHttpClient dockerHttpClient;
 
-        String transportType = TestcontainersConfiguration.getInstance().getTransportType();
+        TestcontainersConfiguration configuration = TestcontainersConfiguration.getInstance();
+        String transportType = configuration.getTransportType();
         switch (transportType) {
             case "httpclient5":
+                // Streams such as followed logs hold their connection for a long time, they get a pool of their own
                 dockerHttpClient =
-                    new ZerodepDockerHttpClient.Builder()
-                        .dockerHost(transportConfig.getDockerHost())
-                        .sslConfig(transportConfig.getSslConfig())
-                        .build();
+                    new PooledDockerHttpClient(
+                        buildHttpClient(
+                            transportConfig,
+                            configuration.getTransportMaxConnections(),
+                            configuration.getTransportResponseTimeout()
+                        ),
+                        buildHttpClient(transportConfig, configuration.getTransportStreamingMaxConnections(), 0)
+                    );
                 break;
             default:
                 throw new IllegalArgumentException("Unknown transport type '" + transportType + "'");
@@ -431,6 +503,25 @@ public abstract class DockerClientProviderStrategy {
         }
     }
 
+    private static DockerHttpClient buildHttpClient(
+        TransportConfig transportConfig,
+        int maxConnections,
+        int responseTimeoutSeconds
+    ) {
+        ZerodepDockerHttpClient.Builder builder = new ZerodepDockerHttpClient.Builder()
+            .dockerHost(transportConfig.getDockerHost())
+            .sslConfig(transportConfig.getSslConfig())
+            .maxConnections(maxConnections);
+        int connectionTimeoutSeconds = TestcontainersConfiguration.getInstance().getTransportConnectionTimeout();
+        if (connectionTimeoutSeconds > 0) {
+            builder.connectionTimeout(Duration.ofSeconds(connectionTimeoutSeconds));
+        }
+        if (responseTimeoutSeconds > 0) {
+            builder.responseTimeout(Duration.ofSeconds(responseTimeoutSeconds));
+        }
+        return builder.build();
+    }
+
     public synchronized String getDockerHostIpAddress() {
         if (dockerHostIpAddress == null) {
             dockerHostIpAddress =
@@ -0,0 +1,265 @@
+package org.testcontainers.dockerclient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.model.Info;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import lombok.Data;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A persistent cache of what Testcontainers learns about a Docker daemon when it first connects to it: the strategy
+ * that found the daemon, the daemon's info and whether files can be bind mounted into its containers.
+ * <p>
+ * Short-lived JVMs, like the forks of a test suite, would otherwise repeat these checks, one of which starts a
+ * container. Entries are stored per Docker host in {@link TestcontainersConfiguration#getCacheDirectory()} and expire
+ * after {@code daemon.cache.ttl} seconds. The ID of the cached daemon is compared with the one reported by the daemon
+ * at most every {@code daemon.cache.validation.ttl} seconds, a ping suffices in between. For unix sockets, an entry
+ * is also dropped when the socket is recreated, i.e. when the daemon restarts.
+ */
+@UnstableAPI
+@Slf4j
+public class DockerDaemonCache {
+
+    private static final String CACHE_FILE_PREFIX = "docker-daemon-";
+
+    private static final String STRATEGY_FILE_NAME = "docker-strategy.json";
+
+    private static final ObjectMapper OBJECT_MAPPER = DefaultDockerClientConfig
+        .createDefaultConfigBuilder()
+        .build()
+        .getObjectMapper();
+
+    @Getter(lazy = true)
+    private static final DockerDaemonCache instance = new DockerDaemonCache(
+        TestcontainersConfiguration.getInstance().getCacheDirectory(),
+        Duration.ofSeconds(TestcontainersConfiguration.getInstance().getDaemonCacheTtl()),
+        Duration.ofSeconds(TestcontainersConfiguration.getInstance().getDaemonCacheValidationTtl())
+    );
+
+    private final Path cacheDirectory;
+
+    private final Duration ttl;
+
+    private final Duration validationTtl;
+
+    @VisibleForTesting
+    DockerDaemonCache(Path cacheDirectory, Duration ttl, Duration validationTtl) {
+        this.cacheDirectory = cacheDirectory;
+        this.ttl = ttl;
+        this.validationTtl = validationTtl;
+    }
+
+    /**
+     * @param dockerHost the Docker host the daemon is reachable at
+     * @return the cached daemon, unless it is expired or the daemon was restarted since it was cached
+     */
+    public synchronized Optional<Entry> get(URI dockerHost) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return Optional.empty();
+        }
+
+        Entry entry = read(cacheFile(dockerHost), Entry.class);
+        if (entry == null || !dockerHost.toString().equals(entry.getDockerHost()) || entry.getInfo() == null) {
+            return Optional.empty();
+        }
+        if (System.currentTimeMillis() - entry.getCreatedAt() > ttl.toMillis()) {
+            log.debug("Cached Docker daemon for {} expired", dockerHost);
+            return Optional.empty();
+        }
+        if (!Objects.equals(entry.getSocketLastModified(), socketLastModified(dockerHost))) {
+            log.debug("Docker socket {} was recreated since the daemon was cached", dockerHost);
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * Caches a daemon, replacing any previous entry of the same Docker host.
+     *
+     * @param dockerHost the Docker host the daemon is reachable at
+     * @param info the info of the daemon
+     */
+    public synchronized void put(URI dockerHost, Info info) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        Entry entry = new Entry();
+        entry.setDockerHost(dockerHost.toString());
+        entry.setCreatedAt(System.currentTimeMillis());
+        entry.setValidatedAt(entry.getCreatedAt());
+        entry.setSocketLastModified(socketLastModified(dockerHost));
+        entry.setInfo(info);
+        write(cacheFile(dockerHost), entry);
+    }
+
+    /**
+     * @return whether the daemon of the entry must be compared with the one listening on the Docker host again
+     */
+    public boolean needsValidation(Entry entry) {
+        return System.currentTimeMillis() - entry.getValidatedAt() >= validationTtl.toMillis();
+    }
+
+    /**
+     * Updates the valid entry of the Docker host, if there is one.
+     */
+    public synchronized void update(URI dockerHost, Consumer<Entry> update) {
+        get(dockerHost)
+            .ifPresent(entry -> {
+                update.accept(entry);
+                write(cacheFile(dockerHost), entry);
+            });
+    }
+
+    /**
+     * @return the name of the strategy class that last found a Docker daemon, unless it is expired
+     */
+    public synchronized Optional<String> getStrategy() {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return Optional.empty();
+        }
+
+        Selection selection = read(cacheDirectory.resolve(STRATEGY_FILE_NAME), Selection.class);
+        if (selection == null || selection.getStrategy() == null) {
+            return Optional.empty();
+        }
+        if (System.currentTimeMillis() - selection.getCreatedAt() > ttl.toMillis()) {
+            log.debug("Cached Docker client strategy {} expired", selection.getStrategy());
+            return Optional.empty();
+        }
+        return Optional.of(selection.getStrategy());
+    }
+
+    /**
+     * Caches the strategy that found a Docker daemon, so that other JVMs try it before any other strategy that is not
+     * explicitly configured. An unchanged strategy keeps its expiry.
+     *
+     * @param strategy the name of the strategy class
+     */
+    public synchronized void putStrategy(String strategy) {
+        if (ttl.isZero() || ttl.isNegative() || getStrategy().filter(strategy::equals).isPresent()) {
+            return;
+        }
+
+        Selection selection = new Selection();
+        selection.setStrategy(strategy);
+        selection.setCreatedAt(System.currentTimeMillis());
+        write(cacheDirectory.resolve(STRATEGY_FILE_NAME), selection);
+    }
+
+    public synchronized void invalidate(URI dockerHost) {
+        try {
+            Files.deleteIfExists(cacheFile(dockerHost));
+        } catch (IOException e) {
+            log.debug("Can't delete Docker daemon cache of {}", dockerHost, e);
+        }
+    }
+
+    private static <T> T read(Path cacheFile, Class<T> type) {
+        try (InputStream inputStream = Files.newInputStream(cacheFile)) {
+            return OBJECT_MAPPER.readValue(inputStream, type);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.debug("Can't read Docker daemon cache from {}", cacheFile, e);
+            return null;
+        }
+    }
+
+    private void write(Path cacheFile, Object value) {
+        try {
+            Files.createDirectories(cacheDirectory);
+            Path tempFile = Files.createTempFile(cacheDirectory, cacheFile.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                    OBJECT_MAPPER.writeValue(outputStream, value);
+                }
+                try {
+                    Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            log.debug("Can't store Docker daemon cache in {}", cacheFile, e);
+        }
+    }
+
+    private Path cacheFile(URI dockerHost) {
+        String key = Hashing.sha256().hashString(dockerHost.toString(), StandardCharsets.UTF_8).toString();
+        return cacheDirectory.resolve(CACHE_FILE_PREFIX + key.substring(0, 16) + ".json");
+    }
+
+    private static Long socketLastModified(URI dockerHost) {
+        if (!"unix".equals(dockerHost.getScheme())) {
+            return null;
+        }
+        try {
+            return Files.getLastModifiedTime(Paths.get(dockerHost.getPath())).toMillis();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * What is known about a Docker daemon.
+     */
+    @Data
+    public static class Entry {
+
+        private String dockerHost;
+
+        private long createdAt;
+
+        /**
+         * When a JVM last compared the cached daemon with the one listening on the Docker host
+         */
+        private long validatedAt;
+
+        /**
+         * The last modification time of the unix socket the daemon listens on, if any
+         */
+        private Long socketLastModified;
+
+        private Info info;
+
+        /**
+         * Whether files can be bind mounted into containers, {@code null} if it was not checked yet
+         */
+        private Boolean fileMountingSupported;
+    }
+
+    /**
+     * The strategy that last found a Docker daemon.
+     */
+    @Data
+    public static class Selection {
+
+        private String strategy;
+
+        private long createdAt;
+    }
+}
@@ -0,0 +1,138 @@
+package org.testcontainers.dockerclient;
+
+import org.testcontainers.UnstableAPI;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms of the requests sent to the Docker daemon, per endpoint, e.g.
+ * {@code GET /containers/{id}/json}.
+ * <p>
+ * Useful to find out which Docker API calls a test suite spends its time on:
+ * <pre>
+ * DockerEndpointLatencies.getInstance().getHistograms().forEach((endpoint, histogram) -&gt; ...);
+ * </pre>
+ */
+@UnstableAPI
+public final class DockerEndpointLatencies implements DockerClientMetrics {
+
+    private static final DockerEndpointLatencies INSTANCE = new DockerEndpointLatencies();
+
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    DockerEndpointLatencies() {}
+
+    public static DockerEndpointLatencies getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void requestCompleted(String method, String endpoint, int statusCode, long durationNanos) {
+        histograms.computeIfAbsent(method + " " + endpoint, __ -> new Histogram()).record(durationNanos);
+    }
+
+    /**
+     * @return the histograms recorded so far, sorted by endpoint
+     */
+    public Map<String, Histogram> getHistograms() {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder();
+        getHistograms()
+            .forEach((endpoint, histogram) -> summary.append(endpoint).append(": ").append(histogram).append('\n'));
+        return summary.toString();
+    }
+
+    /**
+     * A latency histogram with buckets growing in powers of two, from 1 microsecond to about an hour.
+     */
+    public static final class Histogram {
+
+        private static final int BUCKETS = 32;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long durationNanos) {
+            long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(durationNanos));
+            int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+            buckets[bucket].increment();
+            totalNanos.add(durationNanos);
+            maxNanos.accumulate(durationNanos);
+        }
+
+        public long getCount() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        public Duration getMean() {
+            long count = getCount();
+            return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / count);
+        }
+
+        public Duration getMax() {
+            return Duration.ofNanos(maxNanos.get());
+        }
+
+        /**
+         * @param percentile between 0 and 100, e.g. {@code 99}
+         * @return the upper bound of the bucket containing the given percentile, at most {@link #getMax()}
+         */
+        public Duration getPercentile(double percentile) {
+            long count = getCount();
+            if (count == 0) {
+                return Duration.ZERO;
+            }
+            long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i].sum();
+                if (seen >= rank) {
+                    Duration upperBound = Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(2L << i));
+                    return upperBound.compareTo(getMax()) < 0 ? upperBound : getMax();
+                }
+            }
+            return getMax();
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "count=%d mean=%dms p50=%dms p99=%dms max=%dms",
+                getCount(),
+                getMean().toMillis(),
+                getPercentile(50).toMillis(),
+                getPercentile(99).toMillis(),
+                getMax().toMillis()
+            );
+        }
+    }
+}
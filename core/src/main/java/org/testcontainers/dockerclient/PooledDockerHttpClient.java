@@ -0,0 +1,136 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sends long-lived streaming requests, such as following logs or events, through a connection pool of their own, so
+ * that they can't exhaust the connections used for short requests, and reports the latency of all requests to the
+ * {@link DockerClientMetrics}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ToString(of = { "requestClient", "streamingClient" })
+class PooledDockerHttpClient implements DockerHttpClient {
+
+    private static final Pattern API_VERSION_PREFIX = Pattern.compile("^/v\\d+(\\.\\d+)?(?=/)");
+
+    private static final Pattern STREAMING_ENDPOINT = Pattern.compile(
+        "^(/events|/build|/images/create|/images/load|/images/\\{name}/push|/session" +
+        "|/containers/\\{id}/(logs|attach|attach/ws|stats|wait)|/exec/\\{id}/start)$"
+    );
+
+    /**
+     * Endpoints whose second segment is an image name, which may contain slashes itself
+     */
+    private static final Pattern IMAGE_ENDPOINT = Pattern.compile(
+        "^/(images|distribution)/(.+?)(/(json|history|push|tag))?$"
+    );
+
+    /**
+     * Collections whose second segment is the ID or name of an object, unless it is one of {@link #COLLECTION_ACTIONS}
+     */
+    private static final Set<String> COLLECTIONS = new HashSet<>(
+        Arrays.asList(
+            "containers",
+            "exec",
+            "networks",
+            "volumes",
+            "plugins",
+            "services",
+            "nodes",
+            "tasks",
+            "secrets",
+            "configs"
+        )
+    );
+
+    private static final Set<String> COLLECTION_ACTIONS = new HashSet<>(
+        Arrays.asList("json", "create", "prune", "search", "load", "get", "pull", "privileges")
+    );
+
+    private static final List<DockerClientMetrics> METRICS = loadMetrics();
+
+    private final DockerHttpClient requestClient;
+
+    private final DockerHttpClient streamingClient;
+
+    @Override
+    public Response execute(Request request) {
+        String endpoint = endpoint(request.path());
+        DockerHttpClient client = isStreaming(request, endpoint) ? streamingClient : requestClient;
+
+        long startedAt = System.nanoTime();
+        int statusCode = -1;
+        try {
+            Response response = client.execute(request);
+            statusCode = response.getStatusCode();
+            return response;
+        } finally {
+            long durationNanos = System.nanoTime() - startedAt;
+            for (DockerClientMetrics metrics : METRICS) {
+                try {
+                    metrics.requestCompleted(request.method(), endpoint, statusCode, durationNanos);
+                } catch (RuntimeException e) {
+                    log.debug("Failed to record the latency of {} {}", request.method(), endpoint, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            requestClient.close();
+        } finally {
+            streamingClient.close();
+        }
+    }
+
+    private static boolean isStreaming(Request request, String endpoint) {
+        return request.hijackedInput() != null || STREAMING_ENDPOINT.matcher(endpoint).matches();
+    }
+
+    /**
+     * @return the path of a request without API version and query, with IDs and names replaced by placeholders, e.g.
+     * {@code /containers/{id}/json} for {@code /v1.44/containers/2f7a.../json?size=false}
+     */
+    @VisibleForTesting
+    static String endpoint(String path) {
+        int queryIndex = path.indexOf('?');
+        String endpoint = queryIndex < 0 ? path : path.substring(0, queryIndex);
+        endpoint = API_VERSION_PREFIX.matcher(endpoint).replaceFirst("");
+
+        Matcher imageMatcher = IMAGE_ENDPOINT.matcher(endpoint);
+        if (imageMatcher.matches() && !COLLECTION_ACTIONS.contains(imageMatcher.group(2))) {
+            String action = imageMatcher.group(3) != null ? imageMatcher.group(3) : "";
+            return "/" + imageMatcher.group(1) + "/{name}" + action;
+        }
+
+        String[] segments = endpoint.split("/", 4);
+        if (segments.length >= 3 && COLLECTIONS.contains(segments[1]) && !COLLECTION_ACTIONS.contains(segments[2])) {
+            return "/" + segments[1] + "/{id}" + (segments.length == 4 ? "/" + segments[3] : "");
+        }
+        return endpoint;
+    }
+
+    private static List<DockerClientMetrics> loadMetrics() {
+        List<DockerClientMetrics> metrics = new ArrayList<>();
+        metrics.add(DockerEndpointLatencies.getInstance());
+        ServiceLoader.load(DockerClientMetrics.class).forEach(metrics::add);
+        return metrics;
+    }
+}
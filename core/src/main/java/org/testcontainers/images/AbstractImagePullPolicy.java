@@ -20,8 +20,8 @@ public abstract class AbstractImagePullPolicy implements ImagePullPolicy {
             logger.trace("{} is already in image name cache", imageName);
         } else {
             logger.debug("{} is not in image name cache, updating...", imageName);
-            // Was not in cache, inspecting...
-            cachedImageData = LOCAL_IMAGES_CACHE.refreshCache(imageName).orElse(null);
+            // Was not in cache, inspecting unless the cache is kept up to date by image events
+            cachedImageData = LOCAL_IMAGES_CACHE.find(imageName).orElse(null);
 
             if (cachedImageData == null) {
                 log.debug("Not available locally, should pull image: {}", imageName);
@@ -0,0 +1,165 @@
+package org.testcontainers.images;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.containers.ContainerFetchException;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.TestcontainersConfiguration;
+import org.testcontainers.utility.TestcontainersExecutors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Schedules image pulls: at most {@code pull.concurrency} images are pulled at the same time, and concurrent requests
+ * for the same image share a single pull.
+ * <p>
+ * Every {@link RemoteDockerImage} that has to pull goes through this scheduler, so containers, Docker Compose and
+ * {@link org.testcontainers.images.builder.ImageFromDockerfile} dependency images never pull an image twice in
+ * parallel. {@link #prefetch(Collection)} can be used to pull the images of a suite ahead of time, e.g.
+ * <pre>
+ * ImagePullScheduler.getInstance().prefetch(POSTGRES_IMAGE, KAFKA_IMAGE).join();
+ * </pre>
+ */
+@UnstableAPI
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class ImagePullScheduler {
+
+    private static final ImagePullScheduler INSTANCE = new ImagePullScheduler(
+        new Semaphore(TestcontainersConfiguration.getInstance().getImagePullConcurrency(), true)
+    );
+
+    private static final ExecutorService EXECUTOR = TestcontainersExecutors.newExecutor("testcontainers-image-pull");
+
+    private final Semaphore permits;
+
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Queue<PulledImage> pulledImages = new ConcurrentLinkedQueue<>();
+
+    public static ImagePullScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Resolves the image in the background, pulling it if its pull policy requires so.
+     *
+     * @param image the image to resolve
+     * @return a future completed with the name of the image once it is available locally
+     */
+    public CompletableFuture<String> resolveAsync(RemoteDockerImage image) {
+        return CompletableFuture.supplyAsync(image::get, EXECUTOR);
+    }
+
+    /**
+     * Pulls the given images in the background, unless they are already available locally.
+     * The names are passed through the configured {@link org.testcontainers.utility.ImageNameSubstitutor}, just like
+     * the image of a container is.
+     *
+     * @param imageNames the images to pull
+     * @return a future completed once all images are available locally
+     */
+    public CompletableFuture<Void> prefetch(DockerImageName... imageNames) {
+        return prefetch(Arrays.asList(imageNames));
+    }
+
+    /**
+     * @see #prefetch(DockerImageName...)
+     */
+    public CompletableFuture<Void> prefetch(Collection<DockerImageName> imageNames) {
+        return CompletableFuture.allOf(
+            imageNames
+                .stream()
+                .distinct()
+                .map(RemoteDockerImage::new)
+                .map(this::resolveAsync)
+                .toArray(CompletableFuture[]::new)
+        );
+    }
+
+    /**
+     * @return the images pulled so far, in the order their pulls completed
+     */
+    public List<PulledImage> getPulledImages() {
+        return new ArrayList<>(pulledImages);
+    }
+
+    String pull(DockerImageName imageName, Supplier<PulledImage> pull) throws InterruptedException {
+        String key = imageName.asCanonicalNameString();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            log.debug("Image {} is already being pulled, waiting for that pull", imageName);
+            return await(imageName, existing);
+        }
+
+        try {
+            permits.acquire();
+            try {
+                PulledImage pulledImage = pull.get();
+                pulledImages.add(pulledImage);
+                log.info(
+                    "Image {} pull took {} (downloaded {})",
+                    pulledImage.getImageName(),
+                    pulledImage.getDuration(),
+                    FileUtils.byteCountToDisplaySize(pulledImage.getDownloadedBytes())
+                );
+                future.complete(pulledImage.getImageName());
+                return pulledImage.getImageName();
+            } finally {
+                permits.release();
+            }
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static String await(DockerImageName imageName, CompletableFuture<String> future)
+        throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ContainerFetchException("Failed to pull image: " + imageName, (Exception) cause);
+        }
+    }
+
+    /**
+     * An image pulled by the scheduler, with the time its pull took and the number of bytes downloaded.
+     */
+    @Value
+    public static class PulledImage {
+
+        String imageName;
+
+        Duration duration;
+
+        long downloadedBytes;
+    }
+}
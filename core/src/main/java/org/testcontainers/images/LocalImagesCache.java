@@ -7,16 +7,29 @@ import com.github.dockerjava.api.model.Image;
 import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.slf4j.Slf4j;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.ContainerEvents;
 import org.testcontainers.utility.DockerImageName;
 
+import java.io.Closeable;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Cache of the images available locally.
+ * <p>
+ * The cache is populated with a single {@code listImagesCmd} and then kept up to date incrementally from the image
+ * events of the Docker daemon, received through the shared {@link ContainerEvents} stream, so checking whether an
+ * image is available locally does not need any Docker API call. Entries are stored by image ID, with the repository
+ * tags and digests of every image as aliases.
+ */
 @Slf4j
 enum LocalImagesCache {
     INSTANCE;
@@ -24,49 +37,148 @@ enum LocalImagesCache {
     @VisibleForTesting
     final AtomicBoolean initialized = new AtomicBoolean(false);
 
+    /**
+     * Image ID to image data
+     */
     @VisibleForTesting
-    final Map<DockerImageName, ImageData> cache = new ConcurrentHashMap<>();
+    final Map<String, ImageData> images = new ConcurrentHashMap<>();
+
+    /**
+     * Repository tags and digests to image ID
+     */
+    @VisibleForTesting
+    final Map<DockerImageName, String> aliases = new ConcurrentHashMap<>();
+
+    /**
+     * The subscription of the shared event stream the cache is kept up to date from, or {@code -1} if it isn't, i.e.
+     * whether a cache miss means the image is not available locally
+     */
+    private volatile long trackedSubscription = -1;
+
+    private Closeable imageListener;
 
     public ImageData get(DockerImageName imageName) {
         maybeInitCache(DockerClientFactory.instance().client());
-        return cache.get(imageName);
+        return getCached(imageName);
+    }
+
+    /**
+     * Looks the image up, inspecting it only if the cache does not know it and is not kept up to date by image events.
+     */
+    public Optional<ImageData> find(DockerImageName imageName) {
+        ImageData imageData = get(imageName);
+        if (imageData != null || isTracking()) {
+            return Optional.ofNullable(imageData);
+        }
+        return refreshCache(imageName);
     }
 
     public Optional<ImageData> refreshCache(DockerImageName imageName) {
         DockerClient dockerClient = DockerClientFactory.instance().client();
         if (!maybeInitCache(dockerClient)) {
             // Cache may be stale, trying inspectImageCmd...
-
-            InspectImageResponse response = null;
-            try {
-                response = dockerClient.inspectImageCmd(imageName.asCanonicalNameString()).exec();
-            } catch (NotFoundException e) {
-                log.trace("Image {} not found", imageName, e);
-            }
-            if (response != null) {
-                ImageData imageData = ImageData.from(response);
-                cache.put(imageName, imageData);
-                return Optional.of(imageData);
-            } else {
-                cache.remove(imageName);
-                return Optional.empty();
+            if (!refresh(dockerClient, imageName.asCanonicalNameString())) {
+                aliases.remove(imageName);
             }
         }
 
-        return Optional.ofNullable(cache.get(imageName));
+        return Optional.ofNullable(getCached(imageName));
     }
 
-    private synchronized boolean maybeInitCache(DockerClient dockerClient) {
-        if (!initialized.compareAndSet(false, true)) {
+    /**
+     * @return whether the cache is kept up to date, i.e. whether the shared event stream has been live since the
+     * cache was populated
+     */
+    private boolean isTracking() {
+        long subscription = trackedSubscription;
+        if (subscription < 0) {
             return false;
         }
+        ContainerEvents events = ContainerEvents.getInstance();
+        return events.isTracking() && events.getSubscription() == subscription;
+    }
+
+    private ImageData getCached(DockerImageName imageName) {
+        String id = aliases.get(imageName);
+        return id != null ? images.get(id) : null;
+    }
+
+    private boolean maybeInitCache(DockerClient dockerClient) {
+        return !initialized.get() && initCache(dockerClient);
+    }
 
-        if (Boolean.parseBoolean(System.getProperty("useFilter"))) {
+    /**
+     * Concurrent callers block until the cache is populated. {@code initialized} and {@code trackedSubscription} are
+     * only set once it is, so that no caller takes a miss of the partially populated cache for an image not available
+     * locally.
+     */
+    private synchronized boolean initCache(DockerClient dockerClient) {
+        if (initialized.get()) {
             return false;
         }
 
-        populateFromList(dockerClient.listImagesCmd().exec());
+        try {
+            if (Boolean.parseBoolean(System.getProperty("useFilter"))) {
+                return false;
+            }
+
+            // Listen before listing, so that no change between the two is missed
+            trackedSubscription = -1;
+            ContainerEvents events = ContainerEvents.getInstance();
+            if (imageListener == null) {
+                imageListener = events.addImageListener((id, action) -> onImageEvent(dockerClient, id, action));
+            }
+            long subscription = events.getSubscription();
+            boolean tracking = events.isTracking();
+            populateFromList(dockerClient.listImagesCmd().exec());
 
+            if (tracking) {
+                trackedSubscription = subscription;
+            }
+            return true;
+        } finally {
+            initialized.set(true);
+        }
+    }
+
+    private void onImageEvent(DockerClient dockerClient, String id, String action) {
+        try {
+            switch (action) {
+                case "pull":
+                case "tag":
+                case "untag":
+                case "import":
+                case "load":
+                    if (!refresh(dockerClient, id)) {
+                        remove(id);
+                    }
+                    break;
+                case "delete":
+                    remove(id);
+                    break;
+                default:
+                    break;
+            }
+        } catch (Exception e) {
+            // Without a reliable cache, every miss has to be inspected again
+            trackedSubscription = -1;
+            log.debug("Failed to process image event {} for {}", action, id, e);
+        }
+    }
+
+    /**
+     * @return {@code false} if the image does not exist
+     */
+    private boolean refresh(DockerClient dockerClient, String imageNameOrId) {
+        InspectImageResponse response;
+        try {
+            response = dockerClient.inspectImageCmd(imageNameOrId).exec();
+        } catch (NotFoundException e) {
+            log.trace("Image {} not found", imageNameOrId, e);
+            return false;
+        }
+
+        put(response.getId(), ImageData.from(response), response.getRepoTags(), response.getRepoDigests());
         return true;
     }
 
@@ -78,14 +190,30 @@ enum LocalImagesCache {
                 continue;
             }
 
-            cache.putAll(
-                Stream
-                    .of(repoTags)
-                    // Protection against some edge case where local image repository tags end up with duplicates
-                    // making toMap crash at merge time.
-                    .distinct()
-                    .collect(Collectors.toMap(DockerImageName::new, it -> ImageData.from(image)))
+            put(
+                image.getId(),
+                ImageData.from(image),
+                Arrays.asList(repoTags),
+                image.getRepoDigests() != null ? Arrays.asList(image.getRepoDigests()) : null
             );
         }
     }
+
+    private void put(String id, ImageData imageData, List<String> repoTags, List<String> repoDigests) {
+        Set<DockerImageName> names = Stream
+            .of(repoTags, repoDigests)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .map(DockerImageName::new)
+            .collect(Collectors.toSet());
+
+        images.put(id, imageData);
+        aliases.entrySet().removeIf(it -> it.getValue().equals(id) && !names.contains(it.getKey()));
+        names.forEach(name -> aliases.put(name, id));
+    }
+
+    private void remove(String id) {
+        images.remove(id);
+        aliases.values().removeIf(id::equals);
+    }
 }
@@ -30,6 +30,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 @ToString
@@ -81,65 +82,82 @@ public class RemoteDockerImage extends LazyFuture<String> {
             }
 
             // The image is not available locally - pull it
-            logger.info(
-                "Pulling docker image: {}. Please be patient; this may take some time but only needs to be done once.",
-                imageName
-            );
-
-            final Instant startedAt = Instant.now();
-            final Instant lastRetryAllowed = Instant.now().plus(PULL_RETRY_TIME_LIMIT);
-            final AtomicReference<Exception> lastFailure = new AtomicReference<>();
-            final PullImageCmd pullImageCmd = dockerClient
-                .pullImageCmd(imageName.getUnversionedPart())
-                .withTag(imageName.getVersionPart());
-            final AtomicReference<String> dockerImageName = new AtomicReference<>();
-
-            // The following poll interval in ms: 50, 100, 200, 400, 800....
-            // Results in ~70 requests in over 2 minutes
-            final PollInterval interval = IterativePollInterval
-                .iterative(duration -> duration.multipliedBy(2))
-                .startDuration(Duration.ofMillis(50));
-
-            Awaitility
-                .await()
-                .pollInSameThread()
-                .pollDelay(Duration.ZERO) // start checking immediately
-                .atMost(PULL_RETRY_TIME_LIMIT)
-                .pollInterval(interval)
-                .until(
-                    tryImagePullCommand(pullImageCmd, logger, dockerImageName, imageName, lastFailure, lastRetryAllowed)
-                );
+            return ImagePullScheduler.getInstance().pull(imageName, () -> pull(imageName, logger));
+        } catch (DockerClientException e) {
+            throw new ContainerFetchException("Failed to get Docker client for " + imageName, e);
+        }
+    }
 
-            if (dockerImageName.get() == null) {
-                final Exception lastException = lastFailure.get();
-                logger.error(
-                    "Failed to pull image: {}. Please check output of `docker pull {}`",
-                    imageName,
+    private ImagePullScheduler.PulledImage pull(DockerImageName imageName, Logger logger) {
+        logger.info(
+            "Pulling docker image: {}. Please be patient; this may take some time but only needs to be done once.",
+            imageName
+        );
+
+        final Instant startedAt = Instant.now();
+        final Instant lastRetryAllowed = Instant.now().plus(PULL_RETRY_TIME_LIMIT);
+        final AtomicReference<Exception> lastFailure = new AtomicReference<>();
+        final PullImageCmd pullImageCmd = dockerClient
+            .pullImageCmd(imageName.getUnversionedPart())
+            .withTag(imageName.getVersionPart());
+        final AtomicReference<String> dockerImageName = new AtomicReference<>();
+        final AtomicLong downloadedBytes = new AtomicLong();
+
+        // The following poll interval in ms: 50, 100, 200, 400, 800....
+        // Results in ~70 requests in over 2 minutes
+        final PollInterval interval = IterativePollInterval
+            .iterative(duration -> duration.multipliedBy(2))
+            .startDuration(Duration.ofMillis(50));
+
+        Awaitility
+            .await()
+            .pollInSameThread()
+            .pollDelay(Duration.ZERO) // start checking immediately
+            .atMost(PULL_RETRY_TIME_LIMIT)
+            .pollInterval(interval)
+            .until(
+                tryImagePullCommand(
+                    pullImageCmd,
+                    logger,
+                    dockerImageName,
+                    downloadedBytes,
                     imageName,
-                    lastException
-                );
-                throw new ContainerFetchException("Failed to pull image: " + imageName, lastException);
-            }
+                    lastFailure,
+                    lastRetryAllowed
+                )
+            );
 
-            logger.info("Image {} pull took {}", dockerImageName.get(), Duration.between(startedAt, Instant.now()));
-            LocalImagesCache.INSTANCE.refreshCache(imageName);
-            return dockerImageName.get();
-        } catch (DockerClientException e) {
-            throw new ContainerFetchException("Failed to get Docker client for " + imageName, e);
+        if (dockerImageName.get() == null) {
+            final Exception lastException = lastFailure.get();
+            logger.error(
+                "Failed to pull image: {}. Please check output of `docker pull {}`",
+                imageName,
+                imageName,
+                lastException
+            );
+            throw new ContainerFetchException("Failed to pull image: " + imageName, lastException);
         }
+
+        LocalImagesCache.INSTANCE.refreshCache(imageName);
+        return new ImagePullScheduler.PulledImage(
+            dockerImageName.get(),
+            Duration.between(startedAt, Instant.now()),
+            downloadedBytes.get()
+        );
     }
 
     private Callable<Boolean> tryImagePullCommand(
         PullImageCmd pullImageCmd,
         Logger logger,
         AtomicReference<String> dockerImageName,
+        AtomicLong downloadedBytes,
         DockerImageName imageName,
         AtomicReference<Exception> lastFailure,
         Instant lastRetryAllowed
     ) {
         return () -> {
             try {
-                pullImage(pullImageCmd, logger);
+                downloadedBytes.set(pullImage(pullImageCmd, logger).getDownloadedBytes());
                 dockerImageName.set(imageName.asCanonicalNameString());
                 return true;
             } catch (InterruptedException | InternalServerErrorException e) {
@@ -3,19 +3,17 @@ package org.testcontainers.images;
 import com.github.dockerjava.api.command.PullImageResultCallback;
 import com.github.dockerjava.api.model.PullResponseItem;
 import org.slf4j.Logger;
-import org.testcontainers.DockerClientFactory;
 import org.testcontainers.utility.TestcontainersConfiguration;
+import org.testcontainers.utility.TestcontainersExecutors;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@link PullImageResultCallback} with improved logging of pull progress and a 'watchdog' which will abort the pull
@@ -23,17 +21,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class TimeLimitedLoggedPullImageResultCallback extends LoggedPullImageResultCallback {
 
-    private static final AtomicInteger THREAD_ID = new AtomicInteger(0);
-
-    private static final ScheduledExecutorService PROGRESS_WATCHDOG_EXECUTOR = Executors.newScheduledThreadPool(
-        0,
-        runnable -> {
-            Thread t = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable);
-            t.setDaemon(true);
-            t.setName("testcontainers-pull-watchdog-" + THREAD_ID.incrementAndGet());
-            return t;
-        }
-    );
+    private static final ScheduledExecutorService PROGRESS_WATCHDOG_EXECUTOR =
+        TestcontainersExecutors.newScheduledExecutor("testcontainers-pull-watchdog");
 
     private static final Duration PULL_PAUSE_TOLERANCE = Duration.ofSeconds(
         TestcontainersConfiguration.getInstance().getImagePullPauseTimeout()
@@ -0,0 +1,241 @@
+package org.testcontainers.images.builder;
+
+import com.github.dockerjava.api.command.BuildImageCmd;
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.core.LocalDirectorySSLConfig;
+import com.github.dockerjava.transport.SSLConfig;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.dockerclient.TransportConfig;
+import org.testcontainers.utility.CommandLine;
+import org.zeroturnaround.exec.InvalidExitValueException;
+import org.zeroturnaround.exec.ProcessExecutor;
+import org.zeroturnaround.exec.StartedProcess;
+import org.zeroturnaround.exec.stream.slf4j.Slf4jStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds images with BuildKit, through the {@code docker buildx build} command of the local Docker CLI.
+ * <p>
+ * When the build context is a single directory, the CLI syncs it with the BuildKit session protocol, which only
+ * transfers the files that changed since the previous build. Otherwise, the context is streamed to the CLI as a TAR
+ * archive.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class BuildKitBuilder {
+
+    private static final String DOCKER_EXECUTABLE = SystemUtils.IS_OS_WINDOWS ? "docker.exe" : "docker";
+
+    /**
+     * How many lines of the build output are included in the exception of a failed build
+     */
+    private static final int ERROR_OUTPUT_LINES = 20;
+
+    @Getter(lazy = true)
+    private static final boolean available = checkAvailable();
+
+    private final Logger logger;
+
+    /**
+     * @return whether the Docker CLI and its buildx plugin are installed
+     */
+    private static boolean checkAvailable() {
+        if (!CommandLine.executableExists(DOCKER_EXECUTABLE)) {
+            return false;
+        }
+        try {
+            new ProcessExecutor()
+                .command(DOCKER_EXECUTABLE, "buildx", "version")
+                .exitValueNormal()
+                .timeout(30, TimeUnit.SECONDS)
+                .execute();
+            return true;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.debug("docker buildx is not available", e);
+            return false;
+        }
+    }
+
+    /**
+     * @param buildImageCmd the configured build, providing tags, labels, build args and other options
+     * @param contextDirectory the directory to use as build context, or {@code null} to use the archive written by
+     *                         {@code contextWriter}
+     * @param dockerfile the path of the Dockerfile, or {@code null} for the default Dockerfile of the context
+     * @param contextWriter writes the build context as TAR archive
+     */
+    void build(
+        BuildImageCmd buildImageCmd,
+        @Nullable Path contextDirectory,
+        @Nullable String dockerfile,
+        ContextWriter contextWriter
+    ) {
+        warnAboutUnsupportedOptions(buildImageCmd);
+        List<String> command = command(buildImageCmd, contextDirectory, dockerfile);
+        logger.debug("Building image with BuildKit: {}", command);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ProcessExecutor processExecutor = new ProcessExecutor()
+            .command(command)
+            .environment(environment())
+            .redirectOutput(Slf4jStream.of(logger).asDebug())
+            // BuildKit reports its progress on stderr
+            .redirectError(Slf4jStream.of(logger).asDebug())
+            .redirectErrorAlsoTo(output)
+            .exitValueNormal();
+
+        try {
+            if (contextDirectory != null) {
+                processExecutor.executeNoTimeout();
+            } else {
+                PipedInputStream in = new PipedInputStream();
+                StartedProcess process = null;
+                try (OutputStream out = new PipedOutputStream(in)) {
+                    process = processExecutor.redirectInput(in).start();
+                    contextWriter.writeTo(out);
+                } catch (IOException e) {
+                    if (process != null) {
+                        // The CLI stopped reading the context, most likely because the build failed
+                        process.getFuture().get();
+                    }
+                    throw e;
+                }
+                process.getFuture().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DockerClientException("Interrupted while building image", e);
+        } catch (InvalidExitValueException e) {
+            throw buildFailed(output);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InvalidExitValueException) {
+                throw buildFailed(output);
+            }
+            throw new DockerClientException("Could not build image with BuildKit", e.getCause());
+        } catch (IOException e) {
+            throw new DockerClientException("Could not build image with BuildKit", e);
+        }
+    }
+
+    private static List<String> command(
+        BuildImageCmd buildImageCmd,
+        @Nullable Path contextDirectory,
+        @Nullable String dockerfile
+    ) {
+        List<String> command = new ArrayList<>(
+            Arrays.asList(DOCKER_EXECUTABLE, "buildx", "build", "--load", "--progress=plain")
+        );
+        addAll(command, "--tag", buildImageCmd.getTags());
+        addAll(command, "--label", buildImageCmd.getLabels());
+        addAll(command, "--build-arg", buildImageCmd.getBuildArgs());
+        addAll(command, "--add-host", buildImageCmd.getExtraHosts());
+        addAll(command, "--cache-from", buildImageCmd.getCacheFrom());
+        add(command, "--target", buildImageCmd.getTarget());
+        add(command, "--network", buildImageCmd.getNetworkMode());
+        add(command, "--platform", buildImageCmd.getPlatform());
+        add(command, "--file", dockerfile);
+        if (buildImageCmd.getShmsize() != null) {
+            add(command, "--shm-size", buildImageCmd.getShmsize().toString());
+        }
+        if (Boolean.TRUE.equals(buildImageCmd.hasNoCacheEnabled())) {
+            command.add("--no-cache");
+        }
+        if (Boolean.TRUE.equals(buildImageCmd.hasPullEnabled())) {
+            command.add("--pull");
+        }
+        command.add(contextDirectory != null ? contextDirectory.toAbsolutePath().toString() : "-");
+        return command;
+    }
+
+    /**
+     * Warns about the options of the build that {@code docker buildx build} has no flag for, so they would be ignored
+     */
+    private void warnAboutUnsupportedOptions(BuildImageCmd buildImageCmd) {
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("memory", buildImageCmd.getMemory());
+        options.put("memswap", buildImageCmd.getMemswap());
+        options.put("cpushares", buildImageCmd.getCpushares());
+        options.put("cpusetcpus", buildImageCmd.getCpusetcpus());
+        options.put("remote", buildImageCmd.getRemote());
+        options.forEach((option, value) -> {
+            if (value != null) {
+                logger.warn("BuildKit builds do not support the {} option of BuildImageCmd, ignoring it", option);
+            }
+        });
+    }
+
+    private static void add(List<String> command, String option, @Nullable String value) {
+        if (value != null) {
+            command.add(option);
+            command.add(value);
+        }
+    }
+
+    private static void addAll(List<String> command, String option, @Nullable Collection<String> values) {
+        if (values != null) {
+            values.forEach(value -> add(command, option, value));
+        }
+    }
+
+    private static void addAll(List<String> command, String option, @Nullable Map<String, String> values) {
+        if (values != null) {
+            values.forEach((key, value) -> add(command, option, key + "=" + value));
+        }
+    }
+
+    private Map<String, String> environment() {
+        Map<String, String> environment = new HashMap<>();
+        TransportConfig transportConfig = DockerClientFactory.instance().getTransportConfig();
+        SSLConfig sslConfig = transportConfig.getSslConfig();
+        if (sslConfig != null) {
+            if (sslConfig instanceof LocalDirectorySSLConfig) {
+                environment.put("DOCKER_CERT_PATH", ((LocalDirectorySSLConfig) sslConfig).getDockerCertPath());
+                environment.put("DOCKER_TLS_VERIFY", "true");
+            } else {
+                logger.warn(
+                    "Couldn't set DOCKER_CERT_PATH. `sslConfig` is present but it's not LocalDirectorySSLConfig."
+                );
+            }
+        }
+        environment.put("DOCKER_HOST", transportConfig.getDockerHost().toString());
+        return environment;
+    }
+
+    private static DockerClientException buildFailed(ByteArrayOutputStream output) {
+        String[] lines = StringUtils.split(new String(output.toByteArray(), StandardCharsets.UTF_8), '\n');
+        String tail = String.join(
+            "\n",
+            Arrays.asList(lines).subList(Math.max(0, lines.length - ERROR_OUTPUT_LINES), lines.length)
+        );
+        return new DockerClientException("Could not build image: " + tail);
+    }
+
+    interface ContextWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+}
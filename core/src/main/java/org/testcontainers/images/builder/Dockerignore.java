@@ -0,0 +1,205 @@
+package org.testcontainers.images.builder;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The patterns of a {@code .dockerignore} file, matched the way the Docker CLI matches them: the last matching pattern
+ * wins, {@code !} re-includes paths, {@code **} matches any number of directories, and a pattern matching a directory
+ * excludes everything below it.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class Dockerignore {
+
+    static final Dockerignore EMPTY = new Dockerignore(Collections.emptyList());
+
+    private final List<Rule> rules;
+
+    static Dockerignore parse(String content) {
+        List<Rule> rules = new ArrayList<>();
+        for (String line : content.split("\r?\n")) {
+            String pattern = line.trim();
+            if (pattern.isEmpty() || pattern.startsWith("#")) {
+                continue;
+            }
+
+            boolean exception = pattern.startsWith("!");
+            if (exception) {
+                pattern = pattern.substring(1).trim();
+            }
+            pattern = normalize(pattern);
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            rules.add(new Rule(toRegex(pattern), exception));
+        }
+        return new Dockerignore(rules);
+    }
+
+    /**
+     * @param path a path relative to the root of the build context
+     * @return whether the path is excluded from the build context
+     */
+    boolean isExcluded(String path) {
+        String normalizedPath = normalize(path.replace('\\', '/'));
+        if (normalizedPath.isEmpty()) {
+            return false;
+        }
+
+        boolean excluded = false;
+        for (Rule rule : rules) {
+            if (rule.exception == excluded && rule.matches(normalizedPath)) {
+                excluded = !rule.exception;
+            }
+        }
+        return excluded;
+    }
+
+    /**
+     * @return whether paths below an excluded directory may be included again by a {@code !} pattern
+     */
+    boolean hasExceptions() {
+        return rules.stream().anyMatch(rule -> rule.exception);
+    }
+
+    static String normalize(String path) {
+        String normalized = path;
+        while (normalized.startsWith("./") || normalized.startsWith("/")) {
+            normalized = normalized.substring(normalized.startsWith("/") ? 1 : 2);
+        }
+        normalized = normalized.replaceAll("/+", "/").replaceAll("/\\./", "/");
+        if (normalized.equals(".")) {
+            return "";
+        }
+        return normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1) : normalized;
+    }
+
+    private static Pattern toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder("^");
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            switch (c) {
+                case '*':
+                    if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                        i++;
+                        if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '/') {
+                            // "**/" matches zero or more directories
+                            i++;
+                            regex.append("(.*/)?");
+                        } else {
+                            regex.append(".*");
+                        }
+                    } else {
+                        regex.append("[^/]*");
+                    }
+                    break;
+                case '?':
+                    regex.append("[^/]");
+                    break;
+                case '[':
+                    i = appendCharacterClass(pattern, i, regex);
+                    break;
+                case '\\':
+                    if (i + 1 >= pattern.length()) {
+                        throw invalidPattern(pattern);
+                    }
+                    regex.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+                    break;
+                default:
+                    regex.append(Pattern.quote(String.valueOf(c)));
+            }
+            i++;
+        }
+        return Pattern.compile(regex.append("$").toString());
+    }
+
+    /**
+     * Appends the character class starting at {@code start}, validated like Go's {@code filepath.Match} does.
+     *
+     * @return the index of the closing bracket
+     */
+    private static int appendCharacterClass(String pattern, int start, StringBuilder regex) {
+        StringBuilder characterClass = new StringBuilder("[");
+        int i = start + 1;
+        if (i < pattern.length() && pattern.charAt(i) == '^') {
+            characterClass.append('^');
+            i++;
+        }
+
+        boolean empty = true;
+        while (true) {
+            if (i >= pattern.length()) {
+                throw invalidPattern(pattern);
+            }
+            if (pattern.charAt(i) == ']' && !empty) {
+                break;
+            }
+
+            i = appendClassCharacter(pattern, i, characterClass);
+            if (i < pattern.length() && pattern.charAt(i) == '-') {
+                characterClass.append('-');
+                i = appendClassCharacter(pattern, i + 1, characterClass);
+            }
+            empty = false;
+        }
+
+        regex.append(characterClass).append(']');
+        return i;
+    }
+
+    private static int appendClassCharacter(String pattern, int i, StringBuilder characterClass) {
+        if (i >= pattern.length()) {
+            throw invalidPattern(pattern);
+        }
+        char c = pattern.charAt(i);
+        if (c == '-' || c == ']') {
+            throw invalidPattern(pattern);
+        }
+        if (c == '\\') {
+            i++;
+            if (i >= pattern.length()) {
+                throw invalidPattern(pattern);
+            }
+            c = pattern.charAt(i);
+        }
+        if (c == '/') {
+            throw invalidPattern(pattern);
+        }
+        if (!Character.isLetterOrDigit(c)) {
+            characterClass.append('\\');
+        }
+        characterClass.append(c);
+        return i + 1;
+    }
+
+    private static DockerClientException invalidPattern(String pattern) {
+        return new DockerClientException("Invalid pattern in .dockerignore: " + pattern);
+    }
+
+    @RequiredArgsConstructor
+    private static class Rule {
+
+        private final Pattern regex;
+
+        private final boolean exception;
+
+        boolean matches(String path) {
+            // A pattern matching a directory matches everything below it as well
+            int end = path.length();
+            while (end > 0) {
+                if (regex.matcher(path.substring(0, end)).matches()) {
+                    return true;
+                }
+                end = path.lastIndexOf('/', end - 1);
+            }
+            return false;
+        }
+    }
+}
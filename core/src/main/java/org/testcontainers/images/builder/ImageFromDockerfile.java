@@ -3,15 +3,21 @@ package org.testcontainers.images.builder;
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.BuildImageCmd;
 import com.github.dockerjava.api.command.BuildImageResultCallback;
+import com.github.dockerjava.api.exception.NotFoundException;
 import com.github.dockerjava.api.model.BuildResponseItem;
+import com.google.common.annotations.VisibleForTesting;
 import lombok.Cleanup;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.images.ImagePullScheduler;
 import org.testcontainers.images.ParsedDockerfile;
 import org.testcontainers.images.RemoteDockerImage;
 import org.testcontainers.images.builder.traits.BuildContextBuilderTrait;
@@ -20,25 +26,44 @@ import org.testcontainers.images.builder.traits.DockerfileTrait;
 import org.testcontainers.images.builder.traits.FilesTrait;
 import org.testcontainers.images.builder.traits.StringsTrait;
 import org.testcontainers.utility.Base58;
+import org.testcontainers.utility.DigestChecksum;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.DockerLoggerFactory;
+import org.testcontainers.utility.FileDigestCache;
 import org.testcontainers.utility.ImageNameSubstitutor;
 import org.testcontainers.utility.LazyFuture;
+import org.testcontainers.utility.MountableFile;
 import org.testcontainers.utility.ResourceReaper;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
-import java.util.zip.GZIPOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.Checksum;
 
 @Slf4j
 @Getter
@@ -51,10 +76,22 @@ public class ImageFromDockerfile
         StringsTrait<ImageFromDockerfile>,
         DockerfileTrait<ImageFromDockerfile> {
 
-    private final String dockerImageName;
+    private static final String DOCKERIGNORE = ".dockerignore";
+
+    private static final String CONTENT_ADDRESSED_REPOSITORY = "localhost/testcontainers/content-addressed";
+
+    private static final AtomicLong CONTENT_ADDRESSED_HITS = new AtomicLong();
+
+    private static final AtomicLong CONTENT_ADDRESSED_MISSES = new AtomicLong();
+
+    private String dockerImageName;
 
     private boolean deleteOnExit = true;
 
+    private Optional<String> contentAddressedRepository = Optional.empty();
+
+    private boolean buildKit = false;
+
     private final Map<String, Transferable> transferables = new HashMap<>();
 
     private final Map<String, String> buildArgs = new HashMap<>();
@@ -93,13 +130,87 @@ public class ImageFromDockerfile
         return this;
     }
 
+    /**
+     * Names the image after a hash of its build context, Dockerfile, build args and target, so that the build is
+     * skipped when an image with the same content was already built, e.g. by another JVM running the same tests.
+     * The image is retained on exit, so that later runs can reuse it.
+     * <p>
+     * Images referenced by {@code FROM} are identified by their name only, and modifications applied with
+     * {@link #withBuildImageCmdModifier(Consumer)} are not part of the hash.
+     *
+     * @return this
+     */
+    @UnstableAPI
+    public ImageFromDockerfile withContentAddressedName() {
+        return withContentAddressedName(CONTENT_ADDRESSED_REPOSITORY);
+    }
+
+    /**
+     * Same as {@link #withContentAddressedName()}, but tags the image in the given repository.
+     *
+     * @param repository the repository of the image, e.g. {@code localhost/my-service}
+     * @return this
+     */
+    @UnstableAPI
+    public ImageFromDockerfile withContentAddressedName(String repository) {
+        this.contentAddressedRepository = Optional.of(repository);
+        this.deleteOnExit = false;
+        return this;
+    }
+
+    /**
+     * Builds the image with BuildKit instead of the legacy builder, so that independent stages of multi-stage
+     * Dockerfiles are built in parallel and features like cache mounts are available. When the build context is a
+     * single directory, e.g. {@code .withFileFromPath(".", directory)}, only the files changed since the previous
+     * build are transferred.
+     * <p>
+     * BuildKit builds are run with the {@code docker buildx build} command, so the Docker CLI with the buildx plugin
+     * must be installed. Without the Docker CLI or its buildx plugin, the image is built with the legacy builder.
+     *
+     * @return this
+     */
+    @UnstableAPI
+    public ImageFromDockerfile withBuildKit() {
+        this.buildKit = true;
+        return this;
+    }
+
+    /**
+     * @return how many content addressed images were found locally, so that their build was skipped
+     */
+    @UnstableAPI
+    public static long getContentAddressedHits() {
+        return CONTENT_ADDRESSED_HITS.get();
+    }
+
+    /**
+     * @return how many content addressed images had to be built
+     */
+    @UnstableAPI
+    public static long getContentAddressedMisses() {
+        return CONTENT_ADDRESSED_MISSES.get();
+    }
+
     @Override
     protected final String resolve() {
-        Logger logger = DockerLoggerFactory.getLogger(dockerImageName);
-
         //noinspection resource
         DockerClient dockerClient = DockerClientFactory.instance().client();
 
+        if (contentAddressedRepository.isPresent()) {
+            dockerImageName = contentAddressedRepository.get() + ":" + contentHash();
+            if (imageExists(dockerClient, dockerImageName)) {
+                CONTENT_ADDRESSED_HITS.incrementAndGet();
+                log.info(
+                    "Image {} was already built from the same build context, skipping the build",
+                    dockerImageName
+                );
+                return dockerImageName;
+            }
+            CONTENT_ADDRESSED_MISSES.incrementAndGet();
+        }
+
+        Logger logger = DockerLoggerFactory.getLogger(dockerImageName);
+
         try {
             BuildImageResultCallback resultCallback = new BuildImageResultCallback() {
                 @Override
@@ -136,37 +247,279 @@ public class ImageFromDockerfile
 
             prePullDependencyImages(dependencyImageNames);
 
-            BuildImageResultCallback exec = buildImageCmd.exec(resultCallback);
+            if (buildKit) {
+                if (BuildKitBuilder.isAvailable()) {
+                    buildWithBuildKit(buildImageCmd, logger);
+                    return dockerImageName;
+                }
+                log.warn("Docker CLI with buildx not found, building image {} without BuildKit", dockerImageName);
+            }
 
-            long bytesToDockerDaemon = 0;
+            BuildImageResultCallback exec = buildImageCmd.exec(resultCallback);
 
             // To build an image, we have to send the context to Docker in TAR archive format
-            try (TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(new GZIPOutputStream(out))) {
-                tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-                tarArchive.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+            transferBuildContext(out, shouldCompressBuildContext());
+
+            exec.awaitImageId();
+
+            return dockerImageName;
+        } catch (IOException e) {
+            throw new RuntimeException("Can't close DockerClient", e);
+        }
+    }
+
+    private void buildWithBuildKit(BuildImageCmd buildImageCmd, Logger logger) {
+        // Like the legacy builder, use the directory of a Dockerfile set with withDockerfile(Path) as build context
+        Optional<Path> contextDirectory = dockerfile.isPresent()
+            ? dockerfile.map(path -> path.toAbsolutePath().getParent())
+            : getContextDirectory();
+        String dockerfilePath;
+        if (contextDirectory.isPresent()) {
+            Path directory = contextDirectory.get();
+            dockerfilePath =
+                dockerfile
+                    .map(path -> path.toAbsolutePath().toString())
+                    .orElseGet(() -> dockerFilePath.map(path -> directory.resolve(path).toString()).orElse(null));
+        } else {
+            dockerfilePath = dockerFilePath.orElse(null);
+        }
 
-                for (Map.Entry<String, Transferable> entry : transferables.entrySet()) {
-                    Transferable transferable = entry.getValue();
-                    final String destination = entry.getKey();
+        // The CLI reads the archive from a local pipe, where compressing it would only cost time
+        new BuildKitBuilder(logger)
+            .build(
+                buildImageCmd,
+                contextDirectory.orElse(null),
+                dockerfilePath,
+                out -> transferBuildContext(out, false)
+            );
+    }
+
+    /**
+     * @return the directory of the build context, if the build context consists of a single directory
+     */
+    private Optional<Path> getContextDirectory() {
+        if (transferables.size() != 1) {
+            return Optional.empty();
+        }
+        Transferable contextRoot = transferables.containsKey(".") ? transferables.get(".") : transferables.get("");
+        if (contextRoot instanceof MountableFile) {
+            Path path = Paths.get(((MountableFile) contextRoot).getResolvedPath());
+            if (Files.isDirectory(path)) {
+                return Optional.of(path);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void transferBuildContext(OutputStream out, boolean compress) throws IOException {
+        Dockerignore dockerignore = loadDockerignore();
+        Predicate<String> filter = buildContextFilter(dockerignore);
+
+        CountingOutputStream sentBytes = new CountingOutputStream(out);
+        ParallelGzipOutputStream gzipOutputStream = compress
+            ? new ParallelGzipOutputStream(
+                sentBytes,
+                ForkJoinPool.commonPool(),
+                ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE,
+                2 * ForkJoinPool.getCommonPoolParallelism()
+            )
+            : null;
+        CountingOutputStream archiveBytes = new CountingOutputStream(compress ? gzipOutputStream : sentBytes);
+
+        long startedAt = System.nanoTime();
+        int excludedEntries = 0;
+        try (TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(archiveBytes)) {
+            tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            tarArchive.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+
+            for (Map.Entry<String, Transferable> entry : transferables.entrySet()) {
+                Transferable transferable = entry.getValue();
+                final String destination = entry.getKey();
+                if (transferable instanceof MountableFile) {
+                    excludedEntries += ((MountableFile) transferable).transferTo(tarArchive, destination, filter);
+                } else if (filter.test(destination)) {
                     transferable.transferTo(tarArchive, destination);
-                    bytesToDockerDaemon += transferable.getSize();
+                } else {
+                    excludedEntries++;
                 }
-                tarArchive.finish();
             }
+            tarArchive.finish();
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
 
-            log.info("Transferred {} to Docker daemon", FileUtils.byteCountToDisplaySize(bytesToDockerDaemon));
-            if (bytesToDockerDaemon > FileUtils.ONE_MB * 50) {
-                log.warn( // warn if >50MB sent to docker daemon
-                    "A large amount of data was sent to the Docker daemon ({}). Consider using a .dockerignore file for better performance.",
-                    FileUtils.byteCountToDisplaySize(bytesToDockerDaemon)
-                );
+        long bytesToDockerDaemon = archiveBytes.getByteCount();
+        if (excludedEntries > 0) {
+            log.debug("Excluded {} entries matching .dockerignore from the build context", excludedEntries);
+        }
+        if (compress) {
+            log.info(
+                "Transferred {} to Docker daemon ({} compressed) in {} ms, {}/s, compression took {} ms of CPU time",
+                FileUtils.byteCountToDisplaySize(bytesToDockerDaemon),
+                FileUtils.byteCountToDisplaySize(sentBytes.getByteCount()),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                FileUtils.byteCountToDisplaySize(bytesToDockerDaemon * TimeUnit.SECONDS.toNanos(1) / elapsedNanos),
+                TimeUnit.NANOSECONDS.toMillis(gzipOutputStream.getCompressionNanos())
+            );
+        } else {
+            log.info(
+                "Transferred {} to Docker daemon (uncompressed) in {} ms, {}/s",
+                FileUtils.byteCountToDisplaySize(bytesToDockerDaemon),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                FileUtils.byteCountToDisplaySize(bytesToDockerDaemon * TimeUnit.SECONDS.toNanos(1) / elapsedNanos)
+            );
+        }
+        if (bytesToDockerDaemon > FileUtils.ONE_MB * 50) {
+            log.warn( // warn if >50MB sent to docker daemon
+                "A large amount of data was sent to the Docker daemon ({}). Consider using a .dockerignore file for better performance.",
+                FileUtils.byteCountToDisplaySize(bytesToDockerDaemon)
+            );
+        }
+    }
+
+    private static boolean shouldCompressBuildContext() {
+        String compression = TestcontainersConfiguration.getInstance().getBuildContextCompression();
+        switch (compression) {
+            case "gzip":
+                return true;
+            case "none":
+                return false;
+            case "auto":
+                // Over local sockets, compressing takes longer than sending the uncompressed context
+                String scheme = DockerClientFactory.instance().getTransportConfig().getDockerHost().getScheme();
+                return !"unix".equals(scheme) && !"npipe".equals(scheme);
+            default:
+                throw new IllegalArgumentException("Unknown build context compression: " + compression);
+        }
+    }
+
+    /**
+     * Reads the {@code .dockerignore} file from the root of the build context, if there is one.
+     */
+    private Dockerignore loadDockerignore() throws IOException {
+        Transferable dockerignoreFile = transferables.get(DOCKERIGNORE);
+        if (dockerignoreFile instanceof MountableFile) {
+            return Dockerignore.parse(readString(Paths.get(((MountableFile) dockerignoreFile).getResolvedPath())));
+        }
+        if (dockerignoreFile != null) {
+            return Dockerignore.parse(new String(dockerignoreFile.getBytes(), StandardCharsets.UTF_8));
+        }
+
+        for (String root : Arrays.asList(".", "")) {
+            Transferable contextRoot = transferables.get(root);
+            if (contextRoot instanceof MountableFile) {
+                Path path = Paths.get(((MountableFile) contextRoot).getResolvedPath(), DOCKERIGNORE);
+                if (Files.isRegularFile(path)) {
+                    return Dockerignore.parse(readString(path));
+                }
             }
+        }
+        return Dockerignore.EMPTY;
+    }
 
-            exec.awaitImageId();
+    /**
+     * @return accepts the entries of the build context that are not excluded by the {@code .dockerignore} file. The
+     * Dockerfile and the {@code .dockerignore} file itself are always sent, like the Docker CLI does.
+     */
+    private Predicate<String> buildContextFilter(Dockerignore dockerignore) {
+        Set<String> keptPaths = new HashSet<>();
+        keptPaths.add(DOCKERIGNORE);
+        keptPaths.add("Dockerfile");
+        dockerFilePath.ifPresent(path -> keptPaths.add(Dockerignore.normalize(path)));
+        dockerfile.ifPresent(path -> keptPaths.add(path.getFileName().toString()));
+
+        return name -> {
+            String path = Dockerignore.normalize(name.replace('\\', '/'));
+            if (!name.endsWith("/")) {
+                return keptPaths.contains(path) || !dockerignore.isExcluded(path);
+            }
+            // The daemon applies .dockerignore again, so walking into excluded directories only costs time
+            return (
+                !dockerignore.isExcluded(path) ||
+                dockerignore.hasExceptions() ||
+                keptPaths.stream().anyMatch(it -> it.startsWith(path + "/"))
+            );
+        };
+    }
 
-            return dockerImageName;
-        } catch (IOException e) {
-            throw new RuntimeException("Can't close DockerClient", e);
+    private static String readString(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    @VisibleForTesting
+    String contentHash() {
+        DigestChecksum checksum = new DigestChecksum();
+        new TreeMap<>(transferables)
+            .forEach((path, transferable) -> {
+                updateChecksum(checksum, "file", path, Integer.toString(transferable.getFileMode()));
+                try {
+                    transferable.updateChecksum(checksum);
+                } catch (UnsupportedOperationException e) {
+                    // Transferables without a checksum send their bytes by default
+                    byte[] bytes = transferable.getBytes();
+                    checksum.update(bytes, 0, bytes.length);
+                }
+            });
+        new TreeMap<>(buildArgs).forEach((key, value) -> updateChecksum(checksum, "arg", key, value));
+        dockerFilePath.ifPresent(path -> updateChecksum(checksum, "dockerfilePath", path));
+        dockerfile.ifPresent(path -> {
+            updateChecksum(checksum, "dockerfile", path.getFileName().toString());
+            byte[] digest = FileDigestCache.getInstance().digest(path);
+            checksum.update(digest, 0, digest.length);
+            // docker-java sends the directory of the Dockerfile as the build context
+            updateDirectoryChecksum(checksum, path.toAbsolutePath().getParent());
+        });
+        target.ifPresent(it -> updateChecksum(checksum, "target", it));
+        FileDigestCache.getInstance().flush();
+        return checksum.getHexDigest().substring(0, 32);
+    }
+
+    /**
+     * Adds the files of the directory that are not excluded by its {@code .dockerignore} file to the checksum.
+     */
+    @SneakyThrows(IOException.class)
+    private static void updateDirectoryChecksum(Checksum checksum, Path directory) {
+        Path dockerignoreFile = directory.resolve(DOCKERIGNORE);
+        Dockerignore dockerignore = Files.isRegularFile(dockerignoreFile)
+            ? Dockerignore.parse(readString(dockerignoreFile))
+            : Dockerignore.EMPTY;
+
+        Map<String, Path> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths
+                .filter(Files::isRegularFile)
+                .forEach(path -> {
+                    String relativePath = StreamSupport
+                        .stream(directory.relativize(path).spliterator(), false)
+                        .map(Path::toString)
+                        .collect(Collectors.joining("/"));
+                    if (!dockerignore.isExcluded(relativePath)) {
+                        files.put(relativePath, path);
+                    }
+                });
+        }
+
+        files.forEach((relativePath, path) -> {
+            updateChecksum(checksum, "context", relativePath, Integer.toString(MountableFile.getUnixFileMode(path)));
+            byte[] digest = FileDigestCache.getInstance().digest(path);
+            checksum.update(digest, 0, digest.length);
+        });
+    }
+
+    private static void updateChecksum(Checksum checksum, String... values) {
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            checksum.update(bytes, 0, bytes.length);
+            // separate the values, so that e.g. ("ab", "c") and ("a", "bc") differ
+            checksum.update(0);
+        }
+    }
+
+    private static boolean imageExists(DockerClient dockerClient, String imageName) {
+        try {
+            dockerClient.inspectImageCmd(imageName).exec();
+            return true;
+        } catch (NotFoundException e) {
+            return false;
         }
     }
 
@@ -190,24 +543,31 @@ public class ImageFromDockerfile
     }
 
     private void prePullDependencyImages(Set<String> imagesToPull) {
-        imagesToPull.forEach(imageName -> {
-            String resolvedImageName = applyBuildArgsToImageName(imageName);
-            try {
+        CompletableFuture<?>[] pulls = imagesToPull
+            .stream()
+            .map(imageName -> {
+                String resolvedImageName = applyBuildArgsToImageName(imageName);
                 log.info(
                     "Pre-emptively checking local images for '{}', referenced via a Dockerfile. If not available, it will be pulled.",
                     resolvedImageName
                 );
-                new RemoteDockerImage(DockerImageName.parse(resolvedImageName))
-                    .withImageNameSubstitutor(ImageNameSubstitutor.noop())
-                    .get();
-            } catch (Exception e) {
-                log.warn(
-                    "Unable to pre-fetch an image ({}) depended upon by Dockerfile - image build will continue but may fail. Exception message was: {}",
-                    resolvedImageName,
-                    e.getMessage()
-                );
-            }
-        });
+                return ImagePullScheduler
+                    .getInstance()
+                    .resolveAsync(
+                        new RemoteDockerImage(DockerImageName.parse(resolvedImageName))
+                            .withImageNameSubstitutor(ImageNameSubstitutor.noop())
+                    )
+                    .exceptionally(e -> {
+                        log.warn(
+                            "Unable to pre-fetch an image ({}) depended upon by Dockerfile - image build will continue but may fail. Exception message was: {}",
+                            resolvedImageName,
+                            e.getCause() != null ? e.getCause().getMessage() : e.getMessage()
+                        );
+                        return null;
+                    });
+            })
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(pulls).join();
     }
 
     /**
@@ -0,0 +1,147 @@
+package org.testcontainers.images.builder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A gzip {@link OutputStream} that compresses blocks of its input on multiple threads, similar to pigz.
+ * <p>
+ * Every block is written as a gzip member of its own. Concatenated members form a single valid gzip stream
+ * (RFC 1952), which Docker, like any other gzip implementation, decompresses as a whole.
+ */
+final class ParallelGzipOutputStream extends OutputStream {
+
+    static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    private final OutputStream out;
+
+    private final Executor executor;
+
+    private final int blockSize;
+
+    private final int maxPendingBlocks;
+
+    private final Deque<CompletableFuture<byte[]>> pendingBlocks = new ArrayDeque<>();
+
+    private final AtomicLong compressionNanos = new AtomicLong();
+
+    private byte[] block;
+
+    private int blockLength = 0;
+
+    private boolean written = false;
+
+    private boolean closed = false;
+
+    ParallelGzipOutputStream(OutputStream out, Executor executor, int blockSize, int maxPendingBlocks) {
+        this.out = out;
+        this.executor = executor;
+        this.blockSize = blockSize;
+        this.maxPendingBlocks = maxPendingBlocks;
+        this.block = new byte[blockSize];
+    }
+
+    /**
+     * @return the time spent compressing, summed over all threads
+     */
+    long getCompressionNanos() {
+        return compressionNanos.get();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        block[blockLength++] = (byte) b;
+        if (blockLength == blockSize) {
+            submitBlock();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            int length = Math.min(len, blockSize - blockLength);
+            System.arraycopy(b, off, block, blockLength, length);
+            blockLength += length;
+            off += length;
+            len -= length;
+            if (blockLength == blockSize) {
+                submitBlock();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // Only compressed blocks are written, flushing a partial block would hurt the compression ratio
+        while (!pendingBlocks.isEmpty() && pendingBlocks.peek().isDone()) {
+            writeBlock(pendingBlocks.poll());
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            if (blockLength > 0 || !written) {
+                // An empty stream still needs one (empty) member to be valid gzip
+                submitBlock();
+            }
+            while (!pendingBlocks.isEmpty()) {
+                writeBlock(pendingBlocks.poll());
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private void submitBlock() throws IOException {
+        byte[] data = block;
+        int length = blockLength;
+        block = new byte[blockSize];
+        blockLength = 0;
+        written = true;
+
+        pendingBlocks.add(CompletableFuture.supplyAsync(() -> compress(data, length), executor));
+        while (pendingBlocks.size() > maxPendingBlocks) {
+            writeBlock(pendingBlocks.poll());
+        }
+    }
+
+    private void writeBlock(CompletableFuture<byte[]> compressedBlock) throws IOException {
+        try {
+            out.write(compressedBlock.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing the build context");
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to compress the build context", e.getCause());
+        }
+    }
+
+    private byte[] compress(byte[] data, int length) {
+        long startedAt = System.nanoTime();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, 64 * 1024)) {
+            gzip.write(data, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        compressionNanos.addAndGet(System.nanoTime() - startedAt);
+        return compressed.toByteArray();
+    }
+}
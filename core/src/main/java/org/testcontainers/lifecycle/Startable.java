@@ -2,6 +2,7 @@ package org.testcontainers.lifecycle;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface Startable extends AutoCloseable {
     default Set<Startable> getDependencies() {
@@ -12,6 +13,30 @@ public interface Startable extends AutoCloseable {
 
     void stop();
 
+    /**
+     * Starts this {@link Startable} and its dependencies asynchronously.
+     * <p>
+     * This does not make the start non-blocking: {@link #start()} is called on a shared executor, and occupies one of
+     * its threads until it returns. For containers, this includes waiting until they are ready with
+     * {@link org.testcontainers.containers.wait.strategy.WaitStrategy#waitUntilReady}, not with its asynchronous
+     * variant.
+     *
+     * @return a {@link CompletableFuture} that resolves once this {@link Startable} has started
+     * @see Startables#deepStart(Startable...)
+     */
+    default CompletableFuture<Void> startAsync() {
+        return Startables.deepStart(this);
+    }
+
+    /**
+     * Stops this {@link Startable} asynchronously.
+     *
+     * @return a {@link CompletableFuture} that resolves once this {@link Startable} has stopped
+     */
+    default CompletableFuture<Void> stopAsync() {
+        return CompletableFuture.runAsync(this::stop, Startables.EXECUTOR);
+    }
+
     @Override
     default void close() {
         stop();
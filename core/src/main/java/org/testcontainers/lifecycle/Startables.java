@@ -1,6 +1,7 @@
 package org.testcontainers.lifecycle;
 
 import lombok.experimental.UtilityClass;
+import org.testcontainers.utility.TestcontainersExecutors;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -8,27 +9,13 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 @UtilityClass
 public class Startables {
 
-    private static final Executor EXECUTOR = Executors.newCachedThreadPool(
-        new ThreadFactory() {
-            private final AtomicLong COUNTER = new AtomicLong(0);
-
-            @Override
-            public Thread newThread(Runnable r) {
-                Thread thread = new Thread(r, "testcontainers-lifecycle-" + COUNTER.getAndIncrement());
-                thread.setDaemon(true);
-                return thread;
-            }
-        }
-    );
+    static final Executor EXECUTOR = TestcontainersExecutors.newExecutor("testcontainers-lifecycle");
 
     /**
      * @see #deepStart(Stream)
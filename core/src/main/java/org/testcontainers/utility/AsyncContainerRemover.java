@@ -0,0 +1,195 @@
+package org.testcontainers.utility;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.google.common.base.Throwables;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
+
+import java.time.Duration;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Removes containers in the background, so that stopping a container does not block the test that stops it.
+ * <p>
+ * Used by {@link org.testcontainers.containers.GenericContainer#stop()} when {@code teardown.async} is enabled. Every
+ * container is removed with a single forced removal, by at most {@code teardown.concurrency} threads at the same time.
+ * Removals still pending when the JVM exits are left to the {@link ResourceReaper}.
+ */
+@UnstableAPI
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class AsyncContainerRemover {
+
+    private static final AsyncContainerRemover INSTANCE = new AsyncContainerRemover(
+        DockerClientFactory.lazyClient(),
+        TestcontainersConfiguration.getInstance().getTeardownConcurrency()
+    );
+
+    private static final ExecutorService EXECUTOR = TestcontainersExecutors.newExecutor("testcontainers-teardown");
+
+    private final DockerClient dockerClient;
+
+    private final int concurrency;
+
+    /**
+     * Containers waiting to be removed, as pairs of container ID and image name
+     */
+    private final Queue<Map.Entry<String, String>> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Set<String> pendingContainerIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger workers = new AtomicInteger();
+
+    private final LongAdder removed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    public static AsyncContainerRemover getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Schedules the removal of a container, including its volumes, and returns immediately.
+     *
+     * @param containerId the ID of the container
+     * @param imageName   the image name of the container (used for logging)
+     */
+    public void remove(String containerId, String imageName) {
+        pending.incrementAndGet();
+        pendingContainerIds.add(containerId);
+        queue.add(new SimpleEntry<>(containerId, imageName));
+        startWorkerIfNeeded();
+    }
+
+    /**
+     * Waits until all the removals scheduled so far are done.
+     *
+     * @param timeout how long to wait at most
+     * @return whether all removals are done
+     */
+    public boolean awaitRemovals(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (pending) {
+            while (pending.get() > 0) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(pending, remainingNanos);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Waits until the removals of the given containers scheduled so far are done, e.g. before removing a network they
+     * are connected to.
+     *
+     * @param containerIds the IDs of the containers
+     * @param timeout how long to wait at most
+     * @return whether the removals of the containers are done
+     */
+    public boolean awaitRemovals(Collection<String> containerIds, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (pending) {
+            while (containerIds.stream().anyMatch(pendingContainerIds::contains)) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(pending, remainingNanos);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of containers scheduled for removal and not removed yet
+     */
+    public int getInFlight() {
+        return pending.get();
+    }
+
+    /**
+     * @return the number of containers removed so far, including containers that were already gone
+     */
+    public long getRemoved() {
+        return removed.sum();
+    }
+
+    /**
+     * @return the number of removals that failed so far
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    private void startWorkerIfNeeded() {
+        if (tryAddWorker()) {
+            EXECUTOR.execute(this::drain);
+        }
+    }
+
+    private boolean tryAddWorker() {
+        int current;
+        do {
+            current = workers.get();
+            if (current >= concurrency) {
+                return false;
+            }
+        } while (!workers.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void drain() {
+        do {
+            Map.Entry<String, String> container;
+            while ((container = queue.poll()) != null) {
+                removeContainer(container.getKey(), container.getValue());
+            }
+            workers.decrementAndGet();
+            // A container may have been queued after the queue was found empty, but before this worker stopped
+        } while (!queue.isEmpty() && tryAddWorker());
+    }
+
+    private void removeContainer(String containerId, String imageName) {
+        try {
+            log.trace("Removing container: {}", containerId);
+            dockerClient.removeContainerCmd(containerId).withRemoveVolumes(true).withForce(true).exec();
+            log.debug("Removed container and associated volume(s): {}", imageName);
+            removed.increment();
+        } catch (NotFoundException e) {
+            log.trace("Was going to remove container but it apparently no longer exists: {}", containerId);
+            removed.increment();
+        } catch (Exception e) {
+            log.debug(
+                "Error encountered removing container (ID: {}) - it will be removed at JVM shutdown. Root cause: {}",
+                containerId,
+                Throwables.getRootCause(e).getMessage()
+            );
+            failed.increment();
+        } finally {
+            pendingContainerIds.remove(containerId);
+            pending.decrementAndGet();
+            synchronized (pending) {
+                pending.notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.testcontainers.utility;
+
+import com.google.common.hash.HashCode;
+import lombok.SneakyThrows;
+import org.testcontainers.UnstableAPI;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.Checksum;
+
+/**
+ * A {@link Checksum} backed by a SHA-256 {@link MessageDigest}.
+ * <p>
+ * Allows existing {@link Checksum}-based APIs, such as
+ * {@link org.testcontainers.images.builder.Transferable#updateChecksum(Checksum)}, to produce a collision-resistant
+ * digest instead of a 32-bit checksum.
+ */
+@UnstableAPI
+public class DigestChecksum implements Checksum {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private final MessageDigest messageDigest;
+
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    public DigestChecksum() {
+        this.messageDigest = MessageDigest.getInstance(ALGORITHM);
+    }
+
+    @Override
+    public void update(int b) {
+        messageDigest.update((byte) b);
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        messageDigest.update(b, off, len);
+    }
+
+    /**
+     * @return the first 64 bits of the current digest
+     */
+    @Override
+    public long getValue() {
+        return HashCode.fromBytes(getDigest()).padToLong();
+    }
+
+    @Override
+    public void reset() {
+        messageDigest.reset();
+    }
+
+    /**
+     * Computes the digest of the data seen so far without resetting this checksum.
+     *
+     * @return the current digest
+     */
+    @SneakyThrows(CloneNotSupportedException.class)
+    public byte[] getDigest() {
+        return ((MessageDigest) messageDigest.clone()).digest();
+    }
+
+    /**
+     * @return the current digest as a lowercase hex string
+     */
+    public String getHexDigest() {
+        return HashCode.fromBytes(getDigest()).toString();
+    }
+}
@@ -0,0 +1,164 @@
+package org.testcontainers.utility;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A persistent cache of SHA-256 file digests, keyed by the file's path, size and last modification time.
+ * <p>
+ * Similar to the file hash caches of build tools, unchanged files are not read again when their digest is requested,
+ * even across JVMs. The cache is stored in {@link TestcontainersConfiguration#getCacheDirectory()}.
+ */
+@UnstableAPI
+@Slf4j
+public class FileDigestCache {
+
+    private static final String CACHE_FILE_NAME = "file-digests.properties";
+
+    @Getter(lazy = true)
+    private static final FileDigestCache instance = new FileDigestCache(
+        TestcontainersConfiguration.getInstance().getCacheDirectory().resolve(CACHE_FILE_NAME)
+    );
+
+    private final Path cacheFile;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    @VisibleForTesting
+    FileDigestCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+        load();
+    }
+
+    /**
+     * Returns the SHA-256 digest of the given file's content, reading the file only if it was modified since the
+     * digest was last computed.
+     *
+     * @param file a regular file
+     * @return the digest of the file's content
+     */
+    @SneakyThrows(IOException.class)
+    public byte[] digest(Path file) {
+        Path absolutePath = file.toAbsolutePath();
+        BasicFileAttributes attributes = Files.readAttributes(absolutePath, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+
+        String key = absolutePath.toString();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.getSize() == size && entry.getLastModified() == lastModified) {
+            return entry.getDigest().asBytes();
+        }
+
+        HashCode digest = MoreFiles.asByteSource(absolutePath).hash(Hashing.sha256());
+        entries.put(key, new Entry(size, lastModified, digest));
+        dirty.set(true);
+        return digest.asBytes();
+    }
+
+    /**
+     * Persists the cache if any digest was computed since it was loaded or last flushed.
+     * Failures are logged and otherwise ignored, as the cache is only an optimization.
+     */
+    public synchronized void flush() {
+        if (!dirty.compareAndSet(true, false)) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        entries.forEach((path, entry) -> properties.setProperty(path, entry.toString()));
+
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path tempFile = Files.createTempFile(cacheFile.getParent(), CACHE_FILE_NAME, ".tmp");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                    properties.store(outputStream, "Testcontainers file digest cache");
+                }
+                try {
+                    Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            log.debug("Can't store file digest cache in {}", cacheFile, e);
+        }
+    }
+
+    private void load() {
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(cacheFile)) {
+            properties.load(inputStream);
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            log.debug("Can't read file digest cache from {}", cacheFile, e);
+            return;
+        }
+
+        for (String path : properties.stringPropertyNames()) {
+            if (!Files.isRegularFile(Paths.get(path))) {
+                // Drop entries of deleted files, e.g. extracted classpath resources
+                dirty.set(true);
+                continue;
+            }
+            try {
+                entries.put(path, Entry.parse(properties.getProperty(path)));
+            } catch (RuntimeException e) {
+                log.debug("Ignoring malformed file digest cache entry for {}", path);
+                dirty.set(true);
+            }
+        }
+    }
+
+    @Value
+    private static class Entry {
+
+        long size;
+
+        long lastModified;
+
+        HashCode digest;
+
+        static Entry parse(String value) {
+            String[] parts = value.split(",");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed entry: " + value);
+            }
+            return new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), HashCode.fromString(parts[2]));
+        }
+
+        @Override
+        public String toString() {
+            return size + "," + lastModified + "," + digest;
+        }
+    }
+}
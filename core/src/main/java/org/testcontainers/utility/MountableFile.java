@@ -9,7 +9,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.archivers.tar.TarConstants;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.SystemUtils;
 import org.jetbrains.annotations.NotNull;
 import org.testcontainers.DockerClientFactory;
@@ -26,12 +25,17 @@ import java.net.URLDecoder;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.util.zip.Checksum;
 
 /**
@@ -324,17 +328,43 @@ public class MountableFile implements Transferable {
      */
     @Override
     public void transferTo(final TarArchiveOutputStream outputStream, String destinationPathInTar) {
-        recursiveTar(destinationPathInTar, this.getResolvedPath(), this.getResolvedPath(), outputStream);
+        transferTo(outputStream, destinationPathInTar, __ -> true);
+    }
+
+    /**
+     * Same as {@link #transferTo(TarArchiveOutputStream, String)}, but only transfers the entries accepted by the
+     * filter. The filter is tested with the name of every entry in the TAR archive, with a trailing {@code /} for
+     * directories. A rejected directory is skipped together with everything below it.
+     *
+     * @param outputStream the output stream to write to
+     * @param destinationPathInTar the destination path
+     * @param filter accepts the names of the entries to transfer
+     * @return the number of entries that were rejected by the filter
+     */
+    @UnstableAPI
+    public int transferTo(
+        final TarArchiveOutputStream outputStream,
+        String destinationPathInTar,
+        Predicate<String> filter
+    ) {
+        return recursiveTar(
+            destinationPathInTar,
+            this.getResolvedPath(),
+            this.getResolvedPath(),
+            outputStream,
+            filter
+        );
     }
 
     /*
      * Recursively copies a file/directory into a TarArchiveOutputStream
      */
-    private void recursiveTar(
+    private int recursiveTar(
         String entryFilename,
         String rootPath,
         String itemPath,
-        TarArchiveOutputStream tarArchive
+        TarArchiveOutputStream tarArchive,
+        Predicate<String> filter
     ) {
         try {
             final File sourceFile = new File(itemPath).getCanonicalFile(); // e.g. /foo/bar/baz
@@ -352,7 +382,12 @@ public class MountableFile implements Transferable {
                 tarEntryFilename = entryFilename + "/" + relativePathToSourceFile; // entry filename e.g. /xyz/bar/baz => /foo/bar/baz
             }
 
-            final TarArchiveEntry tarEntry = new TarArchiveEntry(sourceFile, tarEntryFilename.replaceAll("^/", ""));
+            final String tarEntryName = tarEntryFilename.replaceAll("^/", "");
+            if (!filter.test(sourceFile.isDirectory() ? tarEntryName + "/" : tarEntryName)) {
+                return 1;
+            }
+
+            final TarArchiveEntry tarEntry = new TarArchiveEntry(sourceFile, tarEntryName);
 
             // TarArchiveEntry automatically sets the mode for file/directory, but we can update to ensure that the mode is set exactly (inc executable bits)
             tarEntry.setMode(getUnixFileMode(itemPath));
@@ -364,18 +399,22 @@ public class MountableFile implements Transferable {
             // a directory entry merely needs to exist in the TAR file - there is no data stored yet
             tarArchive.closeArchiveEntry();
 
+            int rejected = 0;
             final File[] children = sourceFile.listFiles();
             if (children != null) {
                 // recurse into child files/directories
                 for (final File child : children) {
-                    recursiveTar(
-                        entryFilename,
-                        sourceRootFile.getCanonicalPath(),
-                        child.getCanonicalPath(),
-                        tarArchive
-                    );
+                    rejected +=
+                        recursiveTar(
+                            entryFilename,
+                            sourceRootFile.getCanonicalPath(),
+                            child.getCanonicalPath(),
+                            tarArchive,
+                            filter
+                        );
                 }
             }
+            return rejected;
         } catch (IOException e) {
             log.error("Error when copying TAR file entry: {}", itemPath, e);
             throw new UncheckedIOException(e); // fail fast
@@ -405,21 +444,37 @@ public class MountableFile implements Transferable {
 
     @SneakyThrows(IOException.class)
     private void checksumFile(File file, Checksum checksum) {
-        Path path = file.toPath();
-        checksum.update(MountableFile.getUnixFileMode(path));
-        if (file.isDirectory()) {
-            try (Stream<Path> stream = Files.walk(path)) {
+        Path root = file.toPath();
+        List<Path> paths;
+        try (Stream<Path> stream = Files.walk(root)) {
+            // sort to get the same checksum regardless of the order in which the filesystem lists files
+            paths =
                 stream
-                    .filter(it -> it != path)
-                    .forEach(it -> {
-                        checksumFile(it.toFile(), checksum);
-                    });
+                    .sorted(Comparator.comparing(path -> relativeUnixPath(root, path)))
+                    .collect(Collectors.toList());
+        }
+
+        for (Path path : paths) {
+            byte[] relativePath = relativeUnixPath(root, path).getBytes(Charsets.UTF_8);
+            checksum.update(relativePath, 0, relativePath.length);
+            checksum.update(MountableFile.getUnixFileMode(path));
+            if (Files.isRegularFile(path)) {
+                byte[] digest = FileDigestCache.getInstance().digest(path);
+                checksum.update(digest, 0, digest.length);
             }
-        } else {
-            FileUtils.checksum(file, checksum);
         }
     }
 
+    /**
+     * @return the path relative to the root, with '/' as separator so that checksums do not depend on the OS
+     */
+    private static String relativeUnixPath(Path root, Path path) {
+        return StreamSupport
+            .stream(root.relativize(path).spliterator(), false)
+            .map(Path::toString)
+            .collect(Collectors.joining("/"));
+    }
+
     @Override
     public int getFileMode() {
         return getUnixFileMode(this.getResolvedPath());
@@ -21,6 +21,7 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.time.Duration;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -249,6 +250,8 @@ public class ResourceReaper {
     }
 
     private void removeNetwork(String id) {
+        awaitRemovalOfConnectedContainers(id);
+
         try {
             List<Network> networks;
             try {
@@ -282,6 +285,31 @@ public class ResourceReaper {
         }
     }
 
+    /**
+     * Waits for the containers connected to the network that are still being removed in the background
+     */
+    private void awaitRemovalOfConnectedContainers(String networkId) {
+        AsyncContainerRemover remover = AsyncContainerRemover.getInstance();
+        if (remover.getInFlight() == 0) {
+            return;
+        }
+
+        try {
+            Map<String, ?> containers = dockerClient
+                .inspectNetworkCmd()
+                .withNetworkId(networkId)
+                .exec()
+                .getContainers();
+            if (containers != null && !remover.awaitRemovals(containers.keySet(), Duration.ofSeconds(30))) {
+                LOGGER.debug("Removing network {} while connected containers are still being removed", networkId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOGGER.trace("Error encountered when looking up containers connected to network {}", networkId, e);
+        }
+    }
+
     /**
      * @deprecated no longer supported API
      */
@@ -372,7 +400,36 @@ public class ResourceReaper {
          * @throws IOException if communication with Ryuk fails
          */
         protected boolean register(List<Map.Entry<String, String>> filters) throws IOException {
-            String query = filters
+            return registerAll(Collections.singletonList(filters)) == 1;
+        }
+
+        /**
+         * Registers several filters with Ryuk at once: all of them are sent in a single write, one per line, before
+         * waiting for their acknowledgments
+         *
+         * @param filtersList the filters to register
+         * @return the number of filters, from the first one, that have been registered successfully
+         * @throws IOException if communication with Ryuk fails
+         */
+        protected int registerAll(List<List<Map.Entry<String, String>>> filtersList) throws IOException {
+            StringBuilder message = new StringBuilder();
+            for (List<Map.Entry<String, String>> filters : filtersList) {
+                String query = toQuery(filters);
+                log.debug("Sending '{}' to Ryuk", query);
+                message.append(query).append('\n');
+            }
+            out.write(message.toString().getBytes());
+            out.flush();
+
+            int acknowledged = 0;
+            while (acknowledged < filtersList.size() && waitForAcknowledgment(in)) {
+                acknowledged++;
+            }
+            return acknowledged;
+        }
+
+        private static String toQuery(List<Map.Entry<String, String>> filters) {
+            return filters
                 .stream()
                 .map(it -> {
                     try {
@@ -384,13 +441,6 @@ public class ResourceReaper {
                     }
                 })
                 .collect(Collectors.joining("&"));
-
-            log.debug("Sending '{}' to Ryuk", query);
-            out.write(query.getBytes());
-            out.write('\n');
-            out.flush();
-
-            return waitForAcknowledgment(in);
         }
 
         private static boolean waitForAcknowledgment(BufferedReader in) throws IOException {
@@ -11,6 +11,7 @@ import org.testcontainers.containers.GenericContainer;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
@@ -90,30 +91,43 @@ class RyukResourceReaper extends ResourceReaper {
                         // not set the read timeout, as Ryuk would not send anything unless a new filter is submitted, meaning that we would get a timeout exception pretty quick
                         try (Socket clientSocket = new Socket()) {
                             clientSocket.connect(new InetSocketAddress(host, ryukPort), 5 * 1000);
+                            clientSocket.setTcpNoDelay(true);
                             ResourceReaper.FilterRegistry registry = new ResourceReaper.FilterRegistry(
                                 clientSocket.getInputStream(),
                                 clientSocket.getOutputStream()
                             );
 
-                            synchronized (ResourceReaper.DEATH_NOTE) {
-                                while (true) {
-                                    if (ResourceReaper.DEATH_NOTE.size() <= index) {
+                            while (true) {
+                                List<List<Map.Entry<String, String>>> pending;
+                                // Only hold the lock to pick up new filters, registering filters must not wait for Ryuk
+                                synchronized (ResourceReaper.DEATH_NOTE) {
+                                    while (ResourceReaper.DEATH_NOTE.size() <= index) {
                                         try {
-                                            ResourceReaper.DEATH_NOTE.wait(1_000);
-                                            continue;
+                                            ResourceReaper.DEATH_NOTE.wait();
                                         } catch (InterruptedException e) {
                                             throw new RuntimeException(e);
                                         }
                                     }
-                                    List<Map.Entry<String, String>> filters = ResourceReaper.DEATH_NOTE.get(index);
-                                    boolean isAcknowledged = registry.register(filters);
-                                    if (isAcknowledged) {
-                                        log.debug("Received 'ACK' from Ryuk");
-                                        ryukScheduledLatch.countDown();
-                                        index++;
-                                    } else {
-                                        log.debug("Didn't receive 'ACK' from Ryuk. Will retry to send filters.");
-                                    }
+                                    pending =
+                                        new ArrayList<>(
+                                            ResourceReaper.DEATH_NOTE.subList(index, ResourceReaper.DEATH_NOTE.size())
+                                        );
+                                }
+
+                                // Filters registered while waiting for Ryuk are sent together in the next round trip
+                                long startedAt = System.nanoTime();
+                                int acknowledged = registry.registerAll(pending);
+                                if (acknowledged > 0) {
+                                    log.debug(
+                                        "Received 'ACK' from Ryuk for {} filter(s) in {} ms",
+                                        acknowledged,
+                                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)
+                                    );
+                                    ryukScheduledLatch.countDown();
+                                    index += acknowledged;
+                                }
+                                if (acknowledged < pending.size()) {
+                                    log.debug("Didn't receive 'ACK' from Ryuk. Will retry to send filters.");
                                 }
                             }
                         } catch (IOException e) {
@@ -22,6 +22,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -212,6 +214,14 @@ public class TestcontainersConfiguration {
         return Integer.parseInt(getEnvVarOrProperty("pull.timeout", "120"));
     }
 
+    /**
+     * @return the maximum number of images that are pulled at the same time
+     */
+    @UnstableAPI
+    public int getImagePullConcurrency() {
+        return Integer.parseInt(getEnvVarOrProperty("pull.concurrency", "4"));
+    }
+
     public String getImageSubstitutorClassName() {
         return getEnvVarOrProperty("image.substitutor", null);
     }
@@ -224,6 +234,108 @@ public class TestcontainersConfiguration {
         return Integer.parseInt(getEnvVarOrProperty("client.ping.timeout", "10"));
     }
 
+    /**
+     * @return whether stopped containers are removed in the background by {@link AsyncContainerRemover}
+     */
+    @UnstableAPI
+    public boolean isTeardownAsync() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("teardown.async", "false"));
+    }
+
+    /**
+     * @return the maximum number of containers that {@link AsyncContainerRemover} removes at the same time
+     */
+    @UnstableAPI
+    public int getTeardownConcurrency() {
+        return Integer.parseInt(getEnvVarOrProperty("teardown.concurrency", "4"));
+    }
+
+    /**
+     * @return {@code platform} or {@code virtual}, the kind of threads used by {@link TestcontainersExecutors}
+     */
+    @UnstableAPI
+    public String getExecutorThreads() {
+        return getEnvVarOrProperty("executor.threads", "platform");
+    }
+
+    /**
+     * @return the maximum number of consecutive statements of an init script that are executed as a single batch, or
+     * {@code 0} if init scripts are read as a whole and executed one statement at a time
+     */
+    @UnstableAPI
+    public int getInitScriptBatchSize() {
+        return Integer.parseInt(getEnvVarOrProperty("initscript.batch.size", "0"));
+    }
+
+    /**
+     * @return the directory in which Testcontainers may persist caches that are shared between JVMs
+     */
+    @UnstableAPI
+    public Path getCacheDirectory() {
+        String defaultValue = Paths.get(System.getProperty("user.home"), ".testcontainers").toString();
+        return Paths.get(getEnvVarOrProperty("cache.dir", defaultValue));
+    }
+
+    /**
+     * @return for how long, in seconds, what is learned about a Docker daemon is reused by other JVMs, {@code 0} to
+     * disable the cache
+     */
+    @UnstableAPI
+    public long getDaemonCacheTtl() {
+        return Long.parseLong(getEnvVarOrProperty("daemon.cache.ttl", "3600"));
+    }
+
+    /**
+     * @return for how long, in seconds, a cached Docker daemon is trusted to be the one listening on the Docker host
+     * before its ID is compared again
+     */
+    @UnstableAPI
+    public long getDaemonCacheValidationTtl() {
+        return Long.parseLong(getEnvVarOrProperty("daemon.cache.validation.ttl", "60"));
+    }
+
+    /**
+     * @return {@code auto}, {@code gzip} or {@code none}, how the build context of images built from a Dockerfile is
+     * compressed
+     */
+    @UnstableAPI
+    public String getBuildContextCompression() {
+        return getEnvVarOrProperty("build.context.compression", "auto");
+    }
+
+    /**
+     * @return the maximum number of connections to the Docker daemon used for short requests, e.g. inspecting
+     * containers
+     */
+    @UnstableAPI
+    public int getTransportMaxConnections() {
+        return Integer.parseInt(getEnvVarOrProperty("transport.max.connections", "100"));
+    }
+
+    /**
+     * @return the maximum number of connections to the Docker daemon used for long-lived streams, e.g. following logs
+     */
+    @UnstableAPI
+    public int getTransportStreamingMaxConnections() {
+        return Integer.parseInt(getEnvVarOrProperty("transport.streaming.max.connections", "100"));
+    }
+
+    /**
+     * @return the timeout (in seconds) for connecting to the Docker daemon, {@code 0} for the default of the client
+     */
+    @UnstableAPI
+    public int getTransportConnectionTimeout() {
+        return Integer.parseInt(getEnvVarOrProperty("transport.connection.timeout", "0"));
+    }
+
+    /**
+     * @return the timeout (in seconds) for responses to short requests, {@code 0} to wait indefinitely
+     */
+    @UnstableAPI
+    public int getTransportResponseTimeout() {
+        return Integer.parseInt(getEnvVarOrProperty("transport.response.timeout", "0"));
+    }
+
     @Nullable
     @Contract("_, !null, _ -> !null")
     private String getConfigurable(
@@ -0,0 +1,119 @@
+package org.testcontainers.utility;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates the executors Testcontainers uses internally to start containers, wait for them, and watch image pulls.
+ * <p>
+ * Most of these threads spend their time blocked on Docker API calls or sleeping between polls. When
+ * {@code executor.threads} is set to {@code virtual} and Testcontainers runs on JDK 21 or newer, virtual threads are
+ * used instead of platform threads, so large parallel suites do not end up with hundreds of parked platform threads.
+ * On older JDKs the setting falls back to platform threads.
+ */
+@UnstableAPI
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TestcontainersExecutors {
+
+    @Getter(lazy = true)
+    private static final boolean virtualThreads = resolveVirtualThreads();
+
+    /**
+     * Creates an executor that runs every task on its own (possibly reused) thread.
+     *
+     * @param name the prefix of the names of the threads
+     * @return the executor
+     */
+    public static ExecutorService newExecutor(String name) {
+        return newExecutor(name, isVirtualThreads());
+    }
+
+    /**
+     * Creates a single threaded executor for short-lived scheduled tasks, such as timeouts.
+     *
+     * @param name the prefix of the names of the threads
+     * @return the executor
+     */
+    public static ScheduledExecutorService newScheduledExecutor(String name) {
+        return Executors.newSingleThreadScheduledExecutor(newThreadFactory(name, isVirtualThreads()));
+    }
+
+    static ExecutorService newExecutor(String name, boolean virtual) {
+        ThreadFactory threadFactory = newThreadFactory(name, virtual);
+        if (virtual) {
+            try {
+                Method newThreadPerTaskExecutor = Executors.class.getMethod(
+                    "newThreadPerTaskExecutor",
+                    ThreadFactory.class
+                );
+                return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+            } catch (ReflectiveOperationException e) {
+                log.debug("Executors.newThreadPerTaskExecutor is not available", e);
+            }
+        }
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    static ThreadFactory newThreadFactory(String name, boolean virtual) {
+        if (virtual) {
+            try {
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+                return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                log.debug("Virtual threads are not available", e);
+            }
+        }
+
+        AtomicLong counter = new AtomicLong(0);
+        return runnable -> {
+            Thread thread = new Thread(
+                DockerClientFactory.TESTCONTAINERS_THREAD_GROUP,
+                runnable,
+                name + "-" + counter.getAndIncrement()
+            );
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static boolean resolveVirtualThreads() {
+        String threads = TestcontainersConfiguration.getInstance().getExecutorThreads();
+        switch (threads) {
+            case "platform":
+                return false;
+            case "virtual":
+                try {
+                    Thread.class.getMethod("ofVirtual");
+                    log.debug("Using virtual threads for Testcontainers executors");
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    log.warn(
+                        "executor.threads is set to 'virtual', but virtual threads require JDK 21 or newer. " +
+                        "Falling back to platform threads."
+                    );
+                    return false;
+                }
+            default:
+                // executors are created in static initializers, where an exception would surface far from its cause
+                log.warn(
+                    "Unknown executor.threads value '{}', expected 'platform' or 'virtual'. Using platform threads.",
+                    threads
+                );
+                return false;
+        }
+    }
+}
@@ -2,12 +2,16 @@ package org.testcontainers.containers;
 
 import org.junit.jupiter.api.Test;
 import org.rnorth.ducttape.TimeoutException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
 import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.containers.wait.strategy.WaitStrategy;
 import org.testcontainers.utility.DockerImageName;
 
 import java.io.File;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -161,6 +165,67 @@ class ComposeContainerWithServicesTest {
         }
     }
 
+    @Test
+    void testServicesAreWaitedForConcurrently() {
+        CountDownLatch servicesWaiting = new CountDownLatch(2);
+        try (
+            ComposeContainer compose = new ComposeContainer(DockerImageName.parse("docker:25.0.5"), SIMPLE_COMPOSE_FILE)
+                .waitingFor("redis", rendezvous(servicesWaiting))
+                .waitingFor("other", rendezvous(servicesWaiting))
+        ) {
+            compose.start();
+
+            verifyStartedContainers(compose, "redis-1", "other-1");
+        }
+    }
+
+    @Test
+    void testWaitingFailsFastWhenAServiceFails() {
+        long startedAt = System.nanoTime();
+        Throwable failure = catchThrowable(() -> {
+            try (
+                ComposeContainer compose = new ComposeContainer(
+                    DockerImageName.parse("docker:25.0.5"),
+                    SIMPLE_COMPOSE_FILE
+                )
+                    .withStartupTimeout(Duration.ofMinutes(5))
+                    .waitingFor("redis", Wait.forLogMessage(".*never logged.*", 1))
+                    .waitingFor("other", failing())
+            ) {
+                compose.start();
+            }
+        });
+
+        assertThat(failure).hasStackTraceContaining("other failed");
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMinutes(2));
+    }
+
+    private static WaitStrategy rendezvous(CountDownLatch servicesWaiting) {
+        return new AbstractWaitStrategy() {
+            @Override
+            protected void waitUntilReady() {
+                servicesWaiting.countDown();
+                try {
+                    if (!servicesWaiting.await(1, TimeUnit.MINUTES)) {
+                        throw new ContainerLaunchException("Services weren't waited for concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ContainerLaunchException("Interrupted", e);
+                }
+            }
+        };
+    }
+
+    private static WaitStrategy failing() {
+        return new AbstractWaitStrategy() {
+            @Override
+            protected void waitUntilReady() {
+                throw new ContainerLaunchException("other failed");
+            }
+        };
+    }
+
     private void verifyStartedContainers(final ComposeContainer compose, final String... names) {
         final List<String> containerNames = compose
             .listChildContainers()
@@ -0,0 +1,112 @@
+package org.testcontainers.containers;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class ComposeVariablesTest {
+
+    private final Map<String, String> variables = ImmutableMap.of("TAG", "7.2", "EMPTY", "");
+
+    private final ComposeVariables composeVariables = new ComposeVariables(variables::get);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldInterpolateVariables() {
+        assertThat(composeVariables.interpolate("redis:$TAG")).isEqualTo("redis:7.2");
+        assertThat(composeVariables.interpolate("redis:${TAG}-alpine")).isEqualTo("redis:7.2-alpine");
+        assertThat(composeVariables.interpolate("redis:${MISSING}")).isEqualTo("redis:");
+        assertThat(composeVariables.interpolate("$$TAG")).isEqualTo("$TAG");
+        assertThat(composeVariables.interpolate("100$")).isEqualTo("100$");
+    }
+
+    @Test
+    void shouldApplyDefaultValues() {
+        assertThat(composeVariables.interpolate("${MISSING:-latest}")).isEqualTo("latest");
+        assertThat(composeVariables.interpolate("${MISSING-latest}")).isEqualTo("latest");
+        assertThat(composeVariables.interpolate("${EMPTY:-latest}")).isEqualTo("latest");
+        assertThat(composeVariables.interpolate("${EMPTY-latest}")).isEmpty();
+        assertThat(composeVariables.interpolate("${TAG:-latest}")).isEqualTo("7.2");
+        assertThat(composeVariables.interpolate("${MISSING:-${TAG}}")).isEqualTo("7.2");
+    }
+
+    @Test
+    void shouldApplyAlternativeValues() {
+        assertThat(composeVariables.interpolate("${TAG:+set}")).isEqualTo("set");
+        assertThat(composeVariables.interpolate("${EMPTY:+set}")).isEmpty();
+        assertThat(composeVariables.interpolate("${EMPTY+set}")).isEqualTo("set");
+        assertThat(composeVariables.interpolate("${MISSING+set}")).isEmpty();
+    }
+
+    @Test
+    void shouldRejectMissingRequiredVariables() {
+        assertThat(composeVariables.interpolate("${TAG:?TAG is required}")).isEqualTo("7.2");
+        assertThatThrownBy(() -> composeVariables.interpolate("${MISSING:?MISSING is required}"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("MISSING is required");
+    }
+
+    @Test
+    void shouldRejectInvalidFormats() {
+        assertThatThrownBy(() -> composeVariables.interpolate("${TAG")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> composeVariables.interpolate("${}")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> composeVariables.interpolate("${TAG!}")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldInterpolateDocuments() {
+        Object interpolated = composeVariables.interpolate(
+            ImmutableMap.of(
+                "services",
+                ImmutableMap.of("redis", ImmutableMap.of("image", "redis:${TAG}", "ports", Arrays.asList("6379", 6380)))
+            )
+        );
+
+        assertThat(interpolated)
+            .isEqualTo(
+                ImmutableMap.of(
+                    "services",
+                    ImmutableMap.of(
+                        "redis",
+                        ImmutableMap.of("image", "redis:7.2", "ports", Arrays.asList("6379", 6380))
+                    )
+                )
+            );
+    }
+
+    @Test
+    void shouldReadEnvFile() throws IOException {
+        File envFile = temporaryFolder.resolve(".env").toFile();
+        Files.write(
+            envFile.toPath(),
+            Arrays.asList("# comment", "", "TAG=7.2", "export USER=redis", "QUOTED=\"a b\"", "SINGLE='c'", "BLANK"),
+            StandardCharsets.UTF_8
+        );
+
+        assertThat(ComposeVariables.readEnvFile(envFile))
+            .containsExactly(
+                entry("TAG", "7.2"),
+                entry("USER", "redis"),
+                entry("QUOTED", "a b"),
+                entry("SINGLE", "c"),
+                entry("BLANK", "")
+            );
+        assertThat(ComposeVariables.readEnvFile(temporaryFolder.resolve("missing").toFile()))
+            .isEqualTo(Collections.emptyMap());
+    }
+}
@@ -0,0 +1,79 @@
+package org.testcontainers.containers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.testcontainers.TestImages;
+import org.testcontainers.containers.startupcheck.OneShotStartupCheckStrategy;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@Timeout(30)
+class ContainerEventsTest {
+
+    @Test
+    void shouldTrackContainerState() throws Exception {
+        ContainerEvents containerEvents = ContainerEvents.getInstance();
+        assertThat(containerEvents.isTracking()).isTrue();
+
+        List<String> actions = new CopyOnWriteArrayList<>();
+        try (
+            GenericContainer<?> container = new GenericContainer<>(TestImages.TINY_IMAGE)
+                .withCommand("sh", "-c", "sleep 1")
+                .withStartupCheckStrategy(new OneShotStartupCheckStrategy())
+        ) {
+            try (
+                Closeable listener = containerEvents.addListener((containerId, action) -> {
+                    if (containerId.equals(container.getContainerId())) {
+                        actions.add(action);
+                    }
+                })
+            ) {
+                container.start();
+
+                await().untilAsserted(() -> assertThat(actions).containsSubsequence("start", "die"));
+                assertThat(containerEvents.isRunning(container)).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void shouldSignalContainerEvents() throws Exception {
+        try (GenericContainer<?> container = new GenericContainer<>(TestImages.TINY_IMAGE).withCommand("top")) {
+            container.start();
+            ContainerEvents containerEvents = ContainerEvents.getInstance();
+            assertThat(containerEvents.isRunning(container)).isTrue();
+
+            try (ContainerEvents.Signal signal = containerEvents.signal(container.getContainerId())) {
+                container.getDockerClient().killContainerCmd(container.getContainerId()).exec();
+
+                assertThat(signal.await(Duration.ofSeconds(10))).isTrue();
+                await().untilAsserted(() -> assertThat(containerEvents.isRunning(container)).isFalse());
+            }
+        }
+    }
+
+    @Test
+    void shouldConsiderPausedContainersRunning() throws Exception {
+        try (GenericContainer<?> container = new GenericContainer<>(TestImages.TINY_IMAGE).withCommand("top")) {
+            container.start();
+            ContainerEvents containerEvents = ContainerEvents.getInstance();
+
+            try (ContainerEvents.Signal signal = containerEvents.signal(container.getContainerId())) {
+                container.getDockerClient().pauseContainerCmd(container.getContainerId()).exec();
+
+                assertThat(signal.await(Duration.ofSeconds(10))).isTrue();
+                assertThat(containerEvents.isRunning(container))
+                    .as("paused containers are reported as running by inspectContainer too")
+                    .isTrue();
+            } finally {
+                container.getDockerClient().unpauseContainerCmd(container.getContainerId()).exec();
+            }
+        }
+    }
+}
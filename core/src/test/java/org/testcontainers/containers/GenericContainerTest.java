@@ -37,6 +37,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -295,6 +296,96 @@ class GenericContainerTest {
         assertThat(reportLeakedContainers()).isEmpty();
     }
 
+    @Test
+    void shouldStartFromCheckpointImage() throws Exception {
+        String marker = UUID.randomUUID().toString();
+        String checkpointImage = null;
+        try {
+            String firstWarmUp;
+            try (GenericContainer<?> container = newCheckpointedContainer(marker)) {
+                container.start();
+                assertThat(container.isStartedFromCheckpoint()).isFalse();
+                firstWarmUp = container.execInContainer("cat", "/warm").getStdout();
+            }
+
+            try (GenericContainer<?> container = newCheckpointedContainer(marker)) {
+                container.start();
+                checkpointImage = container.getContainerInfo().getConfig().getImage();
+                assertThat(checkpointImage).startsWith(GenericContainer.CHECKPOINT_REPOSITORY + ":");
+                assertThat(container.isStartedFromCheckpoint()).isTrue();
+                assertThat(container.execInContainer("cat", "/warm").getStdout())
+                    .as("The state of the first container is restored")
+                    .isEqualTo(firstWarmUp);
+            }
+        } finally {
+            if (checkpointImage != null) {
+                DockerClientFactory.instance().client().removeImageCmd(checkpointImage).withForce(true).exec();
+            }
+        }
+    }
+
+    @Test
+    void shouldStartFromCheckpointImageOnAnotherNetwork() throws Exception {
+        String marker = UUID.randomUUID().toString();
+        String checkpointImage = null;
+        try {
+            try (
+                Network network = Network.newNetwork();
+                GenericContainer<?> container = newCheckpointedContainer(marker).withNetwork(network)
+            ) {
+                container.start();
+                assertThat(container.isStartedFromCheckpoint()).isFalse();
+            }
+
+            try (
+                Network network = Network.newNetwork();
+                GenericContainer<?> container = newCheckpointedContainer(marker).withNetwork(network)
+            ) {
+                container.start();
+                checkpointImage = container.getContainerInfo().getConfig().getImage();
+                assertThat(container.isStartedFromCheckpoint())
+                    .as("The network is not part of the checkpoint")
+                    .isTrue();
+            }
+        } finally {
+            if (checkpointImage != null && checkpointImage.startsWith(GenericContainer.CHECKPOINT_REPOSITORY + ":")) {
+                DockerClientFactory.instance().client().removeImageCmd(checkpointImage).withForce(true).exec();
+            }
+        }
+    }
+
+    @Test
+    void shouldNotUseCheckpointImageWhenStateIsKeptInVolumes() {
+        ImageFromDockerfile image = new ImageFromDockerfile("checkpoint-volume")
+            .withDockerfileFromBuilder(builder -> {
+                builder.from(TestImages.TINY_IMAGE.asCanonicalNameString()).volume("/data").build();
+            });
+        String marker = UUID.randomUUID().toString();
+        for (int i = 0; i < 2; i++) {
+            try (
+                GenericContainer<?> container = new GenericContainer<>(image)
+                    .withEnv("MARKER", marker)
+                    .withCommand("top")
+                    .withCheckpoint(true)
+            ) {
+                container.start();
+                assertThat(container.isStartedFromCheckpoint()).isFalse();
+                assertThat(container.getContainerInfo().getConfig().getImage())
+                    .doesNotStartWith(GenericContainer.CHECKPOINT_REPOSITORY);
+            }
+        }
+    }
+
+    private static GenericContainer<?> newCheckpointedContainer(String marker) {
+        // checkpoint {
+        return new GenericContainer<>(TestImages.TINY_IMAGE)
+            .withEnv("MARKER", marker)
+            .withCommand("sh", "-c", "test -e /warm || cat /proc/sys/kernel/random/uuid > /warm; echo warm; top")
+            .waitingFor(Wait.forLogMessage("warm\\n", 1))
+            .withCheckpoint(true);
+        // }
+    }
+
     private static Optional<String> reportLeakedContainers() {
         @SuppressWarnings("resource") // Throws when close is attempted, as this is a global instance.
         DockerClient dockerClient = DockerClientFactory.lazyClient();
@@ -0,0 +1,191 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.model.ExposedPort;
+import com.github.dockerjava.api.model.PortBinding;
+import com.github.dockerjava.api.model.Ports;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NativeDockerComposeTest {
+
+    @Test
+    void shouldStartServicesNatively() {
+        // composeContainerWithNativeCompose {
+        ComposeContainer compose = new ComposeContainer(
+            DockerImageName.parse(ComposeContainerTest.DOCKER_IMAGE),
+            new File("src/test/resources/docker-compose-healthcheck.yml")
+        )
+            .withNativeCompose(true)
+            .withExposedService("redis", 6379);
+        // }
+        try {
+            compose.start();
+
+            assertThat(compose.getContainerByServiceName("redis"))
+                .hasValueSatisfying(container -> {
+                    assertThat(container.isRunning()).isTrue();
+                    assertThat(container.getContainerInfo().getConfig().getLabels())
+                        .containsEntry("com.docker.compose.service", "redis")
+                        .doesNotContainKey("com.docker.compose.version");
+                });
+            assertThat(compose.getServicePort("redis", 6379)).isPositive();
+        } finally {
+            compose.stop();
+        }
+        assertThat(compose.listChildContainers()).isEmpty();
+    }
+
+    @Test
+    void shouldBuildServicesNatively() throws Exception {
+        ComposeContainer compose = new ComposeContainer(
+            DockerImageName.parse(ComposeContainerTest.DOCKER_IMAGE),
+            new File("src/test/resources/compose-native-build/docker-compose.yml")
+        )
+            .withNativeCompose(true);
+        try {
+            compose.start();
+
+            ContainerState container = compose.getContainerByServiceName("custom").get();
+            assertThat(container.execInContainer("cat", "/message.txt").getStdout())
+                .as("the Dockerfile in a subdirectory copies a file from the root of the build context")
+                .isEqualTo("hello from the build context\n");
+        } finally {
+            compose.stop();
+        }
+    }
+
+    @Test
+    void shouldReportUnsupportedFeatures() {
+        NativeDockerCompose compose = compose(
+            ImmutableMap.of(
+                "services",
+                ImmutableMap.of(
+                    "redis",
+                    ImmutableMap.of("image", "redis", "deploy", ImmutableMap.of(), "x-custom", "ignored"),
+                    "app",
+                    ImmutableMap.of("build", ImmutableMap.of("context", ".", "ssh", "default"))
+                ),
+                "configs",
+                ImmutableMap.of()
+            )
+        );
+
+        assertThat(compose.getUnsupportedFeatures())
+            .containsExactlyInAnyOrder(
+                "top-level 'configs'",
+                "service 'redis': 'deploy'",
+                "service 'app': 'build.ssh'"
+            );
+    }
+
+    @Test
+    void shouldSortServicesByDependencies() {
+        NativeDockerCompose compose = compose(
+            ImmutableMap.of(
+                "services",
+                ImmutableMap.of(
+                    "app",
+                    ImmutableMap.of("image", "app", "depends_on", Arrays.asList("db", "cache")),
+                    "db",
+                    ImmutableMap.of("image", "postgres"),
+                    "cache",
+                    ImmutableMap.of(
+                        "image",
+                        "redis",
+                        "depends_on",
+                        ImmutableMap.of("db", ImmutableMap.of("condition", "service_healthy"))
+                    )
+                )
+            )
+        );
+
+        assertThat(compose.sortByDependencies(ImmutableSet.of("app", "db", "cache")))
+            .containsExactly("db", "cache", "app");
+    }
+
+    @Test
+    void shouldRejectCircularDependencies() {
+        NativeDockerCompose compose = compose(
+            ImmutableMap.of(
+                "services",
+                ImmutableMap.of(
+                    "a",
+                    ImmutableMap.of("image", "a", "depends_on", Collections.singletonList("b")),
+                    "b",
+                    ImmutableMap.of("image", "b", "depends_on", Collections.singletonList("a"))
+                )
+            )
+        );
+
+        assertThatThrownBy(() -> compose.sortByDependencies(ImmutableSet.of("a", "b")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Circular dependency");
+    }
+
+    @Test
+    void shouldParsePorts() {
+        assertThat(NativeDockerCompose.portBindings("6379"))
+            .containsExactly(new PortBinding(Ports.Binding.empty(), ExposedPort.tcp(6379)));
+        assertThat(NativeDockerCompose.portBindings(6379))
+            .containsExactly(new PortBinding(Ports.Binding.empty(), ExposedPort.tcp(6379)));
+        assertThat(NativeDockerCompose.portBindings("127.0.0.1:8080:80/udp"))
+            .containsExactly(new PortBinding(Ports.Binding.bindIpAndPort("127.0.0.1", 8080), ExposedPort.udp(80)));
+        assertThat(NativeDockerCompose.portBindings("9000-9001:8000-8001"))
+            .containsExactly(
+                new PortBinding(Ports.Binding.bindPort(9000), ExposedPort.tcp(8000)),
+                new PortBinding(Ports.Binding.bindPort(9001), ExposedPort.tcp(8001))
+            );
+        assertThat(NativeDockerCompose.portBindings(ImmutableMap.of("target", 80, "published", "8080")))
+            .containsExactly(new PortBinding(Ports.Binding.bindPort(8080), ExposedPort.tcp(80)));
+    }
+
+    @Test
+    void shouldSplitVolumes() {
+        assertThat(NativeDockerCompose.splitVolume("/data")).containsExactly("/data");
+        assertThat(NativeDockerCompose.splitVolume("./data:/data:ro")).containsExactly("./data", "/data", "ro");
+        assertThat(NativeDockerCompose.splitVolume("C:\\data:/data")).containsExactly("C:\\data", "/data");
+        assertThat(NativeDockerCompose.splitVolume("data:/var/lib/data")).containsExactly("data", "/var/lib/data");
+    }
+
+    @Test
+    void shouldParseDurationsAndSizes() {
+        assertThat(NativeDockerCompose.parseDuration("1m30s")).isEqualTo(Duration.ofSeconds(90));
+        assertThat(NativeDockerCompose.parseDuration("100ms")).isEqualTo(Duration.ofMillis(100));
+        assertThat(NativeDockerCompose.parseDuration("1.5h")).isEqualTo(Duration.ofMinutes(90));
+        assertThat(NativeDockerCompose.parseDuration("10")).isEqualTo(Duration.ofSeconds(10));
+        assertThatThrownBy(() -> NativeDockerCompose.parseDuration("10 seconds"))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(NativeDockerCompose.parseSize("64m")).isEqualTo(64L * 1024 * 1024);
+        assertThat(NativeDockerCompose.parseSize("1gb")).isEqualTo(1024L * 1024 * 1024);
+        assertThat(NativeDockerCompose.parseSize("512")).isEqualTo(512L);
+    }
+
+    @Test
+    void shouldSplitCommands() {
+        assertThat(NativeDockerCompose.commandLine("redis-server --appendonly yes"))
+            .containsExactly("redis-server", "--appendonly", "yes");
+        assertThat(NativeDockerCompose.commandLine("sh -c 'echo \"hello world\"'"))
+            .containsExactly("sh", "-c", "echo \"hello world\"");
+        assertThat(NativeDockerCompose.commandLine(Arrays.asList("echo", "a b"))).containsExactly("echo", "a b");
+        assertThatThrownBy(() -> NativeDockerCompose.commandLine("echo 'unterminated"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static NativeDockerCompose compose(Map<String, Object> content) {
+        List<ParsedDockerComposeFile> composeFiles = Collections.singletonList(new ParsedDockerComposeFile(content));
+        return new NativeDockerCompose(null, composeFiles, "project", "-", Collections.emptyMap(), Duration.ZERO, null);
+    }
+}
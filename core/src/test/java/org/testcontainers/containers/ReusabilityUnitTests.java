@@ -27,6 +27,7 @@ import org.testcontainers.DockerClientFactory;
 import org.testcontainers.TestImages;
 import org.testcontainers.containers.startupcheck.StartupCheckStrategy;
 import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.MockTestcontainersConfigurationExtension;
 import org.testcontainers.utility.MountableFile;
 import org.testcontainers.utility.TestcontainersConfiguration;
@@ -183,7 +184,7 @@ class ReusabilityUnitTests {
         protected GenericContainer<?> container = makeReusable(
             new GenericContainer(TestImages.TINY_IMAGE) {
                 @Override
-                public void copyFileToContainer(MountableFile mountableFile, String containerPath) {
+                public void copyFilesToContainer(Map<String, Transferable> transferables) {
                     // NOOP
                 }
             }
@@ -0,0 +1,61 @@
+package org.testcontainers.containers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReuseCoordinatorTest {
+
+    @TempDir
+    Path lockDirectory;
+
+    @Test
+    void shouldSerializeStartsWithSameHash() throws Exception {
+        String hash = UUID.randomUUID().toString();
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        try (ReuseCoordinator.Lock lock = ReuseCoordinator.acquire(hash, lockDirectory)) {
+            CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+                try (ReuseCoordinator.Lock otherLock = ReuseCoordinator.acquire(hash, lockDirectory)) {
+                    acquired.countDown();
+                }
+            });
+
+            assertThat(acquired.await(200, TimeUnit.MILLISECONDS)).as("lock is exclusive").isFalse();
+
+            lock.close();
+            other.get(10, TimeUnit.SECONDS);
+            assertThat(acquired.getCount()).isZero();
+        }
+    }
+
+    @Test
+    void shouldNotBlockStartsWithDifferentHashes() throws Exception {
+        // "a" and "b" are spread over different locks
+        try (ReuseCoordinator.Lock lock = ReuseCoordinator.acquire("a", lockDirectory)) {
+            CompletableFuture
+                .runAsync(() -> ReuseCoordinator.acquire("b", lockDirectory).close())
+                .get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void shouldUseBoundedNumberOfLockFiles() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            ReuseCoordinator.acquire(UUID.randomUUID().toString(), lockDirectory).close();
+        }
+
+        try (Stream<Path> lockFiles = Files.list(lockDirectory)) {
+            assertThat(lockFiles.filter(it -> it.toString().endsWith(".lock"))).hasSizeLessThanOrEqualTo(256);
+        }
+    }
+}
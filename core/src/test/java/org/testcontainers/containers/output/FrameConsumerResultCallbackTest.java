@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -219,6 +221,34 @@ class FrameConsumerResultCallbackTest {
         assertThat(consumer.toUtf8String()).isEqualTo(payload);
     }
 
+    @Test
+    void removeColorCodesSplitAcrossFrames() throws IOException {
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        ToStringConsumer consumer = new ToStringConsumer();
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, consumer);
+        callback.onNext(new Frame(StreamType.STDOUT, "\u001B[0;3".getBytes(StandardCharsets.UTF_8)));
+        callback.onNext(new Frame(StreamType.STDOUT, "2mТест\u001B[0m \u001B[x\n".getBytes(StandardCharsets.UTF_8)));
+        callback.close();
+        assertThat(consumer.toUtf8String()).isEqualTo("Тест \u001B[x\n");
+    }
+
+    @Test
+    void passLinesAsSlicesOfFrame() throws IOException {
+        byte[] payload = "first\r\nsecond\rthird\n".getBytes(StandardCharsets.UTF_8);
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        List<OutputFrame> frames = new ArrayList<>();
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, frames::add);
+        callback.onNext(new Frame(StreamType.STDOUT, payload));
+        callback.close();
+
+        assertThat(frames)
+            .extracting(OutputFrame::getUtf8StringWithoutLineEnding)
+            .containsExactly("first", "second", "third", "");
+        assertThat(frames.get(1).getBytes()).isEqualTo("second\r".getBytes(StandardCharsets.UTF_8));
+        assertThat(frames.get(1).asByteBuffer().remaining()).isEqualTo(7);
+        assertThat(frames.get(1).asByteBuffer().isReadOnly()).isTrue();
+    }
+
     private static class BasicConsumer implements Consumer<OutputFrame> {
 
         private StringBuilder input = new StringBuilder();
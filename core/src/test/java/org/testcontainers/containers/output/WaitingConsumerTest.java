@@ -0,0 +1,113 @@
+package org.testcontainers.containers.output;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class WaitingConsumerTest {
+
+    @Test
+    void shouldMatchFramesReceivedBeforeWaiting() throws TimeoutException {
+        WaitingConsumer consumer = new WaitingConsumer();
+        consumer.accept(frame("first\n"));
+        consumer.accept(frame("second\n"));
+
+        consumer.waitUntil(it -> it.getUtf8String().equals("first\n"), 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldCompleteAsyncWaitWhenFrameIsReceived() {
+        WaitingConsumer consumer = new WaitingConsumer();
+        CompletableFuture<Void> future = consumer.waitUntilAsync(it -> it.getUtf8String().contains("ready"), 2);
+
+        consumer.accept(frame("ready\n"));
+        assertThat(future).isNotDone();
+
+        consumer.accept(frame("ready again\n"));
+        assertThat(future).isCompleted();
+        assertThat(consumer.getFrames())
+            .as("the frame completing the wait is consumed")
+            .extracting(OutputFrame::getUtf8String)
+            .containsExactly("ready\n");
+    }
+
+    @Test
+    void shouldKeepFramesReceivedDuringAnotherWait() throws TimeoutException {
+        WaitingConsumer consumer = new WaitingConsumer();
+        CompletableFuture<Void> future = consumer.waitUntilAsync(it -> it.getUtf8String().contains("ready"), 1);
+
+        consumer.accept(frame("starting\n"));
+        consumer.accept(frame("ready\n"));
+        assertThat(future).isCompleted();
+
+        consumer.waitUntil(it -> it.getUtf8String().equals("starting\n"), 1, TimeUnit.SECONDS);
+        assertThat(
+            catchThrowable(() -> consumer.waitUntil(it -> it.getUtf8String().contains("ready"), 1, TimeUnit.SECONDS))
+        )
+            .as("the frame completing the first wait was consumed")
+            .isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void shouldOnlyBufferLastFrames() {
+        WaitingConsumer consumer = new WaitingConsumer();
+        for (int i = 0; i < WaitingConsumer.MAX_BUFFERED_FRAMES + 10; i++) {
+            consumer.accept(frame("line " + i + "\n"));
+        }
+
+        assertThat(consumer.getFrames()).hasSize(WaitingConsumer.MAX_BUFFERED_FRAMES);
+        assertThat(consumer.getFrames().peekFirst().getUtf8String()).isEqualTo("line 10\n");
+        assertThat(consumer.getFrames().peekLast().getUtf8String())
+            .isEqualTo("line " + (WaitingConsumer.MAX_BUFFERED_FRAMES + 9) + "\n");
+    }
+
+    @Test
+    void shouldCompleteBlockingWaitFromAnotherThread() throws Exception {
+        WaitingConsumer consumer = new WaitingConsumer();
+
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 1000; i++) {
+                consumer.accept(frame("line " + i + "\n"));
+            }
+        });
+
+        consumer.waitUntil(it -> it.getUtf8String().equals("line 999\n"), 10, TimeUnit.SECONDS);
+        producer.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldTimeOutWithoutMatchingFrame() {
+        WaitingConsumer consumer = new WaitingConsumer();
+        consumer.accept(frame("something else\n"));
+
+        assertThat(
+            catchThrowable(() -> consumer.waitUntil(it -> it.getUtf8String().contains("ready"), 1, TimeUnit.SECONDS))
+        )
+            .isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void shouldWaitUntilEnd() throws TimeoutException {
+        WaitingConsumer consumer = new WaitingConsumer();
+        CompletableFuture<Void> future = consumer.waitUntilEndAsync();
+
+        consumer.accept(frame("line\n"));
+        assertThat(future).isNotDone();
+
+        consumer.accept(OutputFrame.END);
+        assertThat(future).isCompleted();
+
+        consumer.accept(OutputFrame.END);
+        consumer.waitUntilEnd(1, TimeUnit.SECONDS);
+    }
+
+    private static OutputFrame frame(String line) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, line.getBytes(StandardCharsets.UTF_8));
+    }
+}
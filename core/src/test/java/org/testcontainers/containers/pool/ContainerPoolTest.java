@@ -0,0 +1,121 @@
+package org.testcontainers.containers.pool;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.TestImages;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class ContainerPoolTest {
+
+    @Test
+    void shouldStartAllContainersOfThePool() throws Exception {
+        // containerPool {
+        ContainerPool<GenericContainer<?>> pool = new ContainerPool<>(ContainerPoolTest::newContainer)
+            .withSize(2)
+            .withResetStrategy(ResetStrategy.execInContainer("rm", "-rf", "/tmp/state"));
+        pool.start();
+
+        try (ContainerPool.Lease<GenericContainer<?>> lease = pool.lease()) {
+            GenericContainer<?> container = lease.getContainer();
+            // }
+            assertThat(container.isRunning()).isTrue();
+            assertThat(pool.getIdleCount()).isOne();
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    void shouldResetReturnedContainers() throws Exception {
+        try (
+            ContainerPool<GenericContainer<?>> pool = new ContainerPool<>(ContainerPoolTest::newContainer)
+                .withResetStrategy(ResetStrategy.execInContainer("rm", "-f", "/tmp/state"))
+        ) {
+            String containerId;
+            try (ContainerPool.Lease<GenericContainer<?>> lease = pool.lease()) {
+                containerId = lease.getContainer().getContainerId();
+                lease.getContainer().execInContainer("touch", "/tmp/state");
+            }
+
+            try (ContainerPool.Lease<GenericContainer<?>> lease = pool.lease()) {
+                assertThat(lease.getContainer().getContainerId()).isEqualTo(containerId);
+                assertThat(lease.getContainer().execInContainer("test", "-e", "/tmp/state").getExitCode()).isOne();
+            }
+        }
+    }
+
+    @Test
+    void shouldReplaceContainersThatCannotBeReset() {
+        AtomicInteger created = new AtomicInteger();
+        try (
+            ContainerPool<GenericContainer<?>> pool = new ContainerPool<>(() -> {
+                created.incrementAndGet();
+                return newContainer();
+            })
+                .withResetStrategy(ResetStrategy.recreate())
+        ) {
+            String containerId;
+            try (ContainerPool.Lease<GenericContainer<?>> lease = pool.lease()) {
+                containerId = lease.getContainer().getContainerId();
+            }
+            await().untilAsserted(() -> assertThat(pool.getIdleCount()).isOne());
+
+            try (ContainerPool.Lease<GenericContainer<?>> lease = pool.lease()) {
+                assertThat(lease.getContainer().getContainerId()).isNotEqualTo(containerId);
+                // Closing this lease replaces the container in the background
+                assertThat(created).hasValue(2);
+            }
+        }
+    }
+
+    @Test
+    void shouldWakeUpWaitingLeasesWhenReplacingContainerFails() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        try (
+            ContainerPool<GenericContainer<?>> pool = new ContainerPool<>(() -> {
+                if (created.incrementAndGet() == 2) {
+                    throw new IllegalStateException("Failed to create the replacement");
+                }
+                return newContainer();
+            })
+                .withResetStrategy(ResetStrategy.recreate())
+                .withLeaseTimeout(Duration.ofMinutes(5))
+        ) {
+            CompletableFuture<ContainerPool.Lease<GenericContainer<?>>> waiting;
+            try (ContainerPool.Lease<GenericContainer<?>> lease = pool.lease()) {
+                waiting = CompletableFuture.supplyAsync(pool::lease);
+                await().during(Duration.ofMillis(200)).until(() -> !waiting.isDone());
+            }
+
+            try (ContainerPool.Lease<GenericContainer<?>> lease = waiting.get(1, TimeUnit.MINUTES)) {
+                assertThat(lease.getContainer().isRunning()).isTrue();
+                assertThat(created).hasValue(3);
+            }
+        }
+    }
+
+    @Test
+    void shouldTimeOutWhenAllContainersAreLeased() {
+        try (
+            ContainerPool<GenericContainer<?>> pool = new ContainerPool<>(ContainerPoolTest::newContainer)
+                .withLeaseTimeout(Duration.ofMillis(100));
+            ContainerPool.Lease<GenericContainer<?>> lease = pool.lease()
+        ) {
+            assertThatThrownBy(pool::lease)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No container of the pool was returned");
+        }
+    }
+
+    private static GenericContainer<?> newContainer() {
+        return new GenericContainer<>(TestImages.TINY_IMAGE).withCommand("top");
+    }
+}
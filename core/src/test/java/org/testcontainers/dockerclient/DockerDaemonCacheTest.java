@@ -0,0 +1,111 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.model.Info;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DockerDaemonCacheTest {
+
+    private static final URI DOCKER_HOST = URI.create("tcp://docker.example.com:2376");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldPersistDaemonInfo() throws Exception {
+        cache(tempDir).put(DOCKER_HOST, info());
+
+        DockerDaemonCache cache = cache(tempDir);
+        assertThat(cache.get(DOCKER_HOST))
+            .hasValueSatisfying(entry -> {
+                assertThat(entry.getInfo().getId()).isEqualTo("daemon-id");
+                assertThat(entry.getInfo().getServerVersion()).isEqualTo("28.0.1");
+                assertThat(entry.getFileMountingSupported()).isNull();
+            });
+        assertThat(cache.get(URI.create("tcp://other.example.com:2376"))).isEmpty();
+    }
+
+    @Test
+    void shouldUpdateFileMountingSupport() throws Exception {
+        DockerDaemonCache cache = cache(tempDir);
+        cache.put(DOCKER_HOST, info());
+        cache.update(DOCKER_HOST, entry -> entry.setFileMountingSupported(true));
+
+        assertThat(cache(tempDir).get(DOCKER_HOST))
+            .hasValueSatisfying(entry -> assertThat(entry.getFileMountingSupported()).isTrue());
+    }
+
+    @Test
+    void shouldExpireEntries() throws Exception {
+        cache(tempDir).put(DOCKER_HOST, info());
+        Thread.sleep(10);
+
+        DockerDaemonCache expiredCache = new DockerDaemonCache(tempDir, Duration.ofMillis(1), Duration.ofMillis(1));
+        assertThat(expiredCache.get(DOCKER_HOST)).isEmpty();
+        assertThat(new DockerDaemonCache(tempDir, Duration.ZERO, Duration.ZERO).get(DOCKER_HOST)).isEmpty();
+    }
+
+    @Test
+    void shouldDropEntryWhenSocketIsRecreated() throws Exception {
+        Path socket = Files.createFile(tempDir.resolve("docker.sock"));
+        URI dockerHost = URI.create("unix://" + socket.toAbsolutePath());
+        DockerDaemonCache cache = cache(tempDir.resolve("cache"));
+        cache.put(dockerHost, info());
+        assertThat(cache.get(dockerHost)).isPresent();
+
+        Files.setLastModifiedTime(socket, FileTime.fromMillis(Files.getLastModifiedTime(socket).toMillis() + 1000));
+
+        assertThat(cache.get(dockerHost)).isEmpty();
+    }
+
+    @Test
+    void shouldInvalidateEntries() throws Exception {
+        DockerDaemonCache cache = cache(tempDir);
+        cache.put(DOCKER_HOST, info());
+        cache.invalidate(DOCKER_HOST);
+
+        assertThat(cache.get(DOCKER_HOST)).isEmpty();
+    }
+
+    @Test
+    void shouldOnlyValidateEntriesAfterValidationTtl() throws Exception {
+        DockerDaemonCache cache = new DockerDaemonCache(tempDir, Duration.ofHours(1), Duration.ofMillis(50));
+        cache.put(DOCKER_HOST, info());
+        assertThat(cache.get(DOCKER_HOST).map(cache::needsValidation)).hasValue(false);
+
+        Thread.sleep(100);
+        assertThat(cache.get(DOCKER_HOST).map(cache::needsValidation)).hasValue(true);
+
+        cache.update(DOCKER_HOST, entry -> entry.setValidatedAt(System.currentTimeMillis()));
+        assertThat(cache.get(DOCKER_HOST).map(cache::needsValidation)).hasValue(false);
+    }
+
+    @Test
+    void shouldPersistStrategy() {
+        cache(tempDir).putStrategy(UnixSocketClientProviderStrategy.class.getName());
+
+        assertThat(cache(tempDir).getStrategy()).hasValue(UnixSocketClientProviderStrategy.class.getName());
+        assertThat(new DockerDaemonCache(tempDir, Duration.ZERO, Duration.ZERO).getStrategy()).isEmpty();
+    }
+
+    private static DockerDaemonCache cache(Path cacheDirectory) {
+        return new DockerDaemonCache(cacheDirectory, Duration.ofHours(1), Duration.ofMinutes(1));
+    }
+
+    private static Info info() throws Exception {
+        return DefaultDockerClientConfig
+            .createDefaultConfigBuilder()
+            .build()
+            .getObjectMapper()
+            .readValue("{\"ID\":\"daemon-id\",\"ServerVersion\":\"28.0.1\",\"OSType\":\"linux\"}", Info.class);
+    }
+}
@@ -0,0 +1,126 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledDockerHttpClientTest {
+
+    @Test
+    void shouldNormalizeEndpoints() {
+        assertThat(PooledDockerHttpClient.endpoint("/v1.44/containers/2f7a9c/json?size=false"))
+            .isEqualTo("/containers/{id}/json");
+        assertThat(PooledDockerHttpClient.endpoint("/v1.44/containers/json?all=true")).isEqualTo("/containers/json");
+        assertThat(PooledDockerHttpClient.endpoint("/containers/create?name=foo")).isEqualTo("/containers/create");
+        assertThat(PooledDockerHttpClient.endpoint("/v1.44/containers/2f7a9c")).isEqualTo("/containers/{id}");
+        assertThat(PooledDockerHttpClient.endpoint("/v1.32/exec/abc/start")).isEqualTo("/exec/{id}/start");
+        assertThat(PooledDockerHttpClient.endpoint("/v1.44/images/library/redis:7/json"))
+            .isEqualTo("/images/{name}/json");
+        assertThat(PooledDockerHttpClient.endpoint("/v1.44/images/redis:7")).isEqualTo("/images/{name}");
+        assertThat(PooledDockerHttpClient.endpoint("/v1.44/images/create?fromImage=redis"))
+            .isEqualTo("/images/create");
+        assertThat(PooledDockerHttpClient.endpoint("/_ping")).isEqualTo("/_ping");
+    }
+
+    @Test
+    void shouldSendStreamingRequestsThroughTheirOwnClient() throws Exception {
+        RecordingHttpClient requestClient = new RecordingHttpClient();
+        RecordingHttpClient streamingClient = new RecordingHttpClient();
+        try (PooledDockerHttpClient client = new PooledDockerHttpClient(requestClient, streamingClient)) {
+            client.execute(request("/v1.44/containers/abc/json")).close();
+            client.execute(request("/v1.44/containers/abc/logs?follow=true")).close();
+            client.execute(request("/v1.44/events")).close();
+            client.execute(request("/v1.44/images/create?fromImage=redis")).close();
+            client.execute(request("/v1.44/networks/def")).close();
+        }
+
+        assertThat(requestClient.paths).containsExactly("/v1.44/containers/abc/json", "/v1.44/networks/def");
+        assertThat(streamingClient.paths)
+            .containsExactly(
+                "/v1.44/containers/abc/logs?follow=true",
+                "/v1.44/events",
+                "/v1.44/images/create?fromImage=redis"
+            );
+    }
+
+    @Test
+    void shouldRecordLatencies() throws Exception {
+        DockerEndpointLatencies.getInstance().reset();
+        try (
+            PooledDockerHttpClient client = new PooledDockerHttpClient(
+                new RecordingHttpClient(),
+                new RecordingHttpClient()
+            )
+        ) {
+            client.execute(request("/v1.44/containers/abc/json")).close();
+            client.execute(request("/v1.44/containers/def/json")).close();
+        }
+
+        Map<String, DockerEndpointLatencies.Histogram> histograms = DockerEndpointLatencies
+            .getInstance()
+            .getHistograms();
+        assertThat(histograms).containsOnlyKeys("GET /containers/{id}/json");
+        assertThat(histograms.get("GET /containers/{id}/json").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldComputePercentiles() {
+        DockerEndpointLatencies.Histogram histogram = new DockerEndpointLatencies.Histogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        histogram.record(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getPercentile(50)).isBetween(Duration.ofMillis(1), Duration.ofMillis(3));
+        assertThat(histogram.getPercentile(99)).isBetween(Duration.ofMillis(1), Duration.ofMillis(3));
+        assertThat(histogram.getPercentile(100)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(histogram.getMax()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    private static DockerHttpClient.Request request(String path) {
+        return DockerHttpClient.Request.builder().method("GET").path(path).build();
+    }
+
+    private static class RecordingHttpClient implements DockerHttpClient {
+
+        private final List<String> paths = new ArrayList<>();
+
+        @Override
+        public Response execute(Request request) {
+            paths.add(request.path());
+            return new Response() {
+                @Override
+                public int getStatusCode() {
+                    return 200;
+                }
+
+                @Override
+                public Map<String, List<String>> getHeaders() {
+                    return Collections.emptyMap();
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(new byte[0]);
+                }
+
+                @Override
+                public void close() {}
+            };
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -11,7 +11,11 @@ import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.startupcheck.OneShotStartupCheckStrategy;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 
 class ImagePullPolicyTest {
@@ -40,7 +44,11 @@ class ImagePullPolicyTest {
 
         removeImage();
 
-        try (GenericContainer<?> container = new GenericContainer<>(imageName).withExposedPorts(8080)) {
+        try (
+            GenericContainer<?> container = new GenericContainer<>(imageName)
+                .withImagePullPolicy(__ -> false)
+                .withExposedPorts(8080)
+        ) {
             expectToFailWithNotFoundException(container);
         }
 
@@ -55,6 +63,21 @@ class ImagePullPolicyTest {
         }
     }
 
+    @Test
+    void shouldNoticeRemovedImages() {
+        try (GenericContainer<?> container = new GenericContainer<>(imageName).withExposedPorts(8080)) {
+            container.start();
+        }
+        assertThat(LocalImagesCache.INSTANCE.get(imageName)).isNotNull();
+
+        removeImage();
+        await().atMost(Duration.ofSeconds(10)).until(() -> LocalImagesCache.INSTANCE.get(imageName) == null);
+
+        try (GenericContainer<?> container = new GenericContainer<>(imageName).withExposedPorts(8080)) {
+            container.start();
+        }
+    }
+
     @Test
     void shouldSupportCustomPolicies() {
         try (
@@ -0,0 +1,130 @@
+package org.testcontainers.images;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ImagePullSchedulerTest {
+
+    private static final DockerImageName IMAGE = DockerImageName.parse("example/image:1.0");
+
+    @Test
+    void shouldShareConcurrentPullsOfTheSameImage() throws Exception {
+        ImagePullScheduler scheduler = new ImagePullScheduler(new Semaphore(4));
+        AtomicInteger pulls = new AtomicInteger();
+        CountDownLatch pulling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+            pull(scheduler, IMAGE, () -> {
+                pulls.incrementAndGet();
+                pulling.countDown();
+                await(release);
+            })
+        );
+        assertThat(pulling.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() ->
+            pull(scheduler, IMAGE, pulls::incrementAndGet)
+        );
+        Thread.sleep(100);
+        assertThat(second).as("second pull waits for the first one").isNotDone();
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(IMAGE.asCanonicalNameString());
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(IMAGE.asCanonicalNameString());
+        assertThat(pulls).hasValue(1);
+        assertThat(scheduler.getPulledImages()).hasSize(1);
+    }
+
+    @Test
+    void shouldLimitConcurrentPulls() throws Exception {
+        ImagePullScheduler scheduler = new ImagePullScheduler(new Semaphore(2));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            DockerImageName imageName = DockerImageName.parse("example/image-" + i);
+            futures.add(
+                CompletableFuture.supplyAsync(() ->
+                    pull(scheduler, imageName, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        sleep(50);
+                        running.decrementAndGet();
+                    })
+                )
+            );
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(maxRunning.get()).isBetween(1, 2);
+        assertThat(scheduler.getPulledImages()).hasSize(8);
+    }
+
+    @Test
+    void shouldPropagateFailureToWaitingPulls() throws Exception {
+        ImagePullScheduler scheduler = new ImagePullScheduler(new Semaphore(1));
+        CountDownLatch pulling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+            pull(scheduler, IMAGE, () -> {
+                pulling.countDown();
+                await(release);
+                throw new IllegalStateException("pull failed");
+            })
+        );
+        assertThat(pulling.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> pull(scheduler, IMAGE, () -> {}));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(catchThrowable(() -> first.get(5, TimeUnit.SECONDS))).hasRootCauseMessage("pull failed");
+        assertThat(catchThrowable(() -> second.get(5, TimeUnit.SECONDS))).hasRootCauseMessage("pull failed");
+
+        assertThat(pull(scheduler, IMAGE, () -> {})).as("a later pull starts over").isNotNull();
+    }
+
+    private static String pull(ImagePullScheduler scheduler, DockerImageName imageName, Runnable pull) {
+        try {
+            return scheduler.pull(
+                imageName,
+                () -> {
+                    pull.run();
+                    return new ImagePullScheduler.PulledImage(imageName.asCanonicalNameString(), Duration.ZERO, 0);
+                }
+            );
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -3,7 +3,8 @@ package org.testcontainers.images;
 public final class LocalImagesCacheAccessor {
 
     public static synchronized void clearCache() {
-        LocalImagesCache.INSTANCE.cache.clear();
+        LocalImagesCache.INSTANCE.images.clear();
+        LocalImagesCache.INSTANCE.aliases.clear();
         LocalImagesCache.INSTANCE.initialized.set(false);
     }
 }
@@ -10,6 +10,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 
 class DockerignoreTest {
@@ -53,4 +54,39 @@ class DockerignoreTest {
                 .doesNotContain("should_be_ignored.txt");
         }
     }
+
+    @Test
+    void shouldMatchPatternsLikeTheDockerCli() {
+        Dockerignore dockerignore = Dockerignore.parse(
+            "# comment\n" + "*.log\n" + "target\n" + "**/node_modules\n" + "docs/?.md\n" + "!important.log\n"
+        );
+
+        assertThat(dockerignore.isExcluded("app.log")).isTrue();
+        assertThat(dockerignore.isExcluded("important.log")).isFalse();
+        assertThat(dockerignore.isExcluded("sub/app.log")).isFalse();
+        assertThat(dockerignore.isExcluded("target")).isTrue();
+        assertThat(dockerignore.isExcluded("./target/classes/App.class")).isTrue();
+        assertThat(dockerignore.isExcluded("node_modules/left-pad/index.js")).isTrue();
+        assertThat(dockerignore.isExcluded("web/app/node_modules")).isTrue();
+        assertThat(dockerignore.isExcluded("docs/a.md")).isTrue();
+        assertThat(dockerignore.isExcluded("docs/ab.md")).isFalse();
+        assertThat(dockerignore.isExcluded("src/Main.java")).isFalse();
+        assertThat(dockerignore.hasExceptions()).isTrue();
+    }
+
+    @Test
+    void shouldLetTheLastMatchingPatternWin() {
+        Dockerignore dockerignore = Dockerignore.parse("docs\n!docs/README.md\ndocs/README.md");
+
+        assertThat(dockerignore.isExcluded("docs/README.md")).isTrue();
+        assertThat(Dockerignore.parse("docs\n!docs/README.md").isExcluded("docs/README.md")).isFalse();
+    }
+
+    @Test
+    void shouldRejectInvalidPatterns() {
+        assertThatThrownBy(() -> Dockerignore.parse("[a-b-c]---"))
+            .isInstanceOf(DockerClientException.class)
+            .hasMessageContaining("Invalid pattern");
+        assertThatThrownBy(() -> Dockerignore.parse("[abc")).hasMessageContaining("Invalid pattern");
+    }
 }
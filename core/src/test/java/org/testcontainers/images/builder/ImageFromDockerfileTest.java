@@ -3,10 +3,17 @@ package org.testcontainers.images.builder;
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.InspectImageResponse;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.utility.Base58;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
 
 class ImageFromDockerfileTest {
 
@@ -44,4 +51,77 @@ class ImageFromDockerfileTest {
             dockerClient.removeImageCmd(imageId).exec();
         }
     }
+
+    @Test
+    void shouldSkipBuildOfContentAddressedImage() {
+        String marker = Base58.randomString(16);
+        ImageFromDockerfile image = new ImageFromDockerfile()
+            .withContentAddressedName()
+            .withDockerfileFromBuilder(it -> it.from("scratch").label("marker", marker));
+        String imageName = image.resolve();
+
+        DockerClient dockerClient = DockerClientFactory.instance().client();
+        try {
+            long hits = ImageFromDockerfile.getContentAddressedHits();
+            ImageFromDockerfile sameImage = new ImageFromDockerfile()
+                .withContentAddressedName()
+                .withDockerfileFromBuilder(it -> it.from("scratch").label("marker", marker));
+            assertThat(sameImage.resolve()).isEqualTo(imageName);
+            assertThat(ImageFromDockerfile.getContentAddressedHits()).isEqualTo(hits + 1);
+
+            ImageFromDockerfile otherImage = new ImageFromDockerfile()
+                .withContentAddressedName()
+                .withDockerfileFromBuilder(it -> it.from("scratch").label("marker", marker))
+                .withBuildArg("UNUSED", "value");
+            String otherImageName = otherImage.resolve();
+            assertThat(otherImageName).isNotEqualTo(imageName);
+            dockerClient.removeImageCmd(otherImageName).exec();
+        } finally {
+            dockerClient.removeImageCmd(imageName).exec();
+        }
+    }
+
+    @Test
+    void shouldHashBuildContextOfDockerfile(@TempDir Path contextDirectory) throws IOException {
+        Path dockerfile = contextDirectory.resolve("Dockerfile");
+        Files.write(dockerfile, "FROM scratch\nCOPY file.txt /file.txt\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(contextDirectory.resolve(".dockerignore"), "ignored.txt\n".getBytes(StandardCharsets.UTF_8));
+        Path copiedFile = Files.write(contextDirectory.resolve("file.txt"), "first".getBytes(StandardCharsets.UTF_8));
+        Path ignoredFile = Files.write(
+            contextDirectory.resolve("ignored.txt"),
+            "first".getBytes(StandardCharsets.UTF_8)
+        );
+
+        String hash = new ImageFromDockerfile().withContentAddressedName().withDockerfile(dockerfile).contentHash();
+
+        Files.write(ignoredFile, "second".getBytes(StandardCharsets.UTF_8));
+        assertThat(new ImageFromDockerfile().withContentAddressedName().withDockerfile(dockerfile).contentHash())
+            .as("files excluded by .dockerignore are not part of the hash")
+            .isEqualTo(hash);
+
+        Files.write(copiedFile, "second".getBytes(StandardCharsets.UTF_8));
+        assertThat(new ImageFromDockerfile().withContentAddressedName().withDockerfile(dockerfile).contentHash())
+            .as("files next to the Dockerfile are part of the hash")
+            .isNotEqualTo(hash);
+    }
+
+    @Test
+    void shouldBuildWithBuildKit() {
+        assumeThat(BuildKitBuilder.isAvailable()).as("Docker CLI is available").isTrue();
+
+        ImageFromDockerfile image = new ImageFromDockerfile()
+            .withBuildKit()
+            .withDockerfileFromBuilder(it -> it.from("scratch").label("built-with", "buildkit"));
+
+        String imageName = image.resolve();
+
+        InspectImageResponse inspectImageResponse = DockerClientFactory
+            .instance()
+            .client()
+            .inspectImageCmd(imageName)
+            .exec();
+        assertThat(inspectImageResponse.getConfig().getLabels())
+            .containsEntry("built-with", "buildkit")
+            .containsAllEntriesOf(DockerClientFactory.DEFAULT_LABELS);
+    }
 }
@@ -0,0 +1,57 @@
+package org.testcontainers.images.builder;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelGzipOutputStreamTest {
+
+    @Test
+    void shouldProduceValidGzip() throws IOException {
+        byte[] data = new byte[1_000_000];
+        Random random = new Random(42);
+        for (int i = 0; i < data.length; i++) {
+            // compressible, but not trivially so
+            data[i] = (byte) ('a' + random.nextInt(8));
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (
+            ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(
+                compressed,
+                ForkJoinPool.commonPool(),
+                64 * 1024,
+                4
+            )
+        ) {
+            gzip.write(data, 0, 100);
+            gzip.write(data[100]);
+            gzip.write(data, 101, data.length - 101);
+        }
+
+        assertThat(compressed.size()).isLessThan(data.length);
+        assertThat(decompress(compressed.toByteArray())).isEqualTo(data);
+    }
+
+    @Test
+    void shouldProduceValidGzipWhenEmpty() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        new ParallelGzipOutputStream(compressed, ForkJoinPool.commonPool(), 1024, 4).close();
+
+        assertThat(decompress(compressed.toByteArray())).isEmpty();
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return IOUtils.toByteArray(inputStream);
+        }
+    }
+}
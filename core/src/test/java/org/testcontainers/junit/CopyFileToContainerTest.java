@@ -8,10 +8,12 @@ import org.testcontainers.TestImages;
 import org.testcontainers.containers.BindMode;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.SelinuxContext;
+import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.MountableFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -94,4 +96,62 @@ class CopyFileToContainerTest {
             assertThat(filesList).as("file list contains the file").contains("file");
         }
     }
+
+    @Test
+    void shouldCopyMultipleFilesInSingleArchive() throws Exception {
+        try (
+            GenericContainer<?> container = new GenericContainer<>(TestImages.TINY_IMAGE)
+                .withCommand("sleep", "3000")
+                .withCopyFileToContainer(MountableFile.forClasspathResource("/mappable-resource/"), "/multiple/dir")
+                .withCopyFileToContainer(
+                    MountableFile.forClasspathResource("/test_copy_to_container.txt"),
+                    "/multiple/"
+                )
+                .withCopyToContainer(Transferable.of("first"), "/multiple/first.txt")
+                .withCopyToContainer(Transferable.of("second"), "/multiple/nested/second.txt")
+        ) {
+            container.start();
+            assertThat(container.execInContainer("ls", "/multiple/dir").getStdout()).contains(fileName);
+            assertThat(container.execInContainer("ls", "/multiple").getStdout()).contains("test_copy_to_container.txt");
+            assertThat(container.execInContainer("cat", "/multiple/first.txt").getStdout()).isEqualTo("first");
+            assertThat(container.execInContainer("cat", "/multiple/nested/second.txt").getStdout())
+                .isEqualTo("second");
+        }
+    }
+
+    @Test
+    void shouldCopySameFileToMultiplePaths() throws Exception {
+        MountableFile mountableFile = MountableFile.forClasspathResource("/test_copy_to_container.txt");
+        try (
+            GenericContainer<?> container = new GenericContainer<>(TestImages.TINY_IMAGE)
+                .withCommand("sleep", "3000")
+                .withCopyFileToContainer(mountableFile, "/first/test_copy_to_container.txt")
+                .withCopyToContainer(mountableFile, "/second/test_copy_to_container.txt")
+        ) {
+            container.start();
+            assertThat(container.execInContainer("ls", "/first").getStdout()).contains("test_copy_to_container.txt");
+            assertThat(container.execInContainer("ls", "/second").getStdout()).contains("test_copy_to_container.txt");
+        }
+    }
+
+    @Test
+    void shouldCopyRegisteredFilesWithCopyFilesToContainer() throws Exception {
+        Map<String, Transferable> copied = new LinkedHashMap<>();
+        try (
+            GenericContainer<?> container = new GenericContainer<>(TestImages.TINY_IMAGE) {
+                @Override
+                public void copyFilesToContainer(Map<String, Transferable> transferables) {
+                    copied.putAll(transferables);
+                    super.copyFilesToContainer(transferables);
+                }
+            }
+                .withCommand("sleep", "3000")
+                .withCopyToContainer(Transferable.of("first"), "/first.txt")
+                .withCopyToContainer(Transferable.of("second"), "/second.txt")
+        ) {
+            container.start();
+            assertThat(copied).containsOnlyKeys("/first.txt", "/second.txt");
+            assertThat(container.execInContainer("cat", "/second.txt").getStdout()).isEqualTo("second");
+        }
+    }
 }
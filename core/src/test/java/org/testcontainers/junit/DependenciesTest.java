@@ -137,6 +137,23 @@ class DependenciesTest {
         Startables.deepStart(startables.parallelStream()).get(1, TimeUnit.SECONDS);
     }
 
+    @Test
+    void shouldStartAndStopAsynchronously() throws Exception {
+        InvocationCountingStartable dependency = new InvocationCountingStartable();
+        InvocationCountingStartable startable = new InvocationCountingStartable();
+        startable.getDependencies().add(dependency);
+
+        startable.startAsync().get(1, TimeUnit.SECONDS);
+
+        assertThat(dependency.getStartInvocationCount().intValue()).as("Dependency started").isEqualTo(1);
+        assertThat(startable.getStartInvocationCount().intValue()).as("Startable started").isEqualTo(1);
+
+        startable.stopAsync().get(1, TimeUnit.SECONDS);
+
+        assertThat(startable.getStopInvocationCount().intValue()).as("Startable stopped").isEqualTo(1);
+        assertThat(dependency.getStopInvocationCount().intValue()).as("Dependency not stopped").isZero();
+    }
+
     private static class InvocationCountingStartable implements Startable {
 
         @Getter
@@ -4,10 +4,19 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedClass;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.TestImages;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
+import org.testcontainers.containers.wait.strategy.WaitStrategy;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 /**
  * Tests for {@link LogMessageWaitStrategy}.
  */
@@ -50,6 +59,35 @@ class LogMessageWaitStrategyTest extends AbstractWaitStrategyTest<LogMessageWait
         waitUntilReadyAndTimeout("echo -e \"" + READY_MESSAGE + "\";" + "echo -e \"foobar\";" + "sleep 300");
     }
 
+    @Test
+    void testWaitUntilReadyAsync_SeveralTargets() throws Exception {
+        try (
+            GenericContainer<?> readyContainer = new GenericContainer<>(TestImages.ALPINE_IMAGE)
+                .withCommand(
+                    "sh",
+                    "-c",
+                    "echo -e \"" + READY_MESSAGE + "\"; echo -e \"" + READY_MESSAGE + "\"; sleep 300"
+                );
+            GenericContainer<?> notReadyContainer = new GenericContainer<>(TestImages.ALPINE_IMAGE)
+                .withCommand("sh", "-c", "echo -e \"foobar\"; sleep 300")
+        ) {
+            readyContainer.start();
+            notReadyContainer.start();
+
+            WaitStrategy waitStrategy = new LogMessageWaitStrategy()
+                .withRegEx(pattern)
+                .withTimes(2)
+                .withStartupTimeout(Duration.ofMillis(WAIT_TIMEOUT_MILLIS));
+            // The same strategy waits for both containers at once
+            CompletableFuture<Void> readyFuture = waitStrategy.waitUntilReadyAsync(readyContainer);
+            CompletableFuture<Void> notReadyFuture = waitStrategy.waitUntilReadyAsync(notReadyContainer);
+
+            readyFuture.get(30, TimeUnit.SECONDS);
+            assertThatThrownBy(() -> notReadyFuture.get(30, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ContainerLaunchException.class);
+        }
+    }
+
     @NotNull
     @Override
     protected LogMessageWaitStrategy buildWaitStrategy(AtomicBoolean ready) {
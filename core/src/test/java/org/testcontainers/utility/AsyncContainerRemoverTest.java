@@ -0,0 +1,74 @@
+package org.testcontainers.utility;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.RemoveContainerCmd;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.TestImages;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AsyncContainerRemoverTest {
+
+    @Test
+    void shouldRemoveContainersInTheBackground() throws Exception {
+        DockerClient client = DockerClientFactory.instance().client();
+        AsyncContainerRemover remover = new AsyncContainerRemover(client, 2);
+
+        List<String> containerIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            GenericContainer<?> container = new GenericContainer<>(TestImages.TINY_IMAGE).withCommand("top");
+            container.start();
+            containerIds.add(container.getContainerId());
+        }
+        for (String containerId : containerIds) {
+            remover.remove(containerId, TestImages.TINY_IMAGE.asCanonicalNameString());
+        }
+        assertThat(remover.awaitRemovals(Duration.ofMinutes(1))).isTrue();
+
+        // Containers that are already gone count as removed
+        remover.remove(containerIds.get(0), TestImages.TINY_IMAGE.asCanonicalNameString());
+        assertThat(remover.awaitRemovals(Duration.ofMinutes(1))).isTrue();
+        assertThat(remover.getInFlight()).isZero();
+        assertThat(remover.getRemoved()).isEqualTo(4);
+        assertThat(remover.getFailed()).isZero();
+        assertThat(client.listContainersCmd().withIdFilter(containerIds).withShowAll(true).exec()).isEmpty();
+    }
+
+    @Test
+    void shouldOnlyAwaitRemovalsOfGivenContainers() throws Exception {
+        CountDownLatch removalStarted = new CountDownLatch(1);
+        CountDownLatch removalReleased = new CountDownLatch(1);
+        RemoveContainerCmd removeContainerCmd = mock(RemoveContainerCmd.class, RETURNS_SELF);
+        when(removeContainerCmd.exec())
+            .thenAnswer(__ -> {
+                removalStarted.countDown();
+                removalReleased.await();
+                return null;
+            });
+        DockerClient client = mock(DockerClient.class);
+        when(client.removeContainerCmd("slow")).thenReturn(removeContainerCmd);
+        AsyncContainerRemover remover = new AsyncContainerRemover(client, 1);
+
+        remover.remove("slow", TestImages.TINY_IMAGE.asCanonicalNameString());
+        try {
+            assertThat(removalStarted.await(1, TimeUnit.MINUTES)).isTrue();
+            assertThat(remover.awaitRemovals(Collections.singleton("other"), Duration.ZERO)).isTrue();
+            assertThat(remover.awaitRemovals(Collections.singleton("slow"), Duration.ofMillis(100))).isFalse();
+        } finally {
+            removalReleased.countDown();
+        }
+        assertThat(remover.awaitRemovals(Collections.singleton("slow"), Duration.ofMinutes(1))).isTrue();
+    }
+}
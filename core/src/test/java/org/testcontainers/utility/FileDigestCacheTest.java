@@ -0,0 +1,69 @@
+package org.testcontainers.utility;
+
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileDigestCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldComputeSha256OfFileContent() throws Exception {
+        Path file = Files.write(tempDir.resolve("file.txt"), "content".getBytes(StandardCharsets.UTF_8));
+        FileDigestCache cache = new FileDigestCache(tempDir.resolve("cache.properties"));
+
+        assertThat(cache.digest(file))
+            .isEqualTo(Hashing.sha256().hashString("content", StandardCharsets.UTF_8).asBytes());
+    }
+
+    @Test
+    void shouldNotReadUnchangedFileAgain() throws Exception {
+        Path file = Files.write(tempDir.resolve("file.txt"), "content".getBytes(StandardCharsets.UTF_8));
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        FileDigestCache cache = new FileDigestCache(tempDir.resolve("cache.properties"));
+        byte[] digest = cache.digest(file);
+
+        // Same size and modification time, hence the cached digest is returned
+        Files.write(file, "CONTENT".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, lastModified);
+
+        assertThat(cache.digest(file)).isEqualTo(digest);
+    }
+
+    @Test
+    void shouldDetectModifiedFile() throws Exception {
+        Path file = Files.write(tempDir.resolve("file.txt"), "content".getBytes(StandardCharsets.UTF_8));
+        FileDigestCache cache = new FileDigestCache(tempDir.resolve("cache.properties"));
+        byte[] digest = cache.digest(file);
+
+        Files.write(file, "modified content".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(cache.digest(file)).isNotEqualTo(digest);
+    }
+
+    @Test
+    void shouldPersistDigests() throws Exception {
+        Path cacheFile = tempDir.resolve("cache").resolve("cache.properties");
+        Path file = Files.write(tempDir.resolve("file.txt"), "content".getBytes(StandardCharsets.UTF_8));
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        FileDigestCache cache = new FileDigestCache(cacheFile);
+        byte[] digest = cache.digest(file);
+        cache.flush();
+
+        assertThat(cacheFile).exists();
+
+        Files.write(file, "CONTENT".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, lastModified);
+
+        assertThat(new FileDigestCache(cacheFile).digest(file)).isEqualTo(digest);
+    }
+}
@@ -58,6 +58,35 @@ class FilterRegistryTest {
         assertThat(new String(outputStream.toByteArray())).isEqualTo(URL_ENCODED_FILTERS + NEW_LINE);
     }
 
+    @Test
+    void registerAllWritesAllFiltersBeforeReadingAcknowledgements() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        FilterRegistry registry = new FilterRegistry(inputStream(acknowledgements(2)), outputStream);
+
+        int acknowledged = registry.registerAll(Arrays.asList(FILTERS, FILTERS));
+
+        assertThat(acknowledged).isEqualTo(2);
+        assertThat(new String(outputStream.toByteArray()))
+            .isEqualTo(URL_ENCODED_FILTERS + NEW_LINE + URL_ENCODED_FILTERS + NEW_LINE);
+    }
+
+    @Test
+    void registerAllReturnsTheNumberOfAcknowledgedFilters() throws IOException {
+        FilterRegistry registry = new FilterRegistry(inputStream(acknowledgements(1)), anyOutputStream());
+
+        int acknowledged = registry.registerAll(Arrays.asList(FILTERS, FILTERS, FILTERS));
+
+        assertThat(acknowledged).isEqualTo(1);
+    }
+
+    private static byte[] acknowledgements(int count) {
+        StringBuilder acknowledgements = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            acknowledgements.append(FilterRegistry.ACKNOWLEDGMENT).append(NEW_LINE);
+        }
+        return acknowledgements.toString().getBytes();
+    }
+
     private static InputStream inputStream(byte[] bytes) {
         return new ByteArrayInputStream(bytes);
     }
@@ -0,0 +1,38 @@
+package org.testcontainers.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestcontainersExecutorsTest {
+
+    @Test
+    void shouldCreateNamedDaemonPlatformThreads() throws Exception {
+        ExecutorService executor = TestcontainersExecutors.newExecutor("executors-test", false);
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+
+            assertThat(thread.getName()).startsWith("executors-test-");
+            assertThat(thread.isDaemon()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRunTasksWithVirtualThreadsOrFallBack() throws Exception {
+        // On JDKs without virtual threads, platform threads are used instead
+        ExecutorService executor = TestcontainersExecutors.newExecutor("executors-test", true);
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+
+            assertThat(thread.getName()).startsWith("executors-test-");
+            assertThat(thread.isDaemon()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
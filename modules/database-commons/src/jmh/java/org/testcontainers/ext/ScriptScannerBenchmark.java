@@ -0,0 +1,292 @@
+package org.testcontainers.ext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link ScriptScanner} with the previous, regex based, implementation over multi-MB scripts.
+ * <p>
+ * Run with {@code ./gradlew :testcontainers-database-commons:jmh -Pjmh.includes=ScriptScannerBenchmark}, adding
+ * {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScriptScannerBenchmark {
+
+    @Param({ "1", "8" })
+    public int megabytes;
+
+    private String script;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; builder.length() < megabytes * 1024 * 1024; i++) {
+            builder
+                .append("-- row ")
+                .append(i)
+                .append('\n')
+                .append("INSERT INTO customers (id, name, note, amount) VALUES (")
+                .append(i)
+                .append(", 'Customer ")
+                .append(i)
+                .append("', $$multi\nline$$, ")
+                .append(i * 3.5)
+                .append("); /* imported */\n");
+        }
+        script = builder.toString();
+    }
+
+    @Benchmark
+    public void scanner(Blackhole blackhole) {
+        ScriptScanner scanner = new ScriptScanner(
+            "benchmark",
+            script,
+            ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+            ScriptUtils.DEFAULT_COMMENT_PREFIX,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER
+        );
+        ScriptScanner.Lexem lexem;
+        while ((lexem = scanner.next()) != ScriptScanner.Lexem.EOF) {
+            blackhole.consume(lexem);
+        }
+    }
+
+    @Benchmark
+    public void scannerFromReader(Blackhole blackhole) {
+        ScriptScanner scanner = new ScriptScanner(
+            "benchmark",
+            new StringReader(script),
+            ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+            ScriptUtils.DEFAULT_COMMENT_PREFIX,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER
+        );
+        ScriptScanner.Lexem lexem;
+        while ((lexem = scanner.next()) != ScriptScanner.Lexem.EOF) {
+            blackhole.consume(lexem);
+        }
+    }
+
+    @Benchmark
+    public void legacyScanner(Blackhole blackhole) {
+        LegacyScriptScanner scanner = new LegacyScriptScanner(
+            "benchmark",
+            script,
+            ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+            ScriptUtils.DEFAULT_COMMENT_PREFIX,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER
+        );
+        while (scanner.next() != ScriptScanner.Lexem.EOF) {
+            blackhole.consume(scanner.currentMatch);
+        }
+    }
+
+    @Benchmark
+    public List<String> split() {
+        List<String> statements = new ArrayList<>();
+        ScriptUtils.splitSqlScript(
+            "benchmark",
+            script,
+            ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+            ScriptUtils.DEFAULT_COMMENT_PREFIX,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER,
+            statements
+        );
+        return statements;
+    }
+
+    /**
+     * The regex based {@link ScriptScanner} it was replaced with.
+     */
+    static class LegacyScriptScanner {
+
+        private final String resource;
+
+        private final String script;
+
+        private final String separator;
+
+        private final String commentPrefix;
+
+        private final String blockCommentStartDelimiter;
+
+        private final String blockCommentEndDelimiter;
+
+        private final Pattern eol = Pattern.compile("[\n\r]+");
+
+        private final Pattern whitespace = Pattern.compile("\\s+");
+
+        private final Pattern identifier = Pattern.compile("[a-z][a-z0-9_$]*", Pattern.CASE_INSENSITIVE);
+
+        private final Pattern dollarQuotedStringDelimiter = Pattern.compile("\\$\\w*\\$");
+
+        private int offset;
+
+        private String currentMatch;
+
+        LegacyScriptScanner(
+            String resource,
+            String script,
+            String separator,
+            String commentPrefix,
+            String blockCommentStartDelimiter,
+            String blockCommentEndDelimiter
+        ) {
+            this.resource = resource;
+            this.script = script;
+            this.separator = separator;
+            this.commentPrefix = commentPrefix;
+            this.blockCommentStartDelimiter = blockCommentStartDelimiter;
+            this.blockCommentEndDelimiter = blockCommentEndDelimiter;
+        }
+
+        private boolean matches(String substring) {
+            if (script.startsWith(substring, offset)) {
+                currentMatch = substring;
+                offset += currentMatch.length();
+                return true;
+            } else {
+                currentMatch = "";
+                return false;
+            }
+        }
+
+        private boolean matches(Pattern regexp) {
+            Matcher m = regexp.matcher(script);
+            m.region(offset, script.length());
+            if (m.lookingAt()) {
+                currentMatch = m.group();
+                offset = m.end();
+                return true;
+            } else {
+                currentMatch = "";
+                return false;
+            }
+        }
+
+        private boolean matchesSingleLineComment() {
+            /* Matches from commentPrefix to the EOL or end of script */
+            if (matches(commentPrefix)) {
+                Matcher m = eol.matcher(script);
+                if (m.find(offset)) {
+                    currentMatch = commentPrefix + script.substring(offset, m.end());
+                    offset = m.end();
+                } else {
+                    currentMatch = commentPrefix + script.substring(offset);
+                    offset = script.length();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private boolean matchesMultilineComment() {
+            /* Matches from blockCommentStartDelimiter to the next blockCommentEndDelimiter.
+             * Error, if blockCommentEndDelimiter is not found. */
+            if (matches(blockCommentStartDelimiter)) {
+                int end = script.indexOf(blockCommentEndDelimiter, offset);
+                if (end < 0) {
+                    throw new ScriptUtils.ScriptParseException(
+                        String.format("Missing block comment end delimiter [%s].", blockCommentEndDelimiter),
+                        resource
+                    );
+                }
+                end += blockCommentEndDelimiter.length();
+                currentMatch = blockCommentStartDelimiter + script.substring(offset, end);
+                offset = end;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean matchesQuotedString(final char quote) {
+            if (script.charAt(offset) == quote) {
+                boolean escaped = false;
+                for (int i = offset + 1; i < script.length(); i++) {
+                    char c = script.charAt(i);
+                    if (escaped) {
+                        //just skip the escaped character and drop the flag
+                        escaped = false;
+                    } else if (c == '\\') {
+                        escaped = true;
+                    } else if (c == quote) {
+                        currentMatch = script.substring(offset, i + 1);
+                        offset = i + 1;
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesDollarQuotedString() {
+            //Matches $<tag>$ .... $<tag>$
+            if (matches(dollarQuotedStringDelimiter)) {
+                String delimiter = currentMatch;
+                int end = script.indexOf(delimiter, offset);
+                if (end < 0) {
+                    throw new ScriptUtils.ScriptParseException(
+                        String.format("Unclosed dollar quoted string [%s].", delimiter),
+                        resource
+                    );
+                }
+                end += delimiter.length();
+                currentMatch = delimiter + script.substring(offset, end);
+                offset = end;
+                return true;
+            }
+            return false;
+        }
+
+        ScriptScanner.Lexem next() {
+            if (offset < script.length()) {
+                if (matches(separator)) {
+                    return ScriptScanner.Lexem.SEPARATOR;
+                } else if (matchesSingleLineComment() || matchesMultilineComment()) {
+                    return ScriptScanner.Lexem.COMMENT;
+                } else if (
+                    matchesQuotedString('\'') ||
+                    matchesQuotedString('"') ||
+                    matchesQuotedString('`') ||
+                    matchesDollarQuotedString()
+                ) {
+                    return ScriptScanner.Lexem.QUOTED_STRING;
+                } else if (matches(identifier)) {
+                    return ScriptScanner.Lexem.IDENTIFIER;
+                } else if (matches(whitespace)) {
+                    return ScriptScanner.Lexem.WHITESPACE;
+                } else {
+                    currentMatch = String.valueOf(script.charAt(offset++));
+                    return ScriptScanner.Lexem.OTHER;
+                }
+            } else {
+                return ScriptScanner.Lexem.EOF;
+            }
+        }
+    }
+}
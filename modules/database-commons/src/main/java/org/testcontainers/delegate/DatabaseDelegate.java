@@ -1,6 +1,7 @@
 package org.testcontainers.delegate;
 
 import java.util.Collection;
+import java.util.Iterator;
 
 /**
  * Database delegate
@@ -24,6 +25,24 @@ public interface DatabaseDelegate extends AutoCloseable {
      */
     void execute(Collection<String> statements, String scriptPath, boolean continueOnError, boolean ignoreFailedDrops);
 
+    /**
+     * Execute statements as they are read from a script
+     *
+     * Implementations may group consecutive statements into batches of up to {@code batchSize} statements
+     */
+    default void execute(
+        Iterator<ScriptStatement> statements,
+        String scriptPath,
+        boolean continueOnError,
+        boolean ignoreFailedDrops,
+        int batchSize
+    ) {
+        while (statements.hasNext()) {
+            ScriptStatement statement = statements.next();
+            execute(statement.getSql(), scriptPath, statement.getLineNumber(), continueOnError, ignoreFailedDrops);
+        }
+    }
+
     /**
      * Close connection to the database
      *
@@ -0,0 +1,16 @@
+package org.testcontainers.delegate;
+
+import lombok.Value;
+import org.testcontainers.UnstableAPI;
+
+/**
+ * A statement of a script, with the line of the script it starts at
+ */
+@UnstableAPI
+@Value
+public class ScriptStatement {
+
+    String sql;
+
+    int lineNumber;
+}
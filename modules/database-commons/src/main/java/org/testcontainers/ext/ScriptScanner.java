@@ -1,20 +1,29 @@
 package org.testcontainers.ext;
 
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 
 /**
  * Rough lexical parser for SQL scripts.
+ * <p>
+ * A hand-written tokenizer that scans every character once. Lexems are tracked as ranges of the buffered script, so
+ * that they are only copied if needed.
+ * <p>
+ * Scripts read from a {@link Reader} are buffered in chunks, and the consumed part of the buffer is discarded, so that
+ * memory use does not depend on the size of the script.
  */
-@RequiredArgsConstructor
 class ScriptScanner {
 
+    private static final int READ_SIZE = 8 * 1024;
+
+    private static final int COMPACT_THRESHOLD = 64 * 1024;
+
     private final String resource;
 
-    private final String script;
+    private final StringBuilder script;
+
+    private final Reader reader;
 
     private final String separator;
 
@@ -24,73 +33,175 @@ class ScriptScanner {
 
     private final String blockCommentEndDelimiter;
 
-    private final Pattern eol = Pattern.compile("[\n\r]+");
+    private final char[] readBuffer;
 
-    private final Pattern whitespace = Pattern.compile("\\s+");
+    private int offset;
 
-    private final Pattern identifier = Pattern.compile("[a-z][a-z0-9_$]*", Pattern.CASE_INSENSITIVE);
+    /**
+     * Where the last lexem starts; the lexem ends at {@link #offset}
+     */
+    private int matchStart;
 
-    private final Pattern dollarQuotedStringDelimiter = Pattern.compile("\\$\\w*\\$");
+    /**
+     * The line at {@link #lineOffset}, counted lazily by {@link #getLineNumber()}
+     */
+    private int line = 1;
 
-    private int offset;
+    private int lineOffset;
 
-    @Getter
-    private String currentMatch;
+    ScriptScanner(
+        String resource,
+        String script,
+        String separator,
+        String commentPrefix,
+        String blockCommentStartDelimiter,
+        String blockCommentEndDelimiter
+    ) {
+        this(
+            resource,
+            new StringBuilder(script),
+            null,
+            separator,
+            commentPrefix,
+            blockCommentStartDelimiter,
+            blockCommentEndDelimiter
+        );
+    }
 
-    private boolean matches(String substring) {
-        if (script.startsWith(substring, offset)) {
-            currentMatch = substring;
-            offset += currentMatch.length();
-            return true;
-        } else {
-            currentMatch = "";
+    ScriptScanner(
+        String resource,
+        Reader reader,
+        String separator,
+        String commentPrefix,
+        String blockCommentStartDelimiter,
+        String blockCommentEndDelimiter
+    ) {
+        this(
+            resource,
+            new StringBuilder(),
+            reader,
+            separator,
+            commentPrefix,
+            blockCommentStartDelimiter,
+            blockCommentEndDelimiter
+        );
+    }
+
+    private ScriptScanner(
+        String resource,
+        StringBuilder script,
+        Reader reader,
+        String separator,
+        String commentPrefix,
+        String blockCommentStartDelimiter,
+        String blockCommentEndDelimiter
+    ) {
+        this.resource = resource;
+        this.script = script;
+        this.reader = reader;
+        this.separator = separator;
+        this.commentPrefix = commentPrefix;
+        this.blockCommentStartDelimiter = blockCommentStartDelimiter;
+        this.blockCommentEndDelimiter = blockCommentEndDelimiter;
+        this.readBuffer = reader != null ? new char[READ_SIZE] : null;
+    }
+
+    /**
+     * Appends the next chunk of the script to the buffer.
+     *
+     * @return whether anything was read
+     */
+    private boolean fill() {
+        if (reader == null) {
             return false;
         }
+        try {
+            int read = reader.read(readBuffer);
+            if (read < 0) {
+                return false;
+            }
+            script.append(readBuffer, 0, read);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read script " + resource, e);
+        }
     }
 
-    private boolean matches(Pattern regexp) {
-        Matcher m = regexp.matcher(script);
-        m.region(offset, script.length());
-        if (m.lookingAt()) {
-            currentMatch = m.group();
-            offset = m.end();
+    /**
+     * Fills the buffer until it holds at least {@code length} characters or the script ends.
+     */
+    private boolean ensure(int length) {
+        while (script.length() < length) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(String substring) {
+        if (ensure(offset + substring.length()) && regionMatches(offset, substring)) {
+            offset += substring.length();
             return true;
-        } else {
-            currentMatch = "";
-            return false;
         }
+        return false;
+    }
+
+    private boolean regionMatches(int from, String substring) {
+        for (int i = 0; i < substring.length(); i++) {
+            if (script.charAt(from + i) != substring.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether there is a character at {@code index}, reading more of the script if required
+     */
+    private boolean has(int index) {
+        return index < script.length() || ensure(index + 1);
     }
 
     private boolean matchesSingleLineComment() {
         /* Matches from commentPrefix to the EOL or end of script */
         if (matches(commentPrefix)) {
-            Matcher m = eol.matcher(script);
-            if (m.find(offset)) {
-                currentMatch = commentPrefix + script.substring(offset, m.end());
-                offset = m.end();
-            } else {
-                currentMatch = commentPrefix + script.substring(offset);
-                offset = script.length();
+            while (has(offset) && !isEol(script.charAt(offset))) {
+                offset++;
+            }
+            while (has(offset) && isEol(script.charAt(offset))) {
+                offset++;
             }
             return true;
         }
         return false;
     }
 
+    private int indexOf(String delimiter, int from) {
+        while (true) {
+            int index = script.indexOf(delimiter, from);
+            if (index >= 0) {
+                return index;
+            }
+            from = Math.max(from, script.length() - delimiter.length() + 1);
+            if (!fill()) {
+                return -1;
+            }
+        }
+    }
+
     private boolean matchesMultilineComment() {
         /* Matches from blockCommentStartDelimiter to the next blockCommentEndDelimiter.
          * Error, if blockCommentEndDelimiter is not found. */
         if (matches(blockCommentStartDelimiter)) {
-            int end = script.indexOf(blockCommentEndDelimiter, offset);
+            int end = indexOf(blockCommentEndDelimiter, offset);
             if (end < 0) {
                 throw new ScriptUtils.ScriptParseException(
                     String.format("Missing block comment end delimiter [%s].", blockCommentEndDelimiter),
                     resource
                 );
             }
-            end += blockCommentEndDelimiter.length();
-            currentMatch = blockCommentStartDelimiter + script.substring(offset, end);
-            offset = end;
+            offset = end + blockCommentEndDelimiter.length();
             return true;
         }
         return false;
@@ -99,7 +210,7 @@ class ScriptScanner {
     private boolean matchesQuotedString(final char quote) {
         if (script.charAt(offset) == quote) {
             boolean escaped = false;
-            for (int i = offset + 1; i < script.length(); i++) {
+            for (int i = offset + 1; has(i); i++) {
                 char c = script.charAt(i);
                 if (escaped) {
                     //just skip the escaped character and drop the flag
@@ -107,7 +218,6 @@ class ScriptScanner {
                 } else if (c == '\\') {
                     escaped = true;
                 } else if (c == quote) {
-                    currentMatch = script.substring(offset, i + 1);
                     offset = i + 1;
                     return true;
                 }
@@ -118,25 +228,126 @@ class ScriptScanner {
 
     private boolean matchesDollarQuotedString() {
         //Matches $<tag>$ .... $<tag>$
-        if (matches(dollarQuotedStringDelimiter)) {
-            String delimiter = currentMatch;
-            int end = script.indexOf(delimiter, offset);
-            if (end < 0) {
-                throw new ScriptUtils.ScriptParseException(
-                    String.format("Unclosed dollar quoted string [%s].", delimiter),
-                    resource
-                );
+        if (script.charAt(offset) != '$') {
+            return false;
+        }
+        int i = offset + 1;
+        while (has(i) && isWordChar(script.charAt(i))) {
+            i++;
+        }
+        if (!has(i) || script.charAt(i) != '$') {
+            return false;
+        }
+        String delimiter = script.substring(offset, i + 1);
+        int end = indexOf(delimiter, i + 1);
+        if (end < 0) {
+            throw new ScriptUtils.ScriptParseException(
+                String.format("Unclosed dollar quoted string [%s].", delimiter),
+                resource
+            );
+        }
+        offset = end + delimiter.length();
+        return true;
+    }
+
+    private boolean matchesIdentifier() {
+        if (!isAsciiLetter(script.charAt(offset))) {
+            return false;
+        }
+        offset++;
+        while (has(offset) && isIdentifierPart(script.charAt(offset))) {
+            offset++;
+        }
+        return true;
+    }
+
+    private boolean matchesWhitespace() {
+        if (!isWhitespace(script.charAt(offset))) {
+            return false;
+        }
+        offset++;
+        while (has(offset) && isWhitespace(script.charAt(offset))) {
+            offset++;
+        }
+        return true;
+    }
+
+    private static boolean isEol(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWordChar(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isWordChar(c) || c == '$';
+    }
+
+    /**
+     * @return the text of the last lexem
+     */
+    String getCurrentMatch() {
+        return script.substring(matchStart, offset);
+    }
+
+    /**
+     * Appends the text of the last lexem to {@code target}, without creating an intermediate {@link String}.
+     */
+    void appendCurrentMatch(StringBuilder target) {
+        target.append(script, matchStart, offset);
+    }
+
+    boolean currentMatchEqualsIgnoreCase(String text) {
+        int length = offset - matchStart;
+        if (length != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = script.charAt(matchStart + i);
+            char other = text.charAt(i);
+            if (c != other && Character.toLowerCase(c) != Character.toLowerCase(other)) {
+                return false;
             }
-            end += delimiter.length();
-            currentMatch = delimiter + script.substring(offset, end);
-            offset = end;
-            return true;
         }
-        return false;
+        return true;
+    }
+
+    /**
+     * @return the line of the script the last lexem starts at
+     */
+    int getLineNumber() {
+        countLines(matchStart);
+        return line;
+    }
+
+    private void countLines(int to) {
+        for (int i = lineOffset; i < to; i++) {
+            if (script.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        lineOffset = Math.max(lineOffset, to);
     }
 
     Lexem next() {
-        if (offset < script.length()) {
+        if (reader != null && offset >= COMPACT_THRESHOLD) {
+            // Discard the consumed part of the buffer
+            countLines(offset);
+            script.delete(0, offset);
+            lineOffset = 0;
+            offset = 0;
+        }
+        matchStart = offset;
+        if (ensure(offset + 1)) {
             if (matches(separator)) {
                 return Lexem.SEPARATOR;
             } else if (matchesSingleLineComment() || matchesMultilineComment()) {
@@ -148,12 +359,12 @@ class ScriptScanner {
                 matchesDollarQuotedString()
             ) {
                 return Lexem.QUOTED_STRING;
-            } else if (matches(identifier)) {
+            } else if (matchesIdentifier()) {
                 return Lexem.IDENTIFIER;
-            } else if (matches(whitespace)) {
+            } else if (matchesWhitespace()) {
                 return Lexem.WHITESPACE;
             } else {
-                currentMatch = String.valueOf(script.charAt(offset++));
+                offset++;
                 return Lexem.OTHER;
             }
         } else {
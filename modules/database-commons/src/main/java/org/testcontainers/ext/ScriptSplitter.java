@@ -1,10 +1,11 @@
 package org.testcontainers.ext;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.testcontainers.ext.ScriptScanner.Lexem;
 
-import java.util.List;
+import java.util.Collection;
 
 /**
  * Performs splitting of an SQL script into statements including
@@ -15,10 +16,21 @@ class ScriptSplitter {
 
     private final ScriptScanner scanner;
 
-    private final List<String> statements;
+    private final Collection<String> statements;
 
     private final StringBuilder sb = new StringBuilder();
 
+    /**
+     * The line the statement being parsed starts at, or {@code 0} before its first lexem
+     */
+    private int statementLineNumber;
+
+    /**
+     * The line the last statement added to {@link #statements} starts at
+     */
+    @Getter
+    private int lastStatementLineNumber;
+
     /**
      * Standard parsing:
      * 1. Remove comments
@@ -26,32 +38,42 @@ class ScriptSplitter {
      * 3. Split on separator
      */
     void split() {
-        Lexem l;
-        while ((l = scanner.next()) != Lexem.EOF) {
-            switch (l) {
-                case SEPARATOR:
+        while (splitNext()) {}
+    }
+
+    /**
+     * Parses the next lexem, or the next compound statement, and adds the statement it completes, if any.
+     *
+     * @return false once the end of the script is reached
+     */
+    boolean splitNext() {
+        Lexem l = scanner.next();
+        switch (l) {
+            case EOF:
+                flushStringBuilder();
+                return false;
+            case SEPARATOR:
+                flushStringBuilder();
+                break;
+            case COMMENT:
+                //skip
+                break;
+            case WHITESPACE:
+                if (sb.length() == 0 || sb.charAt(sb.length() - 1) != ' ') {
+                    sb.append(' ');
+                }
+                break;
+            case IDENTIFIER:
+                appendMatch();
+                if (scanner.currentMatchEqualsIgnoreCase("begin")) {
+                    compoundStatement(false);
                     flushStringBuilder();
-                    break;
-                case COMMENT:
-                    //skip
-                    break;
-                case WHITESPACE:
-                    if (sb.length() == 0 || sb.charAt(sb.length() - 1) != ' ') {
-                        sb.append(' ');
-                    }
-                    break;
-                case IDENTIFIER:
-                    appendMatch();
-                    if ("begin".equalsIgnoreCase(scanner.getCurrentMatch())) {
-                        compoundStatement(false);
-                        flushStringBuilder();
-                    }
-                    break;
-                default:
-                    appendMatch();
-            }
+                }
+                break;
+            default:
+                appendMatch();
         }
-        flushStringBuilder();
+        return true;
     }
 
     /**
@@ -66,9 +88,9 @@ class ScriptSplitter {
         while ((l = scanner.next()) != Lexem.EOF) {
             appendMatch();
             if (Lexem.IDENTIFIER.equals(l)) {
-                if ("begin".equalsIgnoreCase(scanner.getCurrentMatch())) {
+                if (scanner.currentMatchEqualsIgnoreCase("begin")) {
                     compoundStatement(true);
-                } else if ("end".equalsIgnoreCase(scanner.getCurrentMatch())) {
+                } else if (scanner.currentMatchEqualsIgnoreCase("end")) {
                     if (endOfBlock(recursive)) {
                         return;
                     }
@@ -85,7 +107,7 @@ class ScriptSplitter {
             switch (l) {
                 case COMMENT:
                 case WHITESPACE:
-                    temporary.append(scanner.getCurrentMatch());
+                    scanner.appendCurrentMatch(temporary);
                     break;
                 case SEPARATOR:
                     //Only whitespace and comments preceded the separator: true end of block
@@ -98,7 +120,7 @@ class ScriptSplitter {
                 default:
                     // Semicolon is not recognized as separator: this means that a custom
                     // separator is used. Still, 'END;' should be a valid end of block
-                    if (";".equals(scanner.getCurrentMatch())) {
+                    if (scanner.currentMatchEqualsIgnoreCase(";")) {
                         if (recursive) {
                             sb.append(temporary);
                         }
@@ -114,14 +136,19 @@ class ScriptSplitter {
     }
 
     private void appendMatch() {
-        sb.append(scanner.getCurrentMatch());
+        if (statementLineNumber == 0) {
+            statementLineNumber = scanner.getLineNumber();
+        }
+        scanner.appendCurrentMatch(sb);
     }
 
     private void flushStringBuilder() {
         final String s = sb.toString().trim();
         if (StringUtils.isNotEmpty(s)) {
             statements.add(s);
+            lastStatementLineNumber = statementLineNumber;
         }
         sb.setLength(0);
+        statementLineNumber = 0;
     }
 }
@@ -21,12 +21,22 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.delegate.DatabaseDelegate;
+import org.testcontainers.delegate.ScriptStatement;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
 
 import javax.script.ScriptException;
@@ -182,6 +192,10 @@ public abstract class ScriptUtils {
             blockCommentStartDelimiter,
             blockCommentEndDelimiter
         );
+        return containsSqlScriptDelimiters(scanner);
+    }
+
+    private static boolean containsSqlScriptDelimiters(ScriptScanner scanner) {
         ScriptScanner.Lexem l;
         while ((l = scanner.next()) != ScriptScanner.Lexem.EOF) {
             if (ScriptScanner.Lexem.SEPARATOR.equals(l)) {
@@ -209,11 +223,7 @@ public abstract class ScriptUtils {
                     );
                 }
             }
-            String scripts = IOUtils.toString(resource, StandardCharsets.UTF_8);
-            executeDatabaseScript(databaseDelegate, initScriptPath, scripts);
-        } catch (IOException e) {
-            LOGGER.warn("Could not load classpath init script: {}", initScriptPath);
-            throw new ScriptLoadException("Could not load classpath init script: " + initScriptPath, e);
+            executeDatabaseScript(databaseDelegate, initScriptPath, resource);
         } catch (ScriptException e) {
             LOGGER.error("Error while executing init script: {}", initScriptPath, e);
             throw new UncategorizedScriptException("Error while executing init script: " + initScriptPath, e);
@@ -235,6 +245,144 @@ public abstract class ScriptUtils {
         );
     }
 
+    /**
+     * Execute the given database script, using the defaults of
+     * {@link #executeDatabaseScript(DatabaseDelegate, String, String)}. The script is only executed while it is read,
+     * in batches, if a {@link TestcontainersConfiguration#getInitScriptBatchSize() batch size} is configured.
+     * @param databaseDelegate database delegate for script execution
+     * @param scriptPath the resource the SQL script was loaded from
+     * @param script the location of the script content, encoded in UTF-8
+     * @throws ScriptException if an error occurred while executing the SQL script
+     */
+    public static void executeDatabaseScript(DatabaseDelegate databaseDelegate, String scriptPath, URL script)
+        throws ScriptException {
+        int batchSize = TestcontainersConfiguration.getInstance().getInitScriptBatchSize();
+        if (batchSize <= 0) {
+            String content;
+            try {
+                content = IOUtils.toString(script, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new ScriptLoadException("Could not load database script from resource [" + scriptPath + "]", e);
+            }
+            executeDatabaseScript(databaseDelegate, scriptPath, content);
+            return;
+        }
+        executeDatabaseScript(
+            databaseDelegate,
+            scriptPath,
+            script,
+            false,
+            false,
+            DEFAULT_COMMENT_PREFIX,
+            DEFAULT_STATEMENT_SEPARATOR,
+            DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+            DEFAULT_BLOCK_COMMENT_END_DELIMITER,
+            batchSize
+        );
+    }
+
+    /**
+     * Execute the given database script while it is read.
+     * <p>Unlike the variants taking the script content as a {@code String}, the script is never
+     * loaded into memory as a whole: statements are executed as soon as they are parsed, and
+     * consecutive statements may be grouped into batches of up to {@code batchSize} statements, if the
+     * {@link DatabaseDelegate} supports it.
+     * @param databaseDelegate database delegate for script execution
+     * @param scriptPath the resource the SQL script was loaded from
+     * @param script the location of the script content, encoded in UTF-8
+     * @param continueOnError whether or not to continue without throwing an exception
+     * in the event of an error
+     * @param ignoreFailedDrops whether or not to continue in the event of specifically
+     * an error on a {@code DROP} statement
+     * @param commentPrefix the prefix that identifies comments in the SQL script &mdash;
+     * typically "--"
+     * @param separator the script statement separator; defaults to
+     * {@value #DEFAULT_STATEMENT_SEPARATOR} if not specified and falls back to
+     * {@value #FALLBACK_STATEMENT_SEPARATOR} as a last resort
+     * @param blockCommentStartDelimiter the <em>start</em> block comment delimiter; never
+     * {@code null} or empty
+     * @param blockCommentEndDelimiter the <em>end</em> block comment delimiter; never
+     * {@code null} or empty
+     * @param batchSize the maximum number of statements per batch; {@code 1} disables batching
+     * @throws ScriptException if an error occurred while executing the SQL script
+     */
+    public static void executeDatabaseScript(
+        DatabaseDelegate databaseDelegate,
+        String scriptPath,
+        URL script,
+        boolean continueOnError,
+        boolean ignoreFailedDrops,
+        String commentPrefix,
+        String separator,
+        String blockCommentStartDelimiter,
+        String blockCommentEndDelimiter,
+        int batchSize
+    ) throws ScriptException {
+        try {
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Executing database script from " + scriptPath);
+            }
+
+            long startTime = System.nanoTime();
+
+            if (separator == null) {
+                separator = DEFAULT_STATEMENT_SEPARATOR;
+            }
+            // Usually returns after the first statement, hence reading the script twice is cheap
+            try (Reader reader = openScript(script)) {
+                ScriptScanner scanner = new ScriptScanner(
+                    scriptPath,
+                    reader,
+                    separator,
+                    commentPrefix,
+                    blockCommentStartDelimiter,
+                    blockCommentEndDelimiter
+                );
+                if (!containsSqlScriptDelimiters(scanner)) {
+                    separator = FALLBACK_STATEMENT_SEPARATOR;
+                }
+            }
+
+            try (Reader reader = openScript(script); DatabaseDelegate closeableDelegate = databaseDelegate) {
+                ScriptScanner scanner = new ScriptScanner(
+                    scriptPath,
+                    reader,
+                    separator,
+                    commentPrefix,
+                    blockCommentStartDelimiter,
+                    blockCommentEndDelimiter
+                );
+                closeableDelegate.execute(
+                    new StatementIterator(scanner),
+                    scriptPath,
+                    continueOnError,
+                    ignoreFailedDrops,
+                    batchSize
+                );
+            }
+
+            long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Executed database script from " + scriptPath + " in " + elapsedTime + " ms.");
+            }
+        } catch (IOException | UncheckedIOException ex) {
+            throw new ScriptLoadException("Could not load database script from resource [" + scriptPath + "]", ex);
+        } catch (Exception ex) {
+            if (ex instanceof ScriptException) {
+                throw (ScriptException) ex;
+            }
+
+            throw new UncategorizedScriptException(
+                "Failed to execute database script from resource [" + scriptPath + "]",
+                ex
+            );
+        }
+    }
+
+    private static Reader openScript(URL script) throws IOException {
+        return new BufferedReader(new InputStreamReader(script.openStream(), StandardCharsets.UTF_8));
+    }
+
     /**
      * Execute the given database script.
      * <p>Statement separators and comments will be removed before executing
@@ -323,6 +471,37 @@ public abstract class ScriptUtils {
         }
     }
 
+    /**
+     * Parses statements lazily, as they are consumed.
+     */
+    private static final class StatementIterator implements Iterator<ScriptStatement> {
+
+        private final Deque<String> statements = new ArrayDeque<>();
+
+        private final ScriptSplitter splitter;
+
+        private StatementIterator(ScriptScanner scanner) {
+            this.splitter = new ScriptSplitter(scanner, statements);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (statements.isEmpty() && splitter.splitNext()) {
+                // parse until a statement is complete, or the script ends
+            }
+            return !statements.isEmpty();
+        }
+
+        @Override
+        public ScriptStatement next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            // The splitter completes at most one statement at a time
+            return new ScriptStatement(statements.poll(), splitter.getLastStatementLineNumber());
+        }
+    }
+
     public static class ScriptLoadException extends RuntimeException {
 
         public ScriptLoadException(String message) {
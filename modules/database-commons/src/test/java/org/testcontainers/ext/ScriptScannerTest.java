@@ -3,6 +3,7 @@ package org.testcontainers.ext;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
 import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,6 +42,35 @@ class ScriptScannerTest {
         assertThat(scanner.getCurrentMatch()).isEqualTo("\"this \\\" is a literal\"");
     }
 
+    @Test
+    void testReaderProducesSameLexemsAsString() {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            script
+                .append("-- comment ")
+                .append(i)
+                .append("\nINSERT INTO t$1 VALUES (")
+                .append(i)
+                .append(", 'it''s \\' quoted', $tag$ dollar ; quoted $tag$);   /* block\n comment */\r\n");
+        }
+        ScriptScanner stringScanner = scanner(script.toString());
+        ScriptScanner readerScanner = new ScriptScanner(
+            "dummy",
+            new StringReader(script.toString()),
+            ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+            ScriptUtils.DEFAULT_COMMENT_PREFIX,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER
+        );
+
+        ScriptScanner.Lexem lexem;
+        do {
+            lexem = stringScanner.next();
+            assertThat(readerScanner.next()).isEqualTo(lexem);
+            assertThat(readerScanner.getCurrentMatch()).isEqualTo(stringScanner.getCurrentMatch());
+        } while (lexem != ScriptScanner.Lexem.EOF);
+    }
+
     private static ScriptScanner scanner(String script) {
         return new ScriptScanner(
             "dummy",
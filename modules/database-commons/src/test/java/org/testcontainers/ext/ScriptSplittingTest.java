@@ -2,6 +2,7 @@ package org.testcontainers.ext;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -469,6 +470,41 @@ class ScriptSplittingTest {
         return statements;
     }
 
+    @Test
+    void testStatementLineNumbers() {
+        StringBuilder script = new StringBuilder();
+        List<Integer> expected = new ArrayList<>();
+        int line = 1;
+        for (int i = 0; i < 5000; i++) {
+            // Enough lines for the scanner to discard the consumed part of its buffer several times
+            script.append("-- comment\n\nINSERT INTO t\nVALUES ('multi\nline');\n");
+            expected.add(line + 2);
+            line += 5;
+        }
+
+        List<String> statements = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        ScriptSplitter splitter = new ScriptSplitter(
+            new ScriptScanner(
+                "ignored",
+                new StringReader(script.toString()),
+                ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+                ScriptUtils.DEFAULT_COMMENT_PREFIX,
+                ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+                ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER
+            ),
+            statements
+        );
+        while (splitter.splitNext()) {
+            if (statements.size() > lineNumbers.size()) {
+                lineNumbers.add(splitter.getLastStatementLineNumber());
+            }
+        }
+
+        assertThat(statements).hasSize(5000);
+        assertThat(lineNumbers).isEqualTo(expected);
+    }
+
     @Test
     void testIgnoreDelimitersInLiteralsAndComments() {
         assertThat(ScriptUtils.containsSqlScriptDelimiters("'@' /*@*/ \"@\" $tag$@$tag$ --@", "@")).isFalse();
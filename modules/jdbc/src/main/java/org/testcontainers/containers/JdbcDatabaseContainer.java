@@ -13,6 +13,9 @@ import org.testcontainers.jdbc.JdbcDatabaseDelegate;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.MountableFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
@@ -27,6 +30,7 @@ import java.util.Properties;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.zip.Checksum;
 
 /**
  * Base class for containers that expose a JDBC connection
@@ -186,7 +190,7 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
 
         Exception lastConnectionException = null;
         while ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(startupTimeoutSeconds)) {
-            if (!isRunning()) {
+            if (!ContainerEvents.getInstance().isRunning(this)) {
                 Thread.sleep(100L);
             } else {
                 try (Connection connection = createConnection(""); Statement statement = connection.createStatement()) {
@@ -218,7 +222,35 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
     @Override
     protected void containerIsStarted(InspectContainerResponse containerInfo) {
         logger().info("Container is started (JDBC URL: {})", this.getJdbcUrl());
-        runInitScriptIfRequired();
+        if (!isStartedFromCheckpoint()) {
+            runInitScriptIfRequired();
+        }
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    protected void updateCheckpointChecksum(Checksum checksum) {
+        for (String path : initScriptPaths) {
+            if (path == null) {
+                continue;
+            }
+            byte[] pathBytes = path.getBytes();
+            checksum.update(pathBytes, 0, pathBytes.length);
+
+            URL resource = Thread.currentThread().getContextClassLoader().getResource(path);
+            if (resource == null) {
+                resource = ScriptUtils.class.getClassLoader().getResource(path);
+            }
+            if (resource != null) {
+                try (InputStream inputStream = resource.openStream()) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = inputStream.read(buffer)) != -1) {
+                        checksum.update(buffer, 0, read);
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -274,7 +306,10 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
         try {
             long start = System.nanoTime();
             // give up if we hit the time limit or the container stops running for some reason
-            while ((System.nanoTime() - start < TimeUnit.SECONDS.toNanos(connectTimeoutSeconds)) && isRunning()) {
+            while (
+                (System.nanoTime() - start < TimeUnit.SECONDS.toNanos(connectTimeoutSeconds)) &&
+                ContainerEvents.getInstance().isRunning(this)
+            ) {
                 try {
                     logger()
                         .debug(
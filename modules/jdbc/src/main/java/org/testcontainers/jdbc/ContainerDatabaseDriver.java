@@ -1,6 +1,5 @@
 package org.testcontainers.jdbc;
 
-import org.apache.commons.io.IOUtils;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.JdbcDatabaseContainer;
 import org.testcontainers.containers.JdbcDatabaseContainerProvider;
@@ -11,19 +10,21 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Logger;
 
 import javax.script.ScriptException;
@@ -48,13 +49,11 @@ public class ContainerDatabaseDriver implements Driver {
 
     private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(ContainerDatabaseDriver.class);
 
-    private Driver delegate;
+    private volatile Driver delegate;
 
-    private static final Map<String, Set<Connection>> containerConnections = new HashMap<>();
+    private static final ConcurrentMap<String, ContainerEntry> jdbcUrlContainerCache = new ConcurrentHashMap<>();
 
-    private static final Map<String, JdbcDatabaseContainer> jdbcUrlContainerCache = new HashMap<>();
-
-    private static final Set<String> initializedContainers = new HashSet<>();
+    private static final Set<String> initializedContainers = ConcurrentHashMap.newKeySet();
 
     private static final String FILE_PATH_PREFIX = "file:";
 
@@ -76,7 +75,7 @@ public class ContainerDatabaseDriver implements Driver {
     }
 
     @Override
-    public synchronized Connection connect(String url, final Properties info) throws SQLException {
+    public Connection connect(String url, final Properties info) throws SQLException {
         /*
           The driver should return "null" if it realizes it is the wrong kind of driver to connect to the given URL.
          */
@@ -86,71 +85,132 @@ public class ContainerDatabaseDriver implements Driver {
 
         ConnectionUrl connectionUrl = ConnectionUrl.newInstance(url);
 
-        synchronized (jdbcUrlContainerCache) {
-            String queryString = connectionUrl.getQueryString().orElse("");
+        while (true) {
             /*
-              If we already have a running container for this exact connection string, we want to connect
-              to that rather than create a new container
+              If we already have a running (or starting) container for this exact connection string, we want to
+              connect to that rather than create a new container. Containers of distinct connection strings are
+              started in parallel.
              */
-            JdbcDatabaseContainer container = jdbcUrlContainerCache.get(connectionUrl.getUrl());
-            if (container == null) {
-                LOGGER.debug("Container not found in cache, creating new instance");
+            ContainerEntry entry = new ContainerEntry();
+            ContainerEntry existingEntry = jdbcUrlContainerCache.putIfAbsent(connectionUrl.getUrl(), entry);
+            if (existingEntry == null) {
+                return startContainer(entry, connectionUrl, info);
+            }
 
-                Map<String, String> parameters = connectionUrl.getContainerParameters();
+            JdbcDatabaseContainer container = existingEntry.await();
+            Connection connection = connectToContainer(existingEntry, container, connectionUrl, info);
+            if (connection != null) {
+                return connection;
+            }
+            // The container was stopped after its last connection was closed, start a new one
+            jdbcUrlContainerCache.remove(connectionUrl.getUrl(), existingEntry);
+        }
+    }
 
-                /*
-                  Find a matching container type using ServiceLoader.
-                 */
-                ServiceLoader<JdbcDatabaseContainerProvider> databaseContainers = ServiceLoader.load(
-                    JdbcDatabaseContainerProvider.class
-                );
-                for (JdbcDatabaseContainerProvider candidateContainerType : databaseContainers) {
-                    if (candidateContainerType.supports(connectionUrl.getDatabaseType())) {
-                        container = candidateContainerType.newInstance(connectionUrl);
-                        container.withTmpFs(connectionUrl.getTmpfsOptions());
-                        delegate = container.getJdbcDriverInstance();
-                    }
-                }
-                if (container == null) {
-                    throw new UnsupportedOperationException(
-                        "Database name " + connectionUrl.getDatabaseType() + " not supported"
-                    );
+    private Connection startContainer(ContainerEntry entry, ConnectionUrl connectionUrl, Properties info)
+        throws SQLException {
+        JdbcDatabaseContainer container = null;
+        try {
+            LOGGER.debug("Container not found in cache, creating new instance");
+
+            Map<String, String> parameters = connectionUrl.getContainerParameters();
+
+            /*
+              Find a matching container type using ServiceLoader.
+             */
+            ServiceLoader<JdbcDatabaseContainerProvider> databaseContainers = ServiceLoader.load(
+                JdbcDatabaseContainerProvider.class
+            );
+            for (JdbcDatabaseContainerProvider candidateContainerType : databaseContainers) {
+                if (candidateContainerType.supports(connectionUrl.getDatabaseType())) {
+                    container = candidateContainerType.newInstance(connectionUrl);
+                    container.withTmpFs(connectionUrl.getTmpfsOptions());
+                    delegate = container.getJdbcDriverInstance();
                 }
+            }
+            if (container == null) {
+                throw new UnsupportedOperationException(
+                    "Database name " + connectionUrl.getDatabaseType() + " not supported"
+                );
+            }
+
+            /*
+              Pass possible container-specific parameters
+             */
+            container.setParameters(parameters);
+
+            /*
+              Start the container
+             */
+            container.start();
 
-                /*
-                  Cache the container before starting to prevent race conditions when a connection
-                  pool is started up
-                 */
-                jdbcUrlContainerCache.put(url, container);
-
-                /*
-                  Pass possible container-specific parameters
-                 */
-                container.setParameters(parameters);
-
-                /*
-                  Start the container
-                 */
-                container.start();
+            /*
+              Connections to this connection string wait for the container to be started and initialized
+             */
+            Connection connection = connectToContainer(entry, container, connectionUrl, info);
+            entry.container.complete(container);
+            return connection;
+        } catch (SQLException | RuntimeException | Error e) {
+            jdbcUrlContainerCache.remove(connectionUrl.getUrl(), entry);
+            entry.container.completeExceptionally(e);
+            if (container != null && container.getContainerId() != null && !connectionUrl.isReusable()) {
+                container.stop();
             }
+            throw e;
+        }
+    }
 
+    /**
+     * Create a connection to a started container, and initialize the container if this is its first connection.
+     *
+     * @return the connection, or <code>null</code> if the container was stopped concurrently
+     */
+    private Connection connectToContainer(
+        ContainerEntry entry,
+        JdbcDatabaseContainer container,
+        ConnectionUrl connectionUrl,
+        Properties info
+    ) throws SQLException {
+        synchronized (entry) {
+            if (entry.stopped) {
+                return null;
+            }
+            entry.pendingConnections++;
+        }
+
+        Connection connection = null;
+        try {
             /*
               Create a connection using the delegated driver. The container must be ready to accept connections.
              */
-            Connection connection = container.createConnection(queryString, info);
+            String queryString = connectionUrl.getQueryString().orElse("");
+            connection = container.createConnection(queryString, info);
 
             /*
               If this container has not been initialized, AND
               an init script or function has been specified, use it
              */
-            if (!initializedContainers.contains(container.getContainerId())) {
-                DatabaseDelegate databaseDelegate = new JdbcDatabaseDelegate(container, queryString);
-                runInitScriptIfRequired(connectionUrl, databaseDelegate);
-                runInitFunctionIfRequired(connectionUrl, connection);
-                initializedContainers.add(container.getContainerId());
+            String containerId = container.getContainerId();
+            if (initializedContainers.add(containerId)) {
+                try {
+                    DatabaseDelegate databaseDelegate = new JdbcDatabaseDelegate(container, queryString);
+                    runInitScriptIfRequired(connectionUrl, databaseDelegate);
+                    runInitFunctionIfRequired(connectionUrl, connection);
+                } catch (SQLException | RuntimeException e) {
+                    initializedContainers.remove(containerId);
+                    throw e;
+                }
             }
 
-            return wrapConnection(connection, container, connectionUrl);
+            return wrapConnection(connection, container, connectionUrl, entry);
+        } catch (SQLException | RuntimeException e) {
+            synchronized (entry) {
+                entry.pendingConnections--;
+            }
+            if (connection != null) {
+                connection.close();
+            }
+            throw e;
         }
     }
 
@@ -162,34 +222,35 @@ public class ContainerDatabaseDriver implements Driver {
      * @param connection    the new connection to be wrapped
      * @param container     the container which the connection is associated with
      * @param connectionUrl {@link ConnectionUrl} instance representing JDBC Url for this connection
+     * @param entry         the cache entry of the container
      * @return the connection, wrapped
      */
     private Connection wrapConnection(
         final Connection connection,
         final JdbcDatabaseContainer container,
-        final ConnectionUrl connectionUrl
+        final ConnectionUrl connectionUrl,
+        final ContainerEntry entry
     ) {
         final boolean isDaemon = connectionUrl.isInDaemonMode() || connectionUrl.isReusable();
 
-        Set<Connection> connections = containerConnections.computeIfAbsent(
-            container.getContainerId(),
-            k -> new HashSet<>()
-        );
-
-        connections.add(connection);
-
-        final Set<Connection> finalConnections = connections;
+        synchronized (entry) {
+            entry.pendingConnections--;
+            entry.connections.add(connection);
+        }
 
         return new ConnectionWrapper(
             connection,
             () -> {
-                finalConnections.remove(connection);
-                if (!isDaemon && finalConnections.isEmpty()) {
-                    synchronized (jdbcUrlContainerCache) {
-                        container.stop();
-                        jdbcUrlContainerCache.remove(connectionUrl.getUrl());
+                synchronized (entry) {
+                    entry.connections.remove(connection);
+                    if (isDaemon || entry.stopped || !entry.connections.isEmpty() || entry.pendingConnections > 0) {
+                        return;
                     }
+                    entry.stopped = true;
                 }
+                jdbcUrlContainerCache.remove(connectionUrl.getUrl(), entry);
+                initializedContainers.remove(container.getContainerId());
+                container.stop();
             }
         );
     }
@@ -221,9 +282,8 @@ public class ContainerDatabaseDriver implements Driver {
                     );
                 }
 
-                String sql = IOUtils.toString(resource, StandardCharsets.UTF_8);
-                ScriptUtils.executeDatabaseScript(databaseDelegate, initScriptPath, sql);
-            } catch (IOException e) {
+                ScriptUtils.executeDatabaseScript(databaseDelegate, initScriptPath, resource);
+            } catch (IOException | ScriptUtils.ScriptLoadException e) {
                 LOGGER.warn("Could not load classpath init script: {}", initScriptPath);
                 throw new SQLException("Could not load classpath init script: " + initScriptPath, e);
             } catch (ScriptException e) {
@@ -294,12 +354,7 @@ public class ContainerDatabaseDriver implements Driver {
      * tested and cleanup is needed to limit resource usage.
      */
     public static void killContainers() {
-        synchronized (jdbcUrlContainerCache) {
-            jdbcUrlContainerCache.values().forEach(JdbcDatabaseContainer::stop);
-            jdbcUrlContainerCache.clear();
-            containerConnections.clear();
-            initializedContainers.clear();
-        }
+        jdbcUrlContainerCache.keySet().forEach(ContainerDatabaseDriver::killContainer);
     }
 
     /**
@@ -310,15 +365,24 @@ public class ContainerDatabaseDriver implements Driver {
      * @param jdbcUrl the JDBC URL of the container which should be killed
      */
     public static void killContainer(String jdbcUrl) {
-        synchronized (jdbcUrlContainerCache) {
-            JdbcDatabaseContainer container = jdbcUrlContainerCache.get(jdbcUrl);
-            if (container != null) {
-                container.stop();
-                jdbcUrlContainerCache.remove(jdbcUrl);
-                containerConnections.remove(container.getContainerId());
-                initializedContainers.remove(container.getContainerId());
-            }
+        ContainerEntry entry = jdbcUrlContainerCache.remove(jdbcUrl);
+        if (entry == null) {
+            return;
+        }
+
+        JdbcDatabaseContainer container;
+        try {
+            // wait for a container that is being started, as it would otherwise outlive this call
+            container = entry.await();
+        } catch (SQLException e) {
+            return;
+        }
+        synchronized (entry) {
+            entry.stopped = true;
+            entry.connections.clear();
         }
+        initializedContainers.remove(container.getContainerId());
+        container.stop();
     }
 
     /**
@@ -328,8 +392,54 @@ public class ContainerDatabaseDriver implements Driver {
      * @return an instance of database container or <code>null</code> if no container associated with JDBC URL
      */
     static JdbcDatabaseContainer getContainer(String jdbcUrl) {
-        synchronized (jdbcUrlContainerCache) {
-            return jdbcUrlContainerCache.get(jdbcUrl);
+        ContainerEntry entry = jdbcUrlContainerCache.get(jdbcUrl);
+        if (entry == null || !entry.container.isDone() || entry.container.isCompletedExceptionally()) {
+            return null;
+        }
+        return entry.container.join();
+    }
+
+    /**
+     * The container of a JDBC URL, and the connections to it.
+     */
+    private static final class ContainerEntry {
+
+        private final CompletableFuture<JdbcDatabaseContainer> container = new CompletableFuture<>();
+
+        /**
+         * Open connections, guarded by this entry.
+         */
+        private final Set<Connection> connections = new HashSet<>();
+
+        /**
+         * Connections being created, guarded by this entry. The container is not stopped while there are any.
+         */
+        private int pendingConnections = 0;
+
+        /**
+         * Whether the container was stopped, guarded by this entry.
+         */
+        private boolean stopped = false;
+
+        /**
+         * Waits for the container to be started and initialized.
+         */
+        JdbcDatabaseContainer await() throws SQLException {
+            try {
+                return container.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for the database container to start", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    throw new SQLException(cause.getMessage(), cause);
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new SQLException("Failed to start the database container", cause);
+            }
         }
     }
 }
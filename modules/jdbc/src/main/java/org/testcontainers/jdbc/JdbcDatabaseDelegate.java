@@ -3,12 +3,16 @@ package org.testcontainers.jdbc;
 import lombok.extern.slf4j.Slf4j;
 import org.testcontainers.containers.JdbcDatabaseContainer;
 import org.testcontainers.delegate.AbstractDatabaseDelegate;
+import org.testcontainers.delegate.ScriptStatement;
 import org.testcontainers.exception.ConnectionCreationException;
 import org.testcontainers.ext.ScriptUtils;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * JDBC database delegate
@@ -16,6 +20,8 @@ import java.sql.Statement;
 @Slf4j
 public class JdbcDatabaseDelegate extends AbstractDatabaseDelegate<Statement> {
 
+    private static final String[] BATCHABLE_KEYWORDS = { "insert", "update", "delete", "merge" };
+
     private JdbcDatabaseContainer container;
 
     private Connection connection;
@@ -65,6 +71,140 @@ public class JdbcDatabaseDelegate extends AbstractDatabaseDelegate<Statement> {
         }
     }
 
+    /**
+     * Executes consecutive DML statements ({@code INSERT}, {@code UPDATE}, {@code DELETE}, {@code MERGE}) as JDBC
+     * batches of up to {@code batchSize} statements. Other statements are executed one by one, in order.
+     * <p>
+     * Each batch runs in its own transaction. A failed batch is rolled back and its statements are executed again one
+     * by one, so that failures are handled as without batching.
+     */
+    @Override
+    public void execute(
+        Iterator<ScriptStatement> statements,
+        String scriptPath,
+        boolean continueOnError,
+        boolean ignoreFailedDrops,
+        int batchSize
+    ) {
+        if (batchSize <= 1 || !supportsBatchUpdates()) {
+            super.execute(statements, scriptPath, continueOnError, ignoreFailedDrops, batchSize);
+            return;
+        }
+
+        List<ScriptStatement> batch = new ArrayList<>(batchSize);
+        while (statements.hasNext()) {
+            ScriptStatement statement = statements.next();
+            if (isBatchable(statement.getSql())) {
+                batch.add(statement);
+                if (batch.size() >= batchSize) {
+                    executeBatch(batch, scriptPath, continueOnError, ignoreFailedDrops);
+                }
+            } else {
+                executeBatch(batch, scriptPath, continueOnError, ignoreFailedDrops);
+                execute(statement.getSql(), scriptPath, statement.getLineNumber(), continueOnError, ignoreFailedDrops);
+            }
+        }
+        executeBatch(batch, scriptPath, continueOnError, ignoreFailedDrops);
+    }
+
+    /**
+     * @return whether batches can be used, which also requires auto-commit, so that a failed batch can be rolled back
+     * without rolling back earlier statements
+     */
+    private boolean supportsBatchUpdates() {
+        try {
+            Connection connection = getConnection().getConnection();
+            return connection.getMetaData().supportsBatchUpdates() && connection.getAutoCommit();
+        } catch (SQLException e) {
+            log.debug("Could not determine whether batch updates are supported", e);
+            return false;
+        }
+    }
+
+    private static boolean isBatchable(String statement) {
+        for (String keyword : BATCHABLE_KEYWORDS) {
+            if (startsWithWord(statement, 0, keyword)) {
+                // Statements returning results can't be batched
+                return !containsWord(statement, "returning") && !containsWord(statement, "output");
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsWord(String statement, String word) {
+        for (int i = 0; i < statement.length(); i++) {
+            if ((i == 0 || !Character.isLetterOrDigit(statement.charAt(i - 1))) && startsWithWord(statement, i, word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWithWord(String statement, int offset, String word) {
+        int end = offset + word.length();
+        return (
+            statement.regionMatches(true, offset, word, 0, word.length()) &&
+            (end == statement.length() || !Character.isLetterOrDigit(statement.charAt(end)))
+        );
+    }
+
+    private void executeBatch(
+        List<ScriptStatement> batch,
+        String scriptPath,
+        boolean continueOnError,
+        boolean ignoreFailedDrops
+    ) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (!executeBatchInTransaction(batch, scriptPath)) {
+                for (ScriptStatement statement : batch) {
+                    execute(
+                        statement.getSql(),
+                        scriptPath,
+                        statement.getLineNumber(),
+                        continueOnError,
+                        ignoreFailedDrops
+                    );
+                }
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * @return whether the batch succeeded; a failed batch is rolled back
+     */
+    private boolean executeBatchInTransaction(List<ScriptStatement> batch, String scriptPath) {
+        Statement statement = getConnection();
+        try {
+            Connection connection = statement.getConnection();
+            connection.setAutoCommit(false);
+            try {
+                for (ScriptStatement scriptStatement : batch) {
+                    statement.addBatch(scriptStatement.getSql());
+                }
+                statement.executeBatch();
+                connection.commit();
+                log.debug("Executed batch of {} statements", batch.size());
+                return true;
+            } catch (SQLException e) {
+                log.debug("Failed to execute batch of {} statements, executing them one by one", batch.size(), e);
+                connection.rollback();
+                return false;
+            } finally {
+                statement.clearBatch();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            ScriptStatement first = batch.get(0);
+            throw new ScriptUtils.ScriptStatementFailedException(first.getSql(), first.getLineNumber(), scriptPath, e);
+        }
+    }
+
     @Override
     protected void closeConnectionQuietly(Statement statement) {
         try {
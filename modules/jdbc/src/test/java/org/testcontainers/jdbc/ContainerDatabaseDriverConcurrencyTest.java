@@ -0,0 +1,172 @@
+package org.testcontainers.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContainerDatabaseDriverConcurrencyTest {
+
+    private final ContainerDatabaseDriver driver = new ContainerDatabaseDriver();
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(16);
+        FakeJdbcDatabaseContainerProvider.onStart = __ -> {};
+        FakeJdbcDatabaseContainerProvider.STARTS.set(0);
+        FakeJdbcDatabaseContainerProvider.STOPS.set(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+        FakeJdbcDatabaseContainerProvider.onStart = __ -> {};
+        ContainerDatabaseDriver.killContainers();
+    }
+
+    @Test
+    void shouldStartOneContainerForConcurrentConnectionsToSameUrl() throws Exception {
+        String url = newUrl("?TC_DAEMON=true");
+        FakeJdbcDatabaseContainerProvider.onStart = __ -> sleep(200);
+
+        List<CompletableFuture<Connection>> connections = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            connections.add(CompletableFuture.supplyAsync(() -> connect(url), executor));
+        }
+        for (CompletableFuture<Connection> connection : connections) {
+            assertThat(connection.get(10, TimeUnit.SECONDS)).isNotNull();
+        }
+
+        assertThat(FakeJdbcDatabaseContainerProvider.STARTS).hasValue(1);
+    }
+
+    @Test
+    void shouldStartContainersOfDistinctUrlsInParallel() throws Exception {
+        int urls = 4;
+        // Every start waits for all others to be in progress, which times out if starts are serialized
+        CyclicBarrier barrier = new CyclicBarrier(urls);
+        FakeJdbcDatabaseContainerProvider.onStart =
+            __ -> {
+                try {
+                    barrier.await(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Containers were not started in parallel", e);
+                }
+            };
+
+        List<CompletableFuture<Connection>> connections = new ArrayList<>();
+        for (int i = 0; i < urls; i++) {
+            String url = newUrl("?TC_DAEMON=true");
+            connections.add(CompletableFuture.supplyAsync(() -> connect(url), executor));
+        }
+        for (CompletableFuture<Connection> connection : connections) {
+            assertThat(connection.get(10, TimeUnit.SECONDS)).isNotNull();
+        }
+
+        assertThat(FakeJdbcDatabaseContainerProvider.STARTS).hasValue(urls);
+    }
+
+    @Test
+    void shouldNotWaitForOtherContainersToConnectToRunningContainer() throws Exception {
+        String runningUrl = newUrl("?TC_DAEMON=true");
+        String startingUrl = newUrl("?TC_DAEMON=true");
+        connect(runningUrl);
+
+        CountDownLatch startBlocked = new CountDownLatch(1);
+        CountDownLatch releaseStart = new CountDownLatch(1);
+        FakeJdbcDatabaseContainerProvider.onStart =
+            url -> {
+                if (url.equals(startingUrl)) {
+                    startBlocked.countDown();
+                    await(releaseStart);
+                }
+            };
+
+        CompletableFuture<Connection> starting = CompletableFuture.supplyAsync(() -> connect(startingUrl), executor);
+        await(startBlocked);
+        try {
+            assertThat(CompletableFuture.supplyAsync(() -> connect(runningUrl), executor).get(5, TimeUnit.SECONDS))
+                .isNotNull();
+        } finally {
+            releaseStart.countDown();
+        }
+        assertThat(starting.get(10, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void shouldStopEveryContainerWhenConnectionsAreOpenedAndClosedConcurrently() throws Exception {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            urls.add(newUrl(""));
+        }
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int worker = 0; worker < 16; worker++) {
+            workers.add(
+                CompletableFuture.runAsync(
+                    () -> {
+                        for (int i = 0; i < 200; i++) {
+                            String url = urls.get(ThreadLocalRandom.current().nextInt(urls.size()));
+                            try (Connection connection = connect(url)) {
+                                assertThat(connection).isNotNull();
+                            } catch (Exception e) {
+                                throw new IllegalStateException(e);
+                            }
+                        }
+                    },
+                    executor
+                )
+            );
+        }
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+
+        for (String url : urls) {
+            assertThat(ContainerDatabaseDriver.getContainer(url)).as("container of %s was stopped", url).isNull();
+        }
+        assertThat(FakeJdbcDatabaseContainerProvider.STOPS).hasValue(FakeJdbcDatabaseContainerProvider.STARTS.get());
+    }
+
+    private Connection connect(String url) {
+        try {
+            return driver.connect(url, new Properties());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String newUrl(String queryString) {
+        return "jdbc:tc:fakedb://hostname/" + UUID.randomUUID() + queryString;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
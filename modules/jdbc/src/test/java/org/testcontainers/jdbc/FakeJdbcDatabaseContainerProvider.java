@@ -0,0 +1,111 @@
+package org.testcontainers.jdbc;
+
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.JdbcDatabaseContainerProvider;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Provides database containers for {@code jdbc:tc:fakedb:} URLs that never start a Docker container.
+ */
+public class FakeJdbcDatabaseContainerProvider extends JdbcDatabaseContainerProvider {
+
+    static final AtomicInteger STARTS = new AtomicInteger();
+
+    static final AtomicInteger STOPS = new AtomicInteger();
+
+    /**
+     * Called with the JDBC URL of every container that is started.
+     */
+    static volatile Consumer<String> onStart = __ -> {};
+
+    @Override
+    public boolean supports(String databaseType) {
+        return "fakedb".equals(databaseType);
+    }
+
+    @Override
+    public JdbcDatabaseContainer newInstance(String tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public JdbcDatabaseContainer newInstance(ConnectionUrl connectionUrl) {
+        return new FakeContainer(connectionUrl.getUrl());
+    }
+
+    static class FakeContainer extends JdbcDatabaseContainer<FakeContainer> {
+
+        private final String url;
+
+        private volatile String containerId;
+
+        FakeContainer(String url) {
+            super(DockerImageName.parse("fakedb:latest"));
+            this.url = url;
+        }
+
+        @Override
+        public void start() {
+            onStart.accept(url);
+            containerId = UUID.randomUUID().toString();
+            STARTS.incrementAndGet();
+        }
+
+        @Override
+        public void stop() {
+            if (containerId != null) {
+                containerId = null;
+                STOPS.incrementAndGet();
+            }
+        }
+
+        @Override
+        public String getContainerId() {
+            return containerId;
+        }
+
+        @Override
+        public Driver getJdbcDriverInstance() {
+            return mock(Driver.class);
+        }
+
+        @Override
+        public Connection createConnection(String queryString, Properties info) {
+            return mock(Connection.class);
+        }
+
+        @Override
+        public String getDriverClassName() {
+            return "org.testcontainers.jdbc.FakeDriver";
+        }
+
+        @Override
+        public String getJdbcUrl() {
+            return url;
+        }
+
+        @Override
+        public String getUsername() {
+            return "test";
+        }
+
+        @Override
+        public String getPassword() {
+            return "test";
+        }
+
+        @Override
+        protected String getTestQueryString() {
+            return "SELECT 1";
+        }
+    }
+}
@@ -2,19 +2,28 @@ package org.testcontainers.jdbc;
 
 import lombok.NonNull;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.delegate.ScriptStatement;
+import org.testcontainers.ext.ScriptUtils;
 import org.testcontainers.utility.DockerImageName;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JdbcDatabaseDelegateTest {
@@ -28,6 +37,112 @@ class JdbcDatabaseDelegateTest {
         assertThat(stub.openConnectionsList.size()).isZero();
     }
 
+    @Test
+    void shouldBatchConsecutiveDmlStatements() throws SQLException {
+        Statement statement = batchingStatement();
+        new ContainerLessJdbcDelegate(statement.getConnection())
+            .execute(
+                statements(
+                    "CREATE TABLE t (id INT)",
+                    "INSERT INTO t VALUES (1)",
+                    "INSERT INTO t VALUES (2)",
+                    "insert\nINTO t VALUES (3)",
+                    "SELECT * FROM t",
+                    "INSERT INTO t VALUES (5) RETURNING id",
+                    "UPDATE t SET id = 4"
+                ),
+                "script.sql",
+                false,
+                false,
+                2
+            );
+
+        InOrder inOrder = Mockito.inOrder(statement);
+        inOrder.verify(statement).execute("CREATE TABLE t (id INT)");
+        inOrder.verify(statement).addBatch("INSERT INTO t VALUES (1)");
+        inOrder.verify(statement).addBatch("INSERT INTO t VALUES (2)");
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(statement).addBatch("insert\nINTO t VALUES (3)");
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(statement).execute("SELECT * FROM t");
+        inOrder.verify(statement).execute("INSERT INTO t VALUES (5) RETURNING id");
+        inOrder.verify(statement).addBatch("UPDATE t SET id = 4");
+        inOrder.verify(statement).executeBatch();
+        verify(statement, times(3)).executeBatch();
+        verify(statement.getConnection(), times(3)).commit();
+    }
+
+    @Test
+    void shouldRollBackFailedBatchAndExecuteItsStatementsOneByOne() throws SQLException {
+        Statement statement = batchingStatement();
+        when(statement.executeBatch())
+            .thenThrow(new BatchUpdateException(new int[] { 1, Statement.EXECUTE_FAILED, 1 }));
+        when(statement.execute("INSERT INTO t VALUES (2)")).thenThrow(new SQLException("duplicate key"));
+
+        assertThatThrownBy(() -> {
+                new ContainerLessJdbcDelegate(statement.getConnection())
+                    .execute(
+                        statements("INSERT INTO t VALUES (1)", "INSERT INTO t VALUES (2)", "INSERT INTO t VALUES (3)"),
+                        "script.sql",
+                        false,
+                        false,
+                        10
+                    );
+            })
+            .isInstanceOf(ScriptUtils.ScriptStatementFailedException.class)
+            .hasMessageContaining("script.sql:20")
+            .hasMessageContaining("INSERT INTO t VALUES (2)");
+
+        InOrder inOrder = Mockito.inOrder(statement, statement.getConnection());
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(statement.getConnection()).rollback();
+        inOrder.verify(statement).execute("INSERT INTO t VALUES (1)");
+        inOrder.verify(statement).execute("INSERT INTO t VALUES (2)");
+        verify(statement, never()).execute("INSERT INTO t VALUES (3)");
+    }
+
+    @Test
+    void shouldExecuteEveryStatementOfFailedBatchWhenContinuingOnError() throws SQLException {
+        Statement statement = batchingStatement();
+        when(statement.executeBatch())
+            .thenThrow(new BatchUpdateException(new int[] { 1, Statement.EXECUTE_FAILED, 1 }));
+        when(statement.execute("INSERT INTO t VALUES (2)")).thenThrow(new SQLException("duplicate key"));
+
+        new ContainerLessJdbcDelegate(statement.getConnection())
+            .execute(
+                statements("INSERT INTO t VALUES (1)", "INSERT INTO t VALUES (2)", "INSERT INTO t VALUES (3)"),
+                "script.sql",
+                true,
+                false,
+                10
+            );
+
+        verify(statement.getConnection()).rollback();
+        verify(statement).execute("INSERT INTO t VALUES (1)");
+        verify(statement).execute("INSERT INTO t VALUES (3)");
+    }
+
+    private static Statement batchingStatement() throws SQLException {
+        Statement statement = mock(Statement.class);
+        Connection connection = mock(Connection.class, Mockito.RETURNS_DEEP_STUBS);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.getMetaData().supportsBatchUpdates()).thenReturn(true);
+        when(statement.getConnection()).thenReturn(connection);
+        return statement;
+    }
+
+    /**
+     * @return the statements, as if each of them started 10 lines after the previous one
+     */
+    private static Iterator<ScriptStatement> statements(String... statements) {
+        List<ScriptStatement> result = new ArrayList<>();
+        for (int i = 0; i < statements.length; i++) {
+            result.add(new ScriptStatement(statements[i], (i + 1) * 10));
+        }
+        return result.iterator();
+    }
+
     static class JdbcDatabaseContainerStub extends JdbcDatabaseContainer {
 
         List<Connection> openConnectionsList = new ArrayList<>();
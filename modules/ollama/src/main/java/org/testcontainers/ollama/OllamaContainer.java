@@ -1,16 +1,12 @@
 package org.testcontainers.ollama;
 
-import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.model.DeviceRequest;
-import com.github.dockerjava.api.model.Image;
 import com.github.dockerjava.api.model.Info;
 import com.github.dockerjava.api.model.RuntimeInfo;
-import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.utility.DockerImageName;
 
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -54,28 +50,6 @@ public class OllamaContainer extends GenericContainer<OllamaContainer> {
         withExposedPorts(OLLAMA_PORT);
     }
 
-    /**
-     * Commits the current file system changes in the container into a new image.
-     * Should be used for creating an image that contains a loaded model.
-     * @param imageName the name of the new image
-     */
-    public void commitToImage(String imageName) {
-        DockerImageName dockerImageName = DockerImageName.parse(getDockerImageName());
-        if (!dockerImageName.equals(DockerImageName.parse(imageName))) {
-            DockerClient dockerClient = DockerClientFactory.instance().client();
-            List<Image> images = dockerClient.listImagesCmd().withReferenceFilter(imageName).exec();
-            if (images.isEmpty()) {
-                DockerImageName imageModel = DockerImageName.parse(imageName);
-                dockerClient
-                    .commitCmd(getContainerId())
-                    .withRepository(imageModel.getUnversionedPart())
-                    .withLabels(Collections.singletonMap("org.testcontainers.sessionId", ""))
-                    .withTag(imageModel.getVersionPart())
-                    .exec();
-            }
-        }
-    }
-
     public int getPort() {
         return getMappedPort(OLLAMA_PORT);
     }
@@ -1,13 +1,19 @@
 package org.testcontainers.postgresql;
 
+import com.github.dockerjava.api.command.InspectContainerResponse;
 import org.jetbrains.annotations.NotNull;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.DockerImageName;
 
+import java.sql.SQLException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Testcontainers implementation for PostgreSQL.
@@ -42,6 +48,18 @@ public class PostgreSQLContainer extends JdbcDatabaseContainer<PostgreSQLContain
 
     private static final String FSYNC_OFF_OPTION = "fsync=off";
 
+    private static final String CHECKPOINT_PGDATA = "/var/lib/postgresql-checkpoint/data";
+
+    private boolean databaseTemplateAfterInit = false;
+
+    private int readyDatabaseClones = 0;
+
+    private PostgreSQLDatabaseCloner databaseCloner;
+
+    private final LogMessageWaitStrategy defaultWaitStrategy = Wait
+        .forLogMessage(".*database system is ready to accept connections.*\\s", 2)
+        .withStartupTimeout(Duration.of(60, ChronoUnit.SECONDS));
+
     public PostgreSQLContainer(final String dockerImageName) {
         this(DockerImageName.parse(dockerImageName));
     }
@@ -50,11 +68,7 @@ public class PostgreSQLContainer extends JdbcDatabaseContainer<PostgreSQLContain
         super(dockerImageName);
         dockerImageName.assertCompatibleWith(DEFAULT_IMAGE_NAME, PGVECTOR_IMAGE_NAME);
 
-        waitingFor(
-            Wait
-                .forLogMessage(".*database system is ready to accept connections.*\\s", 2)
-                .withStartupTimeout(Duration.of(60, ChronoUnit.SECONDS))
-        );
+        waitingFor(defaultWaitStrategy);
         setCommand("postgres", "-c", FSYNC_OFF_OPTION);
 
         addExposedPort(POSTGRESQL_PORT);
@@ -78,6 +92,20 @@ public class PostgreSQLContainer extends JdbcDatabaseContainer<PostgreSQLContain
         addEnv("POSTGRES_DB", databaseName);
         addEnv("POSTGRES_USER", username);
         addEnv("POSTGRES_PASSWORD", password);
+        if (isCheckpoint() && !getEnvMap().containsKey("PGDATA")) {
+            // The default data directory is a volume, which would not be part of the checkpoint image
+            addEnv("PGDATA", CHECKPOINT_PGDATA);
+        }
+    }
+
+    @Override
+    protected Set<String> getCheckpointStateVolumes(Set<String> imageVolumes) {
+        // Only the volume holding the data directory, if it wasn't moved out of it, holds state
+        String dataDirectory = getEnvMap().getOrDefault("PGDATA", "/var/lib/postgresql/data");
+        return imageVolumes
+            .stream()
+            .filter(volume -> dataDirectory.equals(volume) || dataDirectory.startsWith(volume + "/"))
+            .collect(Collectors.toSet());
     }
 
     @Override
@@ -87,6 +115,10 @@ public class PostgreSQLContainer extends JdbcDatabaseContainer<PostgreSQLContain
 
     @Override
     public String getJdbcUrl() {
+        return getJdbcUrl(databaseName);
+    }
+
+    String getJdbcUrl(String databaseName) {
         String additionalUrlParams = constructUrlParameters("?", "&");
         return (
             "jdbc:postgresql://" +
@@ -137,8 +169,65 @@ public class PostgreSQLContainer extends JdbcDatabaseContainer<PostgreSQLContain
         return self();
     }
 
+    /**
+     * Makes a template of the database right after the init scripts ran, and keeps clones of it created ahead of time
+     * in the background, so that {@link #cloneDatabase()} returns immediately.
+     *
+     * @param readyClones the number of clones to keep created ahead of time
+     */
+    @UnstableAPI
+    public PostgreSQLContainer withDatabaseClones(int readyClones) {
+        if (readyClones < 0) {
+            throw new IllegalArgumentException("The number of database clones must not be negative");
+        }
+        this.databaseTemplateAfterInit = true;
+        this.readyDatabaseClones = readyClones;
+        return self();
+    }
+
+    /**
+     * Creates a copy of the database for a single test, with {@code CREATE DATABASE ... TEMPLATE ...}, which takes
+     * milliseconds instead of the seconds a new container takes.
+     * <p>
+     * The template is the database as it stands after the init scripts if {@link #withDatabaseClones(int)} is used, or
+     * as it stands at the first call otherwise. PostgreSQL only copies a database that nobody is connected to, so the
+     * first call fails while connections to the database are open.
+     *
+     * @return the clone, dropped when closed
+     */
+    @UnstableAPI
+    public PostgreSQLDatabaseClone cloneDatabase() throws SQLException {
+        if (databaseCloner == null) {
+            throw new IllegalStateException("Databases can only be cloned once the container is started");
+        }
+        return databaseCloner.take();
+    }
+
+    @Override
+    protected void containerIsStarted(InspectContainerResponse containerInfo) {
+        super.containerIsStarted(containerInfo);
+
+        databaseCloner = new PostgreSQLDatabaseCloner(this, readyDatabaseClones);
+        if (databaseTemplateAfterInit) {
+            try {
+                databaseCloner.createTemplate();
+            } catch (SQLException e) {
+                throw new ContainerLaunchException("Failed to create the template database", e);
+            }
+            // The container is committed into its checkpoint image right after this, which would capture clones that
+            // are still being created, so they are created on the first clone instead
+            if (!isCheckpoint() || isStartedFromCheckpoint()) {
+                databaseCloner.fill();
+            }
+        }
+    }
+
     @Override
     protected void waitUntilContainerStarted() {
+        if (getWaitStrategy() == defaultWaitStrategy) {
+            // The data directory of a checkpoint is initialized already, so the server isn't restarted after initdb
+            defaultWaitStrategy.withTimes(isStartedFromCheckpoint() ? 1 : 2);
+        }
         getWaitStrategy().waitUntilReady(this);
     }
 }
@@ -0,0 +1,36 @@
+package org.testcontainers.postgresql;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.testcontainers.UnstableAPI;
+
+/**
+ * A database of a {@link PostgreSQLContainer}, cloned from the template made of its database.
+ * Closing it drops the database, so close all connections to it first.
+ *
+ * @see PostgreSQLContainer#cloneDatabase()
+ */
+@UnstableAPI
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class PostgreSQLDatabaseClone implements AutoCloseable {
+
+    private final PostgreSQLContainer container;
+
+    private final PostgreSQLDatabaseCloner cloner;
+
+    @Getter
+    private final String databaseName;
+
+    /**
+     * @return the JDBC URL of the cloned database, with the same parameters as {@link PostgreSQLContainer#getJdbcUrl()}
+     */
+    public String getJdbcUrl() {
+        return container.getJdbcUrl(databaseName);
+    }
+
+    @Override
+    public void close() {
+        cloner.drop(databaseName);
+    }
+}
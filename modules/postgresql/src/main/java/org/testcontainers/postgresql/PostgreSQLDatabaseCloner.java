@@ -0,0 +1,155 @@
+package org.testcontainers.postgresql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.utility.Base58;
+import org.testcontainers.utility.TestcontainersExecutors;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Clones the database of a {@link PostgreSQLContainer} with {@code CREATE DATABASE ... TEMPLATE ...}, keeping a few
+ * clones created ahead of time in the background.
+ */
+@Slf4j
+class PostgreSQLDatabaseCloner {
+
+    private static final ExecutorService EXECUTOR = TestcontainersExecutors.newExecutor(
+        "testcontainers-postgresql-clones"
+    );
+
+    private final PostgreSQLContainer container;
+
+    private final int readyClones;
+
+    private final BlockingQueue<String> ready = new LinkedBlockingQueue<>();
+
+    private final AtomicInteger creating = new AtomicInteger();
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    /**
+     * Tells the clones of this cloner apart from the ones left over by an earlier one, e.g. in a reused container
+     */
+    private final String clonePrefix = "_clone_" + Base58.randomString(6).toLowerCase() + "_";
+
+    private final Object createLock = new Object();
+
+    private String templateName;
+
+    PostgreSQLDatabaseCloner(PostgreSQLContainer container, int readyClones) {
+        this.container = container;
+        this.readyClones = readyClones;
+    }
+
+    /**
+     * Turns the database, as it stands now, into the template of the clones, unless the template already exists, e.g.
+     * because the container is reused
+     */
+    synchronized void createTemplate() throws SQLException {
+        if (templateName != null) {
+            return;
+        }
+        String name = container.getDatabaseName() + "_template";
+        if (databaseExists(name)) {
+            log.debug("Using existing template database {}", name);
+        } else {
+            execute("CREATE DATABASE " + quote(name) + " TEMPLATE " + quote(container.getDatabaseName()));
+            log.debug("Created template database {}", name);
+        }
+        templateName = name;
+    }
+
+    PostgreSQLDatabaseClone take() throws SQLException {
+        createTemplate();
+        String databaseName = ready.poll();
+        if (databaseName == null) {
+            databaseName = createClone();
+        }
+        fill();
+        return new PostgreSQLDatabaseClone(container, this, databaseName);
+    }
+
+    void drop(String databaseName) {
+        try {
+            execute("DROP DATABASE IF EXISTS " + quote(databaseName));
+        } catch (SQLException e) {
+            log.warn(
+                "Failed to drop cloned database {}, make sure all connections to it are closed first",
+                databaseName,
+                e
+            );
+        }
+    }
+
+    /**
+     * Creates clones in the background until the given number of them is ready
+     */
+    synchronized void fill() {
+        while (ready.size() + creating.get() < readyClones) {
+            creating.incrementAndGet();
+            EXECUTOR.execute(() -> {
+                try {
+                    ready.add(createClone());
+                } catch (SQLException e) {
+                    log.debug("Failed to create a database clone ahead of time", e);
+                } finally {
+                    creating.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private String createClone() throws SQLException {
+        String databaseName = container.getDatabaseName() + clonePrefix + counter.incrementAndGet();
+        // Concurrent CREATE DATABASE statements may fail to lock the template, so clones are created one at a time
+        synchronized (createLock) {
+            execute("CREATE DATABASE " + quote(databaseName) + " TEMPLATE " + quote(templateName));
+        }
+        return databaseName;
+    }
+
+    private boolean databaseExists(String databaseName) throws SQLException {
+        try (
+            Connection connection = connect();
+            PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM pg_database WHERE datname = ?")
+        ) {
+            statement.setString(1, databaseName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.put("user", container.getUsername());
+        properties.put("password", container.getPassword());
+        return container.getJdbcDriverInstance().connect(container.getJdbcUrl(maintenanceDatabase()), properties);
+    }
+
+    /**
+     * @return the database to run statements in, since a database can't be copied while anybody is connected to it
+     */
+    private String maintenanceDatabase() {
+        return "postgres".equals(container.getDatabaseName()) ? "template1" : "postgres";
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -1,11 +1,16 @@
 package org.testcontainers.postgresql;
 
 import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
 import org.testcontainers.PostgreSQLTestImages;
 import org.testcontainers.db.AbstractContainerDatabaseTest;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 
@@ -122,6 +127,119 @@ class PostgreSQLContainerTest extends AbstractContainerDatabaseTest {
         }
     }
 
+    @Test
+    void testCloneDatabase() throws SQLException {
+        try (
+            // cloneDatabase {
+            PostgreSQLContainer postgres = new PostgreSQLContainer(PostgreSQLTestImages.POSTGRES_TEST_IMAGE)
+                .withInitScript("somepath/init_postgresql.sql")
+                .withDatabaseClones(2)
+            // }
+        ) {
+            postgres.start();
+
+            try (
+                PostgreSQLDatabaseClone first = postgres.cloneDatabase();
+                PostgreSQLDatabaseClone second = postgres.cloneDatabase()
+            ) {
+                assertThat(first.getDatabaseName()).isNotEqualTo(second.getDatabaseName());
+                assertThat(first.getJdbcUrl()).contains("/" + first.getDatabaseName());
+
+                try (
+                    Connection connection = DriverManager.getConnection(
+                        first.getJdbcUrl(),
+                        postgres.getUsername(),
+                        postgres.getPassword()
+                    );
+                    Statement statement = connection.createStatement()
+                ) {
+                    statement.execute("INSERT INTO bar (foo) VALUES ('only in the first clone')");
+                    assertThat(count(statement))
+                        .as("The clone contains the data of the init script and its own")
+                        .isEqualTo(2);
+                }
+
+                try (
+                    Connection connection = DriverManager.getConnection(
+                        second.getJdbcUrl(),
+                        postgres.getUsername(),
+                        postgres.getPassword()
+                    );
+                    Statement statement = connection.createStatement()
+                ) {
+                    assertThat(count(statement)).as("The clones are isolated from each other").isEqualTo(1);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCloneDatabaseOfReusedContainer() throws SQLException {
+        try (
+            PostgreSQLContainer postgres = new PostgreSQLContainer(PostgreSQLTestImages.POSTGRES_TEST_IMAGE)
+                .withInitScript("somepath/init_postgresql.sql")
+                .withDatabaseClones(1)
+        ) {
+            postgres.start();
+
+            // A reused container gets a new cloner, while the template and the clones of the previous one still exist
+            PostgreSQLDatabaseCloner previousCloner = new PostgreSQLDatabaseCloner(postgres, 0);
+            try (
+                PostgreSQLDatabaseClone previous = previousCloner.take();
+                PostgreSQLDatabaseClone current = postgres.cloneDatabase()
+            ) {
+                assertThat(current.getDatabaseName()).isNotEqualTo(previous.getDatabaseName());
+            }
+        }
+    }
+
+    @Test
+    void testCheckpoint() throws SQLException {
+        String marker = UUID.randomUUID().toString();
+        String checkpointImage = null;
+        try {
+            for (int i = 0; i < 2; i++) {
+                try (
+                    PostgreSQLContainer postgres = new PostgreSQLContainer(PostgreSQLTestImages.POSTGRES_TEST_IMAGE)
+                        .withEnv("MARKER", marker)
+                        .withInitScript("somepath/init_postgresql.sql")
+                        .withDatabaseClones(1)
+                        .withCheckpoint(true)
+                ) {
+                    postgres.start();
+                    checkpointImage = postgres.getContainerInfo().getConfig().getImage();
+
+                    ResultSet resultSet = performQuery(postgres, "SELECT COUNT(*) FROM bar");
+                    assertThat(resultSet.getInt(1)).as("The init script ran exactly once").isEqualTo(1);
+
+                    try (
+                        PostgreSQLDatabaseClone clone = postgres.cloneDatabase();
+                        Connection connection = DriverManager.getConnection(
+                            clone.getJdbcUrl(),
+                            postgres.getUsername(),
+                            postgres.getPassword()
+                        );
+                        Statement statement = connection.createStatement()
+                    ) {
+                        assertThat(count(statement)).as("The clone contains the data of the init script").isEqualTo(1);
+                    }
+                }
+            }
+            assertThat(checkpointImage).startsWith("testcontainers/checkpoint:");
+        } finally {
+            if (checkpointImage != null && checkpointImage.startsWith("testcontainers/checkpoint:")) {
+                DockerClientFactory.instance().client().removeImageCmd(checkpointImage).withForce(true).exec();
+            }
+        }
+    }
+
+    private static int count(Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM bar")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
     private void assertHasCorrectExposedAndLivenessCheckPorts(PostgreSQLContainer postgres) {
         assertThat(postgres.getExposedPorts()).containsExactly(PostgreSQLContainer.POSTGRESQL_PORT);
         assertThat(postgres.getLivenessCheckPortNumbers())
@@ -8,24 +8,16 @@ import io.r2dbc.spi.ConnectionFactoryMetadata;
 import io.r2dbc.spi.ConnectionFactoryOptions;
 import org.reactivestreams.Publisher;
 import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.utility.TestcontainersExecutors;
 
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.StreamSupport;
 
 class TestcontainersR2DBCConnectionFactory implements ConnectionFactory, Closeable {
 
-    private static final AtomicLong THREAD_COUNT = new AtomicLong();
-
-    private static final Executor EXECUTOR = Executors.newCachedThreadPool(r -> {
-        Thread thread = new Thread(r);
-        thread.setName("testcontainers-r2dbc-" + THREAD_COUNT.getAndIncrement());
-        thread.setDaemon(true);
-        return thread;
-    });
+    private static final Executor EXECUTOR = TestcontainersExecutors.newExecutor("testcontainers-r2dbc");
 
     private final ConnectionFactoryOptions options;
 